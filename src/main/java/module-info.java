@@ -27,6 +27,8 @@
 module org.tquadrat.foundation.base
 {
     requires java.base;
+    requires jdk.jfr;
+    requires jdk.management;
     requires transitive org.apiguardian.api;
 
     //---* Common Use *--------------------------------------------------------
@@ -0,0 +1,202 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.internal.AdaptiveSemaphoreImpl;
+
+/**
+ *  <p>{@summary An
+ *  {@link AutoSemaphore}
+ *  that adjusts its number of permits – the <i>limit</i> – based on the
+ *  observed latency.} The latency is the time between the acquisition of a
+ *  {@link AutoSemaphore.Token Token}
+ *  and the call to its
+ *  {@link AutoSemaphore.Token#close() close()}
+ *  method.</p>
+ *  <p>The limit is adjusted by the AIMD algorithm (<i>additive increase,
+ *  multiplicative decrease</i>):</p>
+ *  <ul>
+ *      <li>when a token is closed after a latency below the given threshold,
+ *      and at least half of the current limit was in use when it was
+ *      acquired, the limit will be increased by one;</li>
+ *      <li>when a token is closed after a latency above the threshold, the
+ *      limit will be multiplied with the
+ *      {@linkplain #DEFAULT_BACKOFF_RATIO backoff ratio}.
+ *      Tokens that were acquired before the last decrease will not decrease
+ *      the limit again, so that a single slow period will not let the limit
+ *      collapse.</li>
+ *  </ul>
+ *  <p>The limit will never leave the range that was given on creation. When
+ *  the limit is decreased, the tokens that are in use already remain valid;
+ *  new tokens will be granted only after enough of them were closed.</p>
+ *  <p>A call to
+ *  {@link #tryAcquireToken(int)}
+ *  or
+ *  {@link #tryAcquireToken(int,Duration)}
+ *  that does not get a token is counted as a rejection.</p>
+ *  <p>Do not acquire or release permits through the instance that is
+ *  returned by
+ *  {@link #getSemaphore()},
+ *  as this will not be recorded in the statistics.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface AdaptiveSemaphore extends AutoSemaphore
+    permits AdaptiveSemaphoreImpl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The statistics for an
+     *  {@link AdaptiveSemaphore}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @param  limit   The current limit.
+     *  @param  inFlight    The number of permits that are currently held by
+     *      open tokens.
+     *  @param  acquiredCount   The number of tokens that were acquired.
+     *  @param  rejectedCount   The number of calls to
+     *      {@link AdaptiveSemaphore#tryAcquireToken(int)}
+     *      or
+     *      {@link AdaptiveSemaphore#tryAcquireToken(int,Duration)}
+     *      that could not get a token.
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Statistics( int limit, int inFlight, long acquiredCount, long rejectedCount )
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the ratio of rejected requests to all requests for a
+         *  token.
+         *
+         *  @return The rejection rate, a value between 0.0 and 1.0; it is 0.0
+         *      if there were no requests yet.
+         */
+        public final double rejectionRate()
+        {
+            final var requestCount = acquiredCount + rejectedCount;
+            final var retValue = requestCount == 0 ? 0.0 : (double) rejectedCount / requestCount;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  rejectionRate()
+    }
+    //  record Statistics
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The factor that is applied to the limit when the latency exceeds the
+     *  threshold: {@value}.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the number of permits that are currently held by open
+     *  tokens.
+     *
+     *  @return The number of permits in use.
+     */
+    public int getInFlight();
+
+    /**
+     *  Returns the current limit.
+     *
+     *  @return The limit.
+     */
+    public int getLimit();
+
+    /**
+     *  Returns the current statistics.
+     *
+     *  @return The statistics.
+     */
+    public Statistics getStatistics();
+
+    /**
+     *  Creates a new {@code AdaptiveSemaphore} instance.
+     *
+     *  @param  initialLimit    The initial limit.
+     *  @param  minLimit    The lower bound for the limit; it must be at least
+     *      1.
+     *  @param  maxLimit    The upper bound for the limit.
+     *  @param  latencyThreshold    The latency above which the limit will be
+     *      decreased.
+     *  @return The new {@code AdaptiveSemaphore} instance.
+     *  @throws ValidationException The bounds are invalid, or the initial
+     *      limit is not between them, or the threshold is not positive.
+     */
+    public static AdaptiveSemaphore of( final int initialLimit, final int minLimit, final int maxLimit, final Duration latencyThreshold ) throws ValidationException
+    {
+        return new AdaptiveSemaphoreImpl( initialLimit, minLimit, maxLimit, latencyThreshold, DEFAULT_BACKOFF_RATIO );
+    }   //  of()
+
+    /**
+     *  Creates a new {@code AdaptiveSemaphore} instance with the given
+     *  backoff ratio.
+     *
+     *  @param  initialLimit    The initial limit.
+     *  @param  minLimit    The lower bound for the limit; it must be at least
+     *      1.
+     *  @param  maxLimit    The upper bound for the limit.
+     *  @param  latencyThreshold    The latency above which the limit will be
+     *      decreased.
+     *  @param  backoffRatio    The factor that is applied to the limit when
+     *      the latency exceeds the threshold; it must be greater than 0.0 and
+     *      less than 1.0.
+     *  @return The new {@code AdaptiveSemaphore} instance.
+     *  @throws ValidationException The bounds are invalid, or the initial
+     *      limit is not between them, or the threshold is not positive, or
+     *      the backoff ratio is out of range.
+     */
+    public static AdaptiveSemaphore of( final int initialLimit, final int minLimit, final int maxLimit, final Duration latencyThreshold, final double backoffRatio ) throws ValidationException
+    {
+        return new AdaptiveSemaphoreImpl( initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio );
+    }   //  of()
+}
+//  interface AdaptiveSemaphore
+
+/*
+ *  End of File
+ */
@@ -21,6 +21,7 @@ package org.tquadrat.foundation.lang;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.io.Serial;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -28,6 +29,7 @@ import java.util.concurrent.locks.Lock;
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.lang.internal.AutoLockImpl;
+import org.tquadrat.foundation.lang.internal.InstrumentedAutoLockImpl;
 
 /**
  *  <p>{@summary A wrapper for locks that supports the
@@ -78,7 +80,7 @@ import org.tquadrat.foundation.lang.internal.AutoLockImpl;
 @ClassVersion( sourceVersion = "$Id: AutoLock.java 1185 2026-04-06 10:26:47Z tquadrat $" )
 @API( status = STABLE, since = "0.1.0" )
 public sealed interface AutoLock extends AutoCloseable
-    permits org.tquadrat.foundation.lang.internal.AutoLockImpl
+    permits org.tquadrat.foundation.lang.internal.AutoLockImpl, org.tquadrat.foundation.lang.internal.InstrumentedAutoLockImpl
 {
         /*---------------*\
     ====** Inner Classes **====================================================
@@ -119,6 +121,71 @@ public sealed interface AutoLock extends AutoCloseable
         public ExecutionFailedException( final Throwable cause ) { super( cause ); }
     }   //  class ExecutionFailedException
 
+    /**
+     *  The statistics for an instrumented {@code AutoLock}, as returned by
+     *  {@link AutoLock#getLockStatistics()}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AutoLock.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @param  name    The name of the lock.
+     *  @param  acquiredCount   The number of times the lock was acquired;
+     *      reentrant acquisitions are not counted.
+     *  @param  contendedCount  The number of times the lock was held by
+     *      another thread when it was requested.
+     *  @param  waitTime    The distribution of the times the threads had to
+     *      wait for the lock.
+     *  @param  holdTime    The distribution of the times the lock was held.
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AutoLock.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record LockStatistics( String name, long acquiredCount, long contendedCount, Distribution waitTime, Distribution holdTime )
+    {
+            /*---------------*\
+        ====** Inner Classes **================================================
+            \*---------------*/
+        /**
+         *  The distribution of the recorded times. The percentiles are
+         *  taken from a histogram, so they have a precision of about
+         *  12.5&nbsp;percent; the maximum is exact.
+         *
+         *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+         *  @version $Id: AutoLock.java 1260 2026-10-16 17:48:12Z tquadrat $
+         *  @since 0.26.0
+         *
+         *  @param  median  The median (50th percentile).
+         *  @param  p90 The 90th percentile.
+         *  @param  p99 The 99th percentile.
+         *  @param  max The maximum.
+         *
+         *  @UMLGraph.link
+         */
+        @ClassVersion( sourceVersion = "$Id: AutoLock.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+        @API( status = STABLE, since = "0.26.0" )
+        public record Distribution( Duration median, Duration p90, Duration p99, Duration max ) {}
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the ratio of contended acquisitions to all acquisitions.
+         *
+         *  @return The contention ratio, a value between 0.0 and 1.0; it is
+         *      0.0 if the lock was not acquired yet.
+         */
+        public final double contentionRatio()
+        {
+            final var retValue = acquiredCount == 0 ? 0.0 : (double) contendedCount / acquiredCount;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  contentionRatio()
+    }
+    //  record LockStatistics
+
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
@@ -175,6 +242,79 @@ public sealed interface AutoLock extends AutoCloseable
      */
     public <R> Optional<R> execute( final Operation<? extends R> operation ) throws ExecutionFailedException;
 
+    /**
+     *  <p>{@summary Executes the given operation after obtaining the lock,
+     *  and returns its {@code int} result.}</p>
+     *  <p>Unlike
+     *  {@link #execute(Operation)},
+     *  this method does not box the result, and it does not allocate an
+     *  {@link Optional}.</p>
+     *
+     *  @param  operation   The operation.
+     *  @return The result of the operation.
+     *  @throws ExecutionFailedException    The operation failed for some
+     *      reason.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public int executeAsInt( final IntOperation operation ) throws ExecutionFailedException;
+
+    /**
+     *  <p>{@summary Executes the given operation after obtaining the lock,
+     *  and returns its {@code long} result.}</p>
+     *  <p>Unlike
+     *  {@link #execute(Operation)},
+     *  this method does not box the result, and it does not allocate an
+     *  {@link Optional}.</p>
+     *
+     *  @param  operation   The operation.
+     *  @return The result of the operation.
+     *  @throws ExecutionFailedException    The operation failed for some
+     *      reason.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public long executeAsLong( final LongOperation operation ) throws ExecutionFailedException;
+
+    /**
+     *  <p>{@summary Executes the given operation after obtaining the lock,
+     *  and returns its result as is.}</p>
+     *  <p>Unlike
+     *  {@link #execute(Operation)},
+     *  this method does not allocate an
+     *  {@link Optional};
+     *  use it where the method is called very often, and the caller can
+     *  handle a {@null} result. For a {@code boolean} result, use
+     *  {@link #evaluate(Constraint)}.</p>
+     *
+     *  @param  <R> The type of the operation's result.
+     *  @param  operation   The operation.
+     *  @return The result of the operation; can be {@null}.
+     *  @throws ExecutionFailedException    The operation failed for some
+     *      reason.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public <R> R executeDirect( final Operation<? extends R> operation ) throws ExecutionFailedException;
+
+    /**
+     *  Returns the statistics for this lock.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the statistics; it is empty if this lock is not
+     *      instrumented.
+     *
+     *  @see #of(String, Lock, LockMetrics)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Optional<LockStatistics> getLockStatistics() { return Optional.empty(); }
+
     /**
      *  Returns the wrapped lock.
      *
@@ -241,6 +381,68 @@ public sealed interface AutoLock extends AutoCloseable
     @API( status = STABLE, since = "0.0.5" )
     public static AutoLock of( final Lock lock ) { return new AutoLockImpl( lock ); }
 
+    /**
+     *  Creates a new instrumented {@code AutoLock} instance with the given
+     *  name from the given
+     *  {@link Lock}
+     *  instance.
+     *
+     *  @param  name    The name of the lock.
+     *  @param  lock    The wrapped lock.
+     *  @return The new instance.
+     *
+     *  @see #of(String, Lock, LockMetrics)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static AutoLock of( final String name, final Lock lock ) { return new InstrumentedAutoLockImpl( name, lock, LockMetrics.NONE ); }
+
+    /**
+     *  <p>{@summary Creates a new instrumented {@code AutoLock} instance with
+     *  the given name from the given
+     *  {@link Lock}
+     *  instance.} The returned instance records how long the threads had to
+     *  wait for the lock, how long they held it, and how often the lock was
+     *  contended; the results are available from
+     *  {@link #getLockStatistics()},
+     *  and each acquisition and release is reported to the given
+     *  {@link LockMetrics}.
+     *  Contended acquisitions are also recorded as
+     *  <a href="https://docs.oracle.com/en/java/javase/21/jfapi/">JDK Flight Recorder</a>
+     *  events with the name {@code org.tquadrat.foundation.LockContention}.</p>
+     *  <p>The wrapped lock must be an exclusive lock, like
+     *  {@link java.util.concurrent.locks.ReentrantLock},
+     *  or the write lock of a
+     *  {@link java.util.concurrent.locks.ReadWriteLock};
+     *  for a shared lock, the hold times are not reliable. The contention is
+     *  detected by calling
+     *  {@link Lock#tryLock()}
+     *  first, so a fair lock may be acquired out of order when it is just
+     *  released.</p>
+     *  <p>Only
+     *  {@link #lock()},
+     *  {@link #lockInterruptibly()}
+     *  and the methods that execute code under the lock are recorded;
+     *  locking or unlocking the wrapped lock directly bypasses the
+     *  recording. Waiting on a
+     *  {@linkplain #newCondition() condition}
+     *  releases the lock, so the time spent in
+     *  {@link Condition#await()}
+     *  is not counted as hold time: the hold ends when the wait begins, and
+     *  each wake-up is recorded as a new acquisition without
+     *  contention.</p>
+     *
+     *  @param  name    The name of the lock.
+     *  @param  lock    The wrapped lock.
+     *  @param  metrics The receiver for the events.
+     *  @return The new instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static AutoLock of( final String name, final Lock lock, final LockMetrics metrics ) { return new InstrumentedAutoLockImpl( name, lock, metrics ); }
+
     /**
      *  <p>{@summary Performs the given action after obtaining the lock.}</p>
      *  <p>This differs from
@@ -0,0 +1,206 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoLock.ExecutionFailedException;
+import org.tquadrat.foundation.lang.internal.AutoReadWriteLockImpl;
+import org.tquadrat.foundation.lang.internal.StampedAutoReadWriteLockImpl;
+
+/**
+ *  <p>{@summary A wrapper for read/write locks that supports the
+ *  {@code try-with-resources} feature for the read lock and the write lock
+ *  separately.}</p>
+ *  <p>Use it instead of
+ *  {@link AutoLock}
+ *  when the guarded data is read much more often than it is modified: any
+ *  number of readers may hold the read lock at the same time, while the
+ *  write lock is exclusive.</p>
+ *  <div class="source-container"><pre>  private final AutoReadWriteLock m_Lock = AutoReadWriteLock.of();
+ *
+ *  &hellip;
+ *
+ *  try( final var _ = m_Lock.readLock().lock() )
+ *  {
+ *      &hellip;
+ *  }
+ *
+ *  &hellip;
+ *
+ *  try( final var _ = m_Lock.writeLock().lock() )
+ *  {
+ *      &hellip;
+ *  }</pre></div>
+ *  <p>The methods
+ *  {@link #evaluate(Constraint)}
+ *  and
+ *  {@link #execute(Operation)}
+ *  run under the read lock,
+ *  {@link #perform(Action)}
+ *  runs under the write lock.</p>
+ *  <p>The instance returned by
+ *  {@link #ofStamped()}
+ *  is based on a
+ *  {@link StampedLock};
+ *  its
+ *  {@link #evaluate(Constraint)}
+ *  and
+ *  {@link #execute(Operation)}
+ *  try an <i>optimistic read</i> first, that does not block at all, and
+ *  acquire the read lock only if a write happened in the meantime. This
+ *  means that the constraint or operation may be called twice, and that the
+ *  first call may see the guarded data in an inconsistent state; therefore
+ *  it must not have side effects, and it must not loop or fail on
+ *  inconsistent data – an exception thrown by the optimistic call is
+ *  discarded when a write happened meanwhile. Note also that a
+ *  {@code StampedLock} is not reentrant.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AutoReadWriteLock.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @see java.util.concurrent.locks.ReadWriteLock
+ *  @see java.util.concurrent.locks.StampedLock
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AutoReadWriteLock.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface AutoReadWriteLock
+    permits AutoReadWriteLockImpl, StampedAutoReadWriteLockImpl
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Evaluates the given
+     *  {@link Constraint}
+     *  under the read lock, and returns its result.
+     *
+     *  @param  constraint    The constraint; it must not have side effects.
+     *  @return The evaluation result.
+     *  @throws ExecutionFailedException    The evaluation failed for some
+     *      reason.
+     */
+    @SuppressWarnings( "BooleanMethodNameMustStartWithQuestion" )
+    public boolean evaluate( final Constraint constraint ) throws ExecutionFailedException;
+
+    /**
+     *  Executes the given operation under the read lock, and returns its
+     *  result.
+     *
+     *  @param  <R> The type of the operation's result.
+     *  @param  operation   The operation; it must not have side effects.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the result of the operation.
+     *  @throws ExecutionFailedException    The operation failed for some
+     *      reason.
+     */
+    public <R> Optional<R> execute( final Operation<? extends R> operation ) throws ExecutionFailedException;
+
+    /**
+     *  Returns the wrapped lock.
+     *
+     *  @return The wrapped lock; for an instance that was created by
+     *      {@link #ofStamped()},
+     *      this is the view returned by
+     *      {@link StampedLock#asReadWriteLock()}.
+     */
+    public ReadWriteLock getWrappedLockInstance();
+
+    /**
+     *  Creates a new {@code AutoReadWriteLock} instance with an internal
+     *  {@link ReentrantReadWriteLock}.
+     *
+     *  @return The new instance.
+     */
+    public static AutoReadWriteLock of() { return new AutoReadWriteLockImpl( new ReentrantReadWriteLock() ); }
+
+    /**
+     *  Creates a new {@code AutoReadWriteLock} instance from the given
+     *  {@link ReadWriteLock}
+     *  instance.
+     *
+     *  @param  lock    The wrapped lock.
+     *  @return The new instance.
+     */
+    public static AutoReadWriteLock of( final ReadWriteLock lock ) { return new AutoReadWriteLockImpl( lock ); }
+
+    /**
+     *  Creates a new {@code AutoReadWriteLock} instance with an internal
+     *  {@link StampedLock}
+     *  that uses optimistic reads for
+     *  {@link #evaluate(Constraint)}
+     *  and
+     *  {@link #execute(Operation)}.
+     *  As a {@code StampedLock} does not support conditions, the
+     *  {@link AutoLock#newCondition()}
+     *  method of the
+     *  {@linkplain #writeLock() write lock}
+     *  of the returned instance throws an
+     *  {@link UnsupportedOperationException},
+     *  like that of the read lock.
+     *
+     *  @return The new instance.
+     */
+    public static AutoReadWriteLock ofStamped() { return new StampedAutoReadWriteLockImpl( new StampedLock() ); }
+
+    /**
+     *  Performs the given action under the write lock.
+     *
+     *  @param  action  The action.
+     *  @throws ExecutionFailedException    The action failed for some reason.
+     */
+    public void perform( final Action action ) throws ExecutionFailedException;
+
+    /**
+     *  Returns the read lock. The
+     *  {@link AutoLock#newCondition()}
+     *  method of the returned instance throws an
+     *  {@link UnsupportedOperationException}.
+     *
+     *  @return The read lock.
+     */
+    public AutoLock readLock();
+
+    /**
+     *  Returns the write lock. For an instance that was created by
+     *  {@link #ofStamped()},
+     *  the
+     *  {@link AutoLock#newCondition()}
+     *  method of the returned instance throws an
+     *  {@link UnsupportedOperationException}.
+     *
+     *  @return The write lock.
+     */
+    public AutoLock writeLock();
+}
+//  interface AutoReadWriteLock
+
+/*
+ *  End of File
+ */
@@ -20,11 +20,15 @@ package org.tquadrat.foundation.lang;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.internal.AdaptiveSemaphoreImpl;
 import org.tquadrat.foundation.lang.internal.AutoSemaphoreImpl;
+import org.tquadrat.foundation.lang.internal.StripedSemaphoreImpl;
 import org.tquadrat.foundation.lang.internal.TimeoutSemaphoreImpl;
 
 /**
@@ -54,6 +58,18 @@ import org.tquadrat.foundation.lang.internal.TimeoutSemaphoreImpl;
  *  the instance returned by a call to
  *  {@link #getSemaphore()}
  *  on such an instance, as it may behave unexpectedly.</p>
+ *  <p>The instances returned by
+ *  {@link #ofStriped(int)}
+ *  and
+ *  {@link #ofStriped(int,int)}
+ *  distribute their permits over several stripes, so that many threads on
+ *  many cores can acquire and release permits without contending for a
+ *  single memory location; use them as concurrency limiters on hot
+ *  paths.</p>
+ *  <p>An
+ *  {@link AdaptiveSemaphore}
+ *  adjusts its number of permits at runtime, based on the time between the
+ *  acquisition of a token and its release.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: AutoSemaphore.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -64,7 +80,7 @@ import org.tquadrat.foundation.lang.internal.TimeoutSemaphoreImpl;
 @ClassVersion( sourceVersion = "$Id: AutoSemaphore.java 1258 2026-06-04 18:33:06Z tquadrat $" )
 @API( status = STABLE, since = "0.25.2" )
 public sealed interface AutoSemaphore
-    permits AutoSemaphoreImpl, TimeoutSemaphoreImpl
+    permits AdaptiveSemaphore, AutoSemaphoreImpl, StripedSemaphoreImpl, TimeoutSemaphoreImpl
 {
         /*---------------*\
     ====** Inner Classes **====================================================
@@ -83,7 +99,7 @@ public sealed interface AutoSemaphore
     @ClassVersion( sourceVersion = "$Id: AutoSemaphore.java 1258 2026-06-04 18:33:06Z tquadrat $" )
     @API( status = STABLE, since = "0.25.2" )
     public sealed interface Token extends AutoCloseable
-        permits AutoSemaphoreImpl.TokenImpl, TimeoutSemaphoreImpl.TokenImpl
+        permits AdaptiveSemaphoreImpl.TokenImpl, AutoSemaphoreImpl.TokenImpl, StripedSemaphoreImpl.TokenImpl, TimeoutSemaphoreImpl.TokenImpl
     {
             /*---------*\
         ====** Methods **======================================================
@@ -103,6 +119,49 @@ public sealed interface AutoSemaphore
     }
     //  interface Token
 
+    /**
+     *  The statistics for the tokens of an
+     *  {@link AutoSemaphore}
+     *  whose tokens expire after a timeout.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AutoSemaphore.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @param  closedCount The number of tokens that were closed before their
+     *      timeout expired.
+     *  @param  expiredCount    The number of tokens whose timeout expired
+     *      before they were closed.
+     *  @param  expiredPermits  The number of permits that were released
+     *      because the timeout of their token expired.
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AutoSemaphore.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record TokenStatistics( long closedCount, long expiredCount, long expiredPermits )
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the ratio of expired tokens to all tokens that were
+         *  released.
+         *
+         *  @return The leak rate, a value between 0.0 and 1.0; it is 0.0 if
+         *      no token was released yet.
+         */
+        public final double leakRate()
+        {
+            final var releasedCount = closedCount + expiredCount;
+            final var retValue = releasedCount == 0 ? 0.0 : (double) expiredCount / releasedCount;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  leakRate()
+    }
+    //  record TokenStatistics
+
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
@@ -188,6 +247,43 @@ public sealed interface AutoSemaphore
      */
     public Token acquireToken( final int permits ) throws InterruptedException, IllegalArgumentException;
 
+    /**
+     *  <p>{@summary Requests a permit from this semaphore without blocking
+     *  the current thread.}</p>
+     *  <p>This is the same as calling
+     *  {@link #acquireTokenAsync(int) acquireTokenAsync(1)}.</p>
+     *
+     *  @return The future that will receive the token.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default CompletableFuture<Token> acquireTokenAsync() { return acquireTokenAsync( 1 ); }
+
+    /**
+     *  <p>{@summary Requests the given number of permits from this semaphore
+     *  without blocking the current thread.}</p>
+     *  <p>If the permits are available, and no other asynchronous request is
+     *  waiting, the returned future is already completed. Otherwise the
+     *  request is put into a queue, and the future will be completed when
+     *  enough permits were released; these requests are granted in the order
+     *  they were made. Only requests made through this method are queued,
+     *  calls to the blocking methods may overtake them.</p>
+     *  <p>The future is completed by the thread that released the permits,
+     *  so dependent actions that are not executed asynchronously will run on
+     *  that thread. A future that was cancelled will not get the
+     *  permits.</p>
+     *
+     *  @param  permits The number of permits to acquire.
+     *  @return The future that will receive the token.
+     *  @throws IllegalArgumentException    The given number of permits to
+     *      acquire is negative.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public CompletableFuture<Token> acquireTokenAsync( final int permits ) throws IllegalArgumentException;
+
     /**
      *  <p>{@summary Acquires a permit from this semaphore, blocking until one
      *  is available, and returns a token object that is used for
@@ -247,6 +343,20 @@ public sealed interface AutoSemaphore
      */
     public Semaphore getSemaphore();
 
+    /**
+     *  Returns the statistics for the tokens, if this semaphore releases the
+     *  permits for its tokens after a timeout.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the statistics; it is empty for semaphores without a
+     *      timeout.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Optional<TokenStatistics> getTokenStatistics() { return Optional.empty(); }
+
     /**
      *  Creates an {@code AutoSemaphore} instance with the given number of
      *  permits and non-fair fairness setting.
@@ -298,6 +408,128 @@ public sealed interface AutoSemaphore
      *  @return The new {@code AutoSemaphore} instance.
      */
     public static AutoSemaphore of( final int permits, final boolean fair, final Duration duration ) { return new TimeoutSemaphoreImpl( permits, fair, duration ); }
+
+    /**
+     *  <p>{@summary Creates an {@code AutoSemaphore} instance with the given
+     *  number of permits, the given fairness setting and a timeout for the
+     *  permits, that reports closed and expired tokens to the given
+     *  metrics.}</p>
+     *  <p>A token whose timeout expires before it was closed has leaked. To
+     *  find the code that leaks tokens, the site where a token was acquired
+     *  can be recorded; as this is expensive, only every
+     *  {@code sampleRate}th token is sampled.</p>
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     *  @param  fair    {@true} if this semaphore will guarantee first-in
+     *      first-out granting of permits under contention, else {@false}.
+     *  @param  duration    The timeout for a permit; after the given period of
+     *      time, an acquired permit will be released automatically.
+     *  @param  metrics The receiver for the events.
+     *  @param  sampleRate  The acquisition site will be recorded for every
+     *      {@code sampleRate}th token; 1 means for all tokens, 0 means for
+     *      none.
+     *  @return The new {@code AutoSemaphore} instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static AutoSemaphore of( final int permits, final boolean fair, final Duration duration, final SemaphoreMetrics metrics, final int sampleRate )
+    {
+        return new TimeoutSemaphoreImpl( permits, fair, duration, metrics, sampleRate );
+    }   //  of()
+
+    /**
+     *  <p>{@summary Creates an {@code AutoSemaphore} instance with the given
+     *  number of permits that are distributed over one stripe per available
+     *  processor.}</p>
+     *  <p>A thread takes its permits from its own stripe first, and from the
+     *  neighbouring stripes only if its own stripe is exhausted; the total
+     *  number of permits remains exact. The semaphore is not fair.</p>
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     *  @return The new {@code AutoSemaphore} instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static AutoSemaphore ofStriped( final int permits ) { return new StripedSemaphoreImpl( permits ); }
+
+    /**
+     *  Creates an {@code AutoSemaphore} instance with the given number of
+     *  permits that are distributed over the given number of stripes.
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     *  @param  stripes The number of stripes; it will be rounded up to the
+     *      next power of two, but it will not exceed
+     *      {@value StripedSemaphoreImpl#MAX_STRIPES}.
+     *  @return The new {@code AutoSemaphore} instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static AutoSemaphore ofStriped( final int permits, final int stripes ) { return new StripedSemaphoreImpl( permits, stripes ); }
+
+    /**
+     *  <p>{@summary Acquires a permit from this semaphore, only if one is
+     *  available at the time of invocation.}</p>
+     *  <p>This is the same as calling
+     *  {@link #tryAcquireToken(int) tryAcquireToken(1)}.</p>
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the token; it is empty if no permit was available.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Optional<Token> tryAcquireToken() { return tryAcquireToken( 1 ); }
+
+    /**
+     *  <p>{@summary Acquires the given number of permits from this
+     *  semaphore, only if all are available at the time of invocation.}</p>
+     *  <p>Like
+     *  {@link Semaphore#tryAcquire(int)},
+     *  this method will not honor the fairness setting of the semaphore.</p>
+     *
+     *  @param  permits The number of permits to acquire.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the token; it is empty if the permits were not
+     *      available.
+     *  @throws IllegalArgumentException    The given number of permits to
+     *      acquire is negative.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public Optional<Token> tryAcquireToken( final int permits ) throws IllegalArgumentException;
+
+    /**
+     *  <p>{@summary Acquires the given number of permits from this
+     *  semaphore, if all become available within the given waiting time and
+     *  the current thread has not been
+     *  {@linkplain Thread#interrupt interrupted}.}</p>
+     *
+     *  @param  permits The number of permits to acquire.
+     *  @param  timeout The maximum time to wait for the permits.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the token; it is empty if the waiting time elapsed
+     *      before all permits were available.
+     *  @throws InterruptedException    The current thread was interrupted.
+     *  @throws IllegalArgumentException    The given number of permits to
+     *      acquire is negative.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public Optional<Token> tryAcquireToken( final int permits, final Duration timeout ) throws InterruptedException, IllegalArgumentException;
 }
 //  class AutoSemaphore
 
@@ -184,6 +184,17 @@ public final class CommonConstants
     @API( status = STABLE, since = "0.0.5" )
     public static final String PROPERTY_APPLICATIONID = "org.tquadrat.logging.applicationId";
 
+    /**
+     *  The system property that is used to enable the check of the lock
+     *  order for
+     *  {@link AutoLock}
+     *  instances: {@value}.
+     *
+     *  @see LockOrderMonitor
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String PROPERTY_CHECK_LOCK_ORDER = "org.tquadrat.foundation.checkLockOrder";
+
     /**
      *  The vested system property for the current class path: {@value}.
      */
@@ -20,7 +20,6 @@ package org.tquadrat.foundation.lang;
 import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static java.lang.System.out;
-import static java.lang.Thread.currentThread;
 import static java.nio.charset.Charset.defaultCharset;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.CommonConstants.PROPERTY_IS_DEBUG;
@@ -31,6 +30,7 @@ import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.lang.StackWalker.StackFrame;
 import java.util.Optional;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -80,6 +80,13 @@ public final class DebugOutput
      */
     private static final boolean m_IsTest;
 
+    /**
+     *  The stack walker that is used to find the caller of a method.
+     *
+     *  @since 0.26.0
+     */
+    private static final StackWalker m_StackWalker = StackWalker.getInstance();
+
     static
     {
         m_IsDebug = getBoolean( PROPERTY_IS_DEBUG );
@@ -104,6 +111,9 @@ public final class DebugOutput
      *  <p>The return value is
      *  {@linkplain Optional#empty() empty}
      *  when the provided method is not on the stack trace.</p>
+     *  <p>Only the frames up to the caller are walked; use
+     *  {@link #findCallerFrame(String, Class)}
+     *  if the line number of the call is not needed.</p>
      *
      *  @param  methodName  The name of the method that we need the caller for.
      *  @param  owningClass The class for the called method.
@@ -113,33 +123,53 @@ public final class DebugOutput
      */
     @API( status = STABLE, since = "0.1.0" )
     public static final Optional<StackTraceElement> findCaller( final String methodName, final Class<?> owningClass )
+    {
+        final var retValue = findCallerFrame( methodName, owningClass ).map( StackFrame::toStackTraceElement );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findCaller()
+
+    /**
+     *  <p>{@summary This method will find the caller for the method that is
+     *  identified by its name and class, and returns the appropriate stack
+     *  frame.}</p>
+     *  <p>The stack is walked lazily, from the top, until the first frame
+     *  for the given method is found; the frame below that one is that of
+     *  the caller. No
+     *  {@link StackTraceElement}
+     *  is created, and the line number of the call is resolved only if
+     *  requested from the returned frame, so this method is much cheaper
+     *  than
+     *  {@link #findCaller(String, Class)}
+     *  when only the class and the method name of the caller are needed.</p>
+     *  <p>The return value is
+     *  {@linkplain Optional#empty() empty}
+     *  when the provided method is not on the stack.</p>
+     *
+     *  @param  methodName  The name of the method that we need the caller for.
+     *  @param  owningClass The class for the called method.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the stack frame for the caller.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Optional<StackFrame> findCallerFrame( final String methodName, final Class<?> owningClass )
     {
         requireNotEmptyArgument( methodName, "methodName" );
         final var className = requireNonNullArgument( owningClass, "owningClass" ).getName();
 
-        //---* Retrieve the stack *--------------------------------------------
-        final var stackTraceElements = currentThread().getStackTrace();
-        final var len = stackTraceElements.length;
-
         //---* Search the stack *----------------------------------------------
-        Optional<StackTraceElement> retValue = Optional.empty();
-        FindLoop: for( var i = 0; (i < len) && retValue.isEmpty(); ++i )
-        {
-            /*
-             * This loop searches the stack until it will find the entry for
-             * that matches that for the provided arguments on it. It assumes
-             * then that the next entry on the stack will belong to the caller
-             * for this method.
-             */
-            if( className.equals( stackTraceElements [i].getClassName() ) && methodName.equals( stackTraceElements [i].getMethodName() ) )
-            {
-                if( i + 1 < len ) retValue = Optional.of( stackTraceElements [i + 1] );
-            }
-        }   //  FindLoop:
+        final var retValue = m_StackWalker.walk( frames -> frames
+            .dropWhile( frame -> !(className.equals( frame.getClassName() ) && methodName.equals( frame.getMethodName() )) )
+            .skip( 1 )
+            .findFirst() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  findCaller()
+    }   //  findCallerFrame()
 
     /**
      *  If the
@@ -0,0 +1,321 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.internal.ExecutorBuilderImpl;
+
+/**
+ *  <p>{@summary A builder for instances of
+ *  {@link ExecutorService}.}</p>
+ *  <p>All values are optional, but {@null} is no valid argument value for
+ *  any method in this API. Depending on the
+ *  {@linkplain #setMode(Mode) mode},
+ *  only some of the values are used.</p>
+ *  <p>The returned executor should be closed when it is no longer needed;
+ *  {@link ExecutorService#close()}
+ *  initiates an orderly shutdown and waits until all submitted tasks are
+ *  completed, so the executor can be used with
+ *  {@code try-with-resources}:</p>
+ *  <div class="source-container"><pre>try( final var executor = ExecutorBuilder.obtainBuilder()
+ *      .setMode( ExecutorBuilder.Mode.VIRTUAL_THREADS )
+ *      .setMaxConcurrency( 100 )
+ *      .build() )
+ *  {
+ *      &hellip;
+ *  }</pre></div>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @see ThreadFactoryBuilder
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface ExecutorBuilder
+    permits ExecutorBuilderImpl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The kinds of executors that can be built by
+     *  {@link ExecutorBuilder}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public enum Mode
+    {
+        /**
+         *  A
+         *  {@link ThreadPoolExecutor}
+         *  with a bounded queue; it uses the
+         *  {@linkplain #setThreadFactory(ThreadFactory) thread factory},
+         *  the pool sizes, the keep-alive time, the queue capacity and the
+         *  rejection policy.
+         */
+        THREAD_POOL,
+
+        /**
+         *  An executor that starts a new virtual thread for each task; it uses
+         *  the maximum concurrency and the thread factory, if one was set.
+         */
+        VIRTUAL_THREADS,
+
+        /**
+         *  A
+         *  {@link ForkJoinPool}
+         *  in asynchronous mode, that processes the tasks that are never
+         *  joined in FIFO order; its parallelism is the maximum pool size.
+         */
+        FORK_JOIN
+    }
+    //  enum Mode
+
+    /**
+     *  The policies for tasks that cannot be accepted by an executor in
+     *  {@linkplain Mode#THREAD_POOL thread pool mode}
+     *  because all threads are busy and the queue is full, or because the
+     *  executor was shut down.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public enum RejectionPolicy
+    {
+        /**
+         *  The task is rejected with a
+         *  {@link java.util.concurrent.RejectedExecutionException}.
+         *
+         *  @see ThreadPoolExecutor.AbortPolicy
+         */
+        ABORT,
+
+        /**
+         *  The task is executed by the submitting thread; this slows down
+         *  the submission of new tasks.
+         *
+         *  @see ThreadPoolExecutor.CallerRunsPolicy
+         */
+        CALLER_RUNS,
+
+        /**
+         *  The task is discarded silently.
+         *
+         *  @see ThreadPoolExecutor.DiscardPolicy
+         */
+        DISCARD,
+
+        /**
+         *  The oldest waiting task is discarded, and the submission is
+         *  retried.
+         *
+         *  @see ThreadPoolExecutor.DiscardOldestPolicy
+         */
+        DISCARD_OLDEST
+    }
+    //  enum RejectionPolicy
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default keep-alive time for threads above the core pool size: 60
+     *  seconds.
+     */
+    public static final Duration DEFAULT_KEEP_ALIVE_TIME = Duration.ofSeconds( 60 );
+
+    /**
+     *  The default capacity of the queue: {@value}.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the instance of
+     *  {@link ExecutorService}.
+     *
+     *  @return The executor.
+     *  @throws ValidationException The core pool size is greater than the
+     *      maximum pool size, and both were set explicitly.
+     */
+    public ExecutorService build() throws ValidationException;
+
+    /**
+     *  Returns an instance of the builder.
+     *
+     *  @return An executor builder.
+     */
+    public static ExecutorBuilder obtainBuilder() { return new ExecutorBuilderImpl(); }
+
+    /**
+     *  <p>{@summary Sets the flag whether the core threads of a thread pool
+     *  will be terminated, too, after they were idle for the
+     *  {@linkplain #setKeepAliveTime(Duration) keep-alive time}.}</p>
+     *  <p>If not set, the core threads will not time out.</p>
+     *
+     *  @param  flag    {@true} if the core threads may time out,
+     *      {@false} otherwise.
+     *  @return The builder.
+     *
+     *  @see ThreadPoolExecutor#allowCoreThreadTimeOut(boolean)
+     */
+    public ExecutorBuilder setAllowCoreThreadTimeOut( final boolean flag );
+
+    /**
+     *  <p>{@summary Sets the number of threads that a thread pool keeps, even
+     *  when they are idle.}</p>
+     *  <p>If not set, it is the number of available processors, but not
+     *  more than the
+     *  {@linkplain #setMaximumPoolSize(int) maximum pool size},
+     *  if that was set.</p>
+     *
+     *  @param  corePoolSize    The core pool size; it must not be negative.
+     *  @return The builder.
+     *  @throws ValidationException The pool size is negative.
+     */
+    public ExecutorBuilder setCorePoolSize( final int corePoolSize ) throws ValidationException;
+
+    /**
+     *  <p>{@summary Sets the time after that idle threads above the core pool
+     *  size will be terminated.}</p>
+     *  <p>If not set, it is
+     *  {@link #DEFAULT_KEEP_ALIVE_TIME}.</p>
+     *
+     *  @param  keepAliveTime   The keep-alive time; it must not be negative.
+     *  @return The builder.
+     *  @throws ValidationException The time is negative.
+     */
+    public ExecutorBuilder setKeepAliveTime( final Duration keepAliveTime ) throws ValidationException;
+
+    /**
+     *  <p>{@summary Sets the maximum number of tasks that are executed at the
+     *  same time in the mode
+     *  {@link Mode#VIRTUAL_THREADS}.}
+     *  Each task still gets its own virtual thread at once, but that waits
+     *  on an
+     *  {@link AutoSemaphore}
+     *  before the task is run; so submitting a task never blocks.</p>
+     *  <p>If not set, or set to 0, the concurrency is not limited.</p>
+     *
+     *  @param  maxConcurrency  The maximum concurrency; it must not be
+     *      negative.
+     *  @return The builder.
+     *  @throws ValidationException The value is negative.
+     */
+    public ExecutorBuilder setMaxConcurrency( final int maxConcurrency ) throws ValidationException;
+
+    /**
+     *  <p>{@summary Sets the maximum number of threads of a thread pool, or
+     *  the parallelism of a fork-join pool.} For a thread pool, threads
+     *  above the core pool size are only started when the queue is
+     *  full.</p>
+     *  <p>If not set, it is the number of available processors, but not
+     *  less than the
+     *  {@linkplain #setCorePoolSize(int) core pool size},
+     *  if that was set.</p>
+     *
+     *  @param  maximumPoolSize The maximum pool size; it must be greater
+     *      than 0.
+     *  @return The builder.
+     *  @throws ValidationException The pool size is less than 1.
+     */
+    public ExecutorBuilder setMaximumPoolSize( final int maximumPoolSize ) throws ValidationException;
+
+    /**
+     *  <p>{@summary Sets the kind of executor that will be built.}</p>
+     *  <p>If not set, it is
+     *  {@link Mode#THREAD_POOL}.</p>
+     *
+     *  @param  mode    The mode.
+     *  @return The builder.
+     */
+    public ExecutorBuilder setMode( final Mode mode );
+
+    /**
+     *  <p>{@summary Sets the capacity of the queue of a thread pool.} A
+     *  capacity of 0 means that the tasks are handed over directly to the
+     *  threads, without a queue.</p>
+     *  <p>If not set, it is
+     *  {@value #DEFAULT_QUEUE_CAPACITY}.</p>
+     *
+     *  @param  queueCapacity   The capacity; it must not be negative.
+     *  @return The builder.
+     *  @throws ValidationException The capacity is negative.
+     */
+    public ExecutorBuilder setQueueCapacity( final int queueCapacity ) throws ValidationException;
+
+    /**
+     *  <p>{@summary Sets the policy for the tasks that cannot be accepted by
+     *  a thread pool.}</p>
+     *  <p>If not set, it is
+     *  {@link RejectionPolicy#ABORT}.</p>
+     *
+     *  @param  rejectionPolicy The policy.
+     *  @return The builder.
+     */
+    public ExecutorBuilder setRejectionPolicy( final RejectionPolicy rejectionPolicy );
+
+    /**
+     *  <p>{@summary Sets the factory for the threads of a thread pool, or for
+     *  the threads per task.} In the mode
+     *  {@link Mode#VIRTUAL_THREADS},
+     *  the factory should create virtual threads.</p>
+     *  <p>If not set, a factory created by
+     *  {@link ThreadFactoryBuilder}
+     *  with the default settings is used; in the mode
+     *  {@link Mode#VIRTUAL_THREADS},
+     *  it creates virtual threads.</p>
+     *
+     *  @param  threadFactory   The thread factory.
+     *  @return The builder.
+     */
+    public ExecutorBuilder setThreadFactory( final ThreadFactory threadFactory );
+}
+//  interface ExecutorBuilder
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,164 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.internal.ExpiringLazyImpl;
+
+/**
+ *  <p>{@summary A
+ *  {@link Lazy}
+ *  whose value expires after a given time to live.} The next call to
+ *  {@link #get()}
+ *  after the expiration will call the supplier again.</p>
+ *  <p>Optionally, the value can be refreshed in the background before it
+ *  expires: the first call to {@code get()} after the refresh time has
+ *  passed schedules the refresh with the given
+ *  {@link Executor},
+ *  and returns the current value without waiting. Only when the value is
+ *  expired, the calling thread has to wait for the new value.</p>
+ *  <p>The supplier is called only once at a time, even if many threads need
+ *  a new value concurrently. If a background refresh fails, the current
+ *  value will be kept until it expires.</p>
+ *  <p>{@link #isPresent()}
+ *  returns {@false} when the value is expired, and
+ *  {@link #toString()}
+ *  will not force a refresh.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ExpiringLazy.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ *
+ *  @param  <T> The type of the value for this instance of
+ *      {@code ExpiringLazy}.
+ */
+@ClassVersion( sourceVersion = "$Id: ExpiringLazy.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface ExpiringLazy<T> extends Lazy<T>
+    permits ExpiringLazyImpl
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Discards the current value; the next call to
+     *  {@link #get()}
+     *  will call the supplier again.
+     */
+    public void invalidate();
+
+    /**
+     *  Creates a new {@code ExpiringLazy} instance that uses the given
+     *  supplier to initialise, and that calls the supplier again after the
+     *  value expired.
+     *
+     *  @param  <T> The type of the value for the new instance.
+     *  @param  supplier    The supplier for the value.
+     *  @param  timeToLive  The time to live for a value.
+     *  @return The new instance.
+     *  @throws ValidationException The time to live is not positive.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <T> ExpiringLazy<T> use( final Supplier<T> supplier, final Duration timeToLive ) throws ValidationException
+    {
+        return new ExpiringLazyImpl<>( supplier, timeToLive, Duration.ZERO, null, InstantSource.system() );
+    }   //  use()
+
+    /**
+     *  Creates a new {@code ExpiringLazy} instance that uses the given
+     *  supplier to initialise, that calls the supplier again after the value
+     *  expired, and that uses the given clock; the latter is intended mainly
+     *  for testing.
+     *
+     *  @param  <T> The type of the value for the new instance.
+     *  @param  supplier    The supplier for the value.
+     *  @param  timeToLive  The time to live for a value.
+     *  @param  clock   The clock.
+     *  @return The new instance.
+     *  @throws ValidationException The time to live is not positive.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <T> ExpiringLazy<T> use( final Supplier<T> supplier, final Duration timeToLive, final InstantSource clock ) throws ValidationException
+    {
+        return new ExpiringLazyImpl<>( supplier, timeToLive, Duration.ZERO, null, clock );
+    }   //  use()
+
+    /**
+     *  Creates a new {@code ExpiringLazy} instance that uses the given
+     *  supplier to initialise, and that refreshes the value in the background
+     *  before it expires.
+     *
+     *  @param  <T> The type of the value for the new instance.
+     *  @param  supplier    The supplier for the value.
+     *  @param  timeToLive  The time to live for a value.
+     *  @param  refreshAhead    The time before the expiration when the
+     *      refresh will be started; it must be less than the time to live.
+     *  @param  executor    The executor for the refresh.
+     *  @return The new instance.
+     *  @throws ValidationException The time to live is not positive, or
+     *      {@code refreshAhead} is negative or not less than the time to
+     *      live.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <T> ExpiringLazy<T> use( final Supplier<T> supplier, final Duration timeToLive, final Duration refreshAhead, final Executor executor ) throws ValidationException
+    {
+        return use( supplier, timeToLive, refreshAhead, executor, InstantSource.system() );
+    }   //  use()
+
+    /**
+     *  Creates a new {@code ExpiringLazy} instance that uses the given
+     *  supplier to initialise, that refreshes the value in the background
+     *  before it expires, and that uses the given clock; the latter is
+     *  intended mainly for testing.
+     *
+     *  @param  <T> The type of the value for the new instance.
+     *  @param  supplier    The supplier for the value.
+     *  @param  timeToLive  The time to live for a value.
+     *  @param  refreshAhead    The time before the expiration when the
+     *      refresh will be started; it must be less than the time to live.
+     *  @param  executor    The executor for the refresh.
+     *  @param  clock   The clock.
+     *  @return The new instance.
+     *  @throws ValidationException The time to live is not positive, or
+     *      {@code refreshAhead} is negative or not less than the time to
+     *      live.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <T> ExpiringLazy<T> use( final Supplier<T> supplier, final Duration timeToLive, final Duration refreshAhead, final Executor executor, final InstantSource clock ) throws ValidationException
+    {
+        return new ExpiringLazyImpl<>( supplier, timeToLive, refreshAhead, requireNonNullArgument( executor, "executor" ), clock );
+    }   //  use()
+}
+//  interface ExpiringLazy
+
+/*
+ *  End of File
+ */
@@ -18,21 +18,30 @@
 package org.tquadrat.foundation.lang;
 
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.checkFromToIndex;
 import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Stringer.DEFAULT_STRINGER;
 
+import java.io.IOException;
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 
 /**
- *  This implementation of
+ *  <p>{@summary This implementation of
  *  {@link StringConverter}
  *  allows to create an instance of {@code StringConverter} for an arbitrary
- *  type on the fly.
+ *  type on the fly.}</p>
+ *  <p>When created with an instance of
+ *  {@link RangeParser},
+ *  the converter is able to parse a range from a larger buffer without
+ *  creating an intermediate String; the constants of this class, for the
+ *  wrapper types of the primitives, do so.</p>
  *
  *  @param  <T> The Object type for the conversion.
  *
@@ -46,16 +55,160 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 @API( status = STABLE, since = "0.0.6" )
 public class GenericStringConverter<T> implements StringConverter<T>
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The definition of a parser that converts a range from a
+     *  {@link CharSequence}
+     *  to an object instance.}</p>
+     *  <p>The parser will never be called with a {@null} source, and the
+     *  range is already checked against the bounds of the source.</p>
+     *
+     *  @param  <T> The Object type for the conversion.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: GenericStringConverter.java 1078 2023-10-19 14:39:47Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id: GenericStringConverter.java 1078 2023-10-19 14:39:47Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public static interface RangeParser<T> extends Serializable
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Converts the given range from the given
+         *  {@link CharSequence}
+         *  to an object instance.
+         *
+         *  @param  source  The buffer that holds the String representation.
+         *  @param  start   The index of the first character of the String
+         *      representation, inclusive.
+         *  @param  end The index after the last character of the String
+         *      representation, exclusive.
+         *  @return The resulting object instance.
+         *  @throws IllegalArgumentException    The format of the given range
+         *      is invalid and cannot be parsed into the object instance.
+         */
+        public T parse( final CharSequence source, final int start, final int end ) throws IllegalArgumentException;
+    }
+    //  interface RangeParser
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Boolean}.}</p>
+     *  <p>The parser has the same semantics as
+     *  {@link Boolean#parseBoolean(String)}:
+     *  it returns {@true} if the given range is equal, ignoring case, to the
+     *  String &quot;{@code true}&quot;, otherwise it returns {@false}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Boolean> BOOLEAN_CONVERTER = new GenericStringConverter<>( GenericStringConverter::parseBoolean );
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Byte}.}</p>
+     *  <p>Only decimal numbers are accepted, as for
+     *  {@link Byte#parseByte(String)}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Byte> BYTE_CONVERTER = new GenericStringConverter<>( GenericStringConverter::parseByte );
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Character}.}</p>
+     *  <p>The range to parse must have a length of exactly one
+     *  character.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Character> CHARACTER_CONVERTER = new GenericStringConverter<>( GenericStringConverter::parseCharacter );
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Integer}.}</p>
+     *  <p>Only decimal numbers are accepted, as for
+     *  {@link Integer#parseInt(String)}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Integer> INTEGER_CONVERTER = new GenericStringConverter<>( ( source, start, end ) -> Integer.valueOf( Integer.parseInt( source, start, end, 10 ) ) );
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Long}.}</p>
+     *  <p>Only decimal numbers are accepted, as for
+     *  {@link Long#parseLong(String)}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Long> LONG_CONVERTER = new GenericStringConverter<>( ( source, start, end ) -> Long.valueOf( Long.parseLong( source, start, end, 10 ) ) );
+
+    /**
+     *  <p>{@summary An implementation of
+     *  {@link StringConverter}
+     *  for
+     *  {@link Short}.}</p>
+     *  <p>Only decimal numbers are accepted, as for
+     *  {@link Short#parseShort(String)}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringConverter<Short> SHORT_CONVERTER = new GenericStringConverter<>( GenericStringConverter::parseShort );
+
+    /**
+     *  The message for an invalid value: {@value}.
+     */
+    private static final String MSG_InvalidValue = "Invalid value for %2$s: %1$s";
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
     /**
-     *  The parser.
+     *  The parser that translates a String; {@null} if the instance was
+     *  created with a
+     *  {@link RangeParser}.
      *
      *  @serial
      */
     private final Function<CharSequence,T> m_Parser;
 
+    /**
+     *  The parser that translates a range; {@null} if the instance was
+     *  created with a
+     *  {@link Function}.
+     *
+     *  @serial
+     *  @since 0.26.0
+     */
+    private final RangeParser<T> m_RangeParser;
+
     /**
      *  The stringer.
      *
@@ -89,6 +242,28 @@ public class GenericStringConverter<T> implements StringConverter<T>
     public GenericStringConverter( final Function<? extends CharSequence,T> parser, final Stringer<T> stringer )
     {
         m_Parser = (Function<CharSequence,T>) requireNonNullArgument( parser, "parser" );
+        m_RangeParser = null;
+        m_Stringer = requireNonNullArgument( stringer, "stringer" );
+    }   //  GenericStringConverter()
+
+    /**
+     *  Creates a new {@code GenericStringConverter} instance that is able to
+     *  parse a range from a
+     *  {@link CharSequence}
+     *  without creating an intermediate String.
+     *
+     *  @param  parser  The function that translates a range from a
+     *      {@code CharSequence} to an object of type {@code T}.
+     *  @param  stringer    The function that converts an object of type
+     *      {@code T} to a String.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public GenericStringConverter( final RangeParser<T> parser, final Stringer<T> stringer )
+    {
+        m_Parser = null;
+        m_RangeParser = requireNonNullArgument( parser, "parser" );
         m_Stringer = requireNonNullArgument( stringer, "stringer" );
     }   //  GenericStringConverter()
 
@@ -102,6 +277,26 @@ public class GenericStringConverter<T> implements StringConverter<T>
      */
     @SuppressWarnings( "unchecked" )
     public GenericStringConverter( final Function<? extends CharSequence,T> parser )
+    {
+        this( parser, (Stringer<T>) DEFAULT_STRINGER );
+    }   //  GenericStringConverter()
+
+    /**
+     *  Creates a new {@code GenericStringConverter} instance that is able to
+     *  parse a range from a
+     *  {@link CharSequence}
+     *  without creating an intermediate String, and that uses
+     *  {@link Stringer#DEFAULT_STRINGER}
+     *  to convert an object of type {@code T} to a String.
+     *
+     *  @param  parser  The function that translates a range from a
+     *      {@code CharSequence} to an object of type {@code T}.
+     *
+     *  @since 0.26.0
+     */
+    @SuppressWarnings( "unchecked" )
+    @API( status = STABLE, since = "0.26.0" )
+    public GenericStringConverter( final RangeParser<T> parser )
     {
         this( parser, (Stringer<T>) DEFAULT_STRINGER );
     }   //  GenericStringConverter()
@@ -109,18 +304,218 @@ public class GenericStringConverter<T> implements StringConverter<T>
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  {@inheritDoc}
+     *  <p>If the target is a
+     *  {@link StringBuilder},
+     *  this method delegates to
+     *  {@link #appendTo(StringBuilder, Object)}.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    @Override
+    public final <A extends Appendable> A appendTo( final A target, final T source ) throws IOException
+    {
+        if( requireNonNullArgument( target, "target" ) instanceof final StringBuilder builder )
+        {
+            appendTo( builder, source );
+        }
+        else if( nonNull( source ) )
+        {
+            target.append( toString( source ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>If this converter uses
+     *  {@link Stringer#DEFAULT_STRINGER},
+     *  the primitive value of an instance of
+     *  {@link Boolean},
+     *  {@link Byte},
+     *  {@link Character},
+     *  {@link Integer},
+     *  {@link Long}
+     *  or
+     *  {@link Short}
+     *  is appended directly, without creating an intermediate String.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    @Override
+    public final StringBuilder appendTo( final StringBuilder target, final T source )
+    {
+        requireNonNullArgument( target, "target" );
+        if( nonNull( source ) )
+        {
+            if( m_Stringer == DEFAULT_STRINGER )
+            {
+                switch( source )
+                {
+                    case final Boolean value -> target.append( value.booleanValue() );
+                    case final Byte value -> target.append( value.intValue() );
+                    case final Character value -> target.append( value.charValue() );
+                    case final Integer value -> target.append( value.intValue() );
+                    case final Long value -> target.append( value.longValue() );
+                    case final Short value -> target.append( value.intValue() );
+                    default -> target.append( m_Stringer.toString( source ) );
+                }
+            }
+            else
+            {
+                target.append( m_Stringer.toString( source ) );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
     /**
      *  {@inheritDoc}
      */
     @Override
     public final T fromString( final CharSequence source ) throws IllegalArgumentException
     {
-        final var retValue = isNull( source ) ? null : m_Parser.apply( source );
+        final var retValue = isNull( source ) ? null : parse( source, 0, source.length() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  fromString()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final T fromString( final CharSequence source, final int start, final int end ) throws IllegalArgumentException, IndexOutOfBoundsException
+    {
+        T retValue = null;
+        if( nonNull( source ) )
+        {
+            checkFromToIndex( start, end, source.length() );
+            retValue = parse( source, start, end );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromString()
+
+    /**
+     *  Parses the given range with the parser this converter was created
+     *  with.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The resulting object instance.
+     *  @throws IllegalArgumentException    The format of the given range
+     *      is invalid and cannot be parsed into the object instance.
+     */
+    private final T parse( final CharSequence source, final int start, final int end ) throws IllegalArgumentException
+    {
+        final var retValue = nonNull( m_RangeParser )
+            ? m_RangeParser.parse( source, start, end )
+            : m_Parser.apply( (start == 0) && (end == source.length()) ? source : source.subSequence( start, end ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parse()
+
+    /**
+     *  Parses the given range to a
+     *  {@link Boolean}.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The value.
+     */
+    private static final Boolean parseBoolean( final CharSequence source, final int start, final int end )
+    {
+        final var value = Boolean.TRUE.toString();
+        var retValue = end - start == value.length();
+        for( var i = 0; retValue && (i < value.length()); ++i )
+        {
+            retValue = Character.toLowerCase( source.charAt( start + i ) ) == value.charAt( i );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return Boolean.valueOf( retValue );
+    }   //  parseBoolean()
+
+    /**
+     *  Parses the given range to a
+     *  {@link Byte}.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The value.
+     *  @throws NumberFormatException   The range does not contain a valid
+     *      {@code byte} value.
+     */
+    private static final Byte parseByte( final CharSequence source, final int start, final int end ) throws NumberFormatException
+    {
+        final var value = Integer.parseInt( source, start, end, 10 );
+        if( (value < Byte.MIN_VALUE) || (value > Byte.MAX_VALUE) )
+        {
+            throw new NumberFormatException( MSG_InvalidValue.formatted( source.subSequence( start, end ), Byte.class.getName() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return Byte.valueOf( (byte) value );
+    }   //  parseByte()
+
+    /**
+     *  Parses the given range to a
+     *  {@link Character}.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The value.
+     *  @throws IllegalArgumentException    The range does not have a length
+     *      of exactly one.
+     */
+    private static final Character parseCharacter( final CharSequence source, final int start, final int end ) throws IllegalArgumentException
+    {
+        if( end - start != 1 )
+        {
+            throw new IllegalArgumentException( MSG_InvalidValue.formatted( source.subSequence( start, end ), Character.class.getName() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return Character.valueOf( source.charAt( start ) );
+    }   //  parseCharacter()
+
+    /**
+     *  Parses the given range to a
+     *  {@link Short}.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The value.
+     *  @throws NumberFormatException   The range does not contain a valid
+     *      {@code short} value.
+     */
+    private static final Short parseShort( final CharSequence source, final int start, final int end ) throws NumberFormatException
+    {
+        final var value = Integer.parseInt( source, start, end, 10 );
+        if( (value < Short.MIN_VALUE) || (value > Short.MAX_VALUE) )
+        {
+            throw new NumberFormatException( MSG_InvalidValue.formatted( source.subSequence( start, end ), Short.class.getName() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return Short.valueOf( (short) value );
+    }   //  parseShort()
+
     /**
      *  {@inheritDoc}
      */
@@ -21,6 +21,7 @@ import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,6 +56,12 @@ import org.tquadrat.foundation.lang.internal.LazyImpl;
  *  do force the initialisation.</p>
  *  <p>{@link #toString()}
  *  will not force the initialisation.</p>
+ *  <p>The initialisation is thread-safe, and the supplier will be called
+ *  only once, even if many threads, including virtual threads, are calling
+ *  {@link #get()}
+ *  concurrently; the method
+ *  {@link #useAsync(Supplier, Executor)}
+ *  starts the initialisation in the background.</p>
  *  <p>This interface is not feasible for the lazy initialisation of
  *  connections to resources of any kind, as these will usually throw (checked)
  *  exceptions when problems arise, and usually these should be handled on one
@@ -72,7 +79,7 @@ import org.tquadrat.foundation.lang.internal.LazyImpl;
 @ClassVersion( sourceVersion = "$Id: Lazy.java 1258 2026-06-04 18:33:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface Lazy<T>
-    permits org.tquadrat.foundation.lang.internal.LazyImpl
+    permits ExpiringLazy, org.tquadrat.foundation.lang.internal.LazyImpl
 {
         /*---------*\
     ====** Methods **==========================================================
@@ -228,6 +235,39 @@ public sealed interface Lazy<T>
     {
         return new LazyImpl<>( supplier );
     }   //  use()
+
+    /**
+     *  <p>{@summary Creates a new {@code Lazy} instance that uses the given
+     *  supplier to initialise, and starts that initialisation immediately in
+     *  the background.}</p>
+     *  <p>This method returns without waiting for the initialisation. A call
+     *  to
+     *  {@link #get()}
+     *  will wait until the value is available; if it happens before the
+     *  given executor had started the initialisation, the calling thread
+     *  will call the supplier itself. Either way, the supplier is called
+     *  only once.</p>
+     *  <p>If the supplier fails in the background, the next call to
+     *  {@code get()} will try again.</p>
+     *
+     *  @param  <T> The type of the value for the new instance of {@code Lazy}.
+     *  @param  supplier    The supplier that initialises the value for this
+     *      instance.
+     *  @param  executor    The executor that runs the initialisation.
+     *  @return The new instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <T> Lazy<T> useAsync( final Supplier<T> supplier, final Executor executor )
+    {
+        requireNonNullArgument( executor, "executor" );
+        final var retValue = new LazyImpl<>( supplier );
+        executor.execute( retValue::get );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  useAsync()
 }
 //  interface Lazy
 
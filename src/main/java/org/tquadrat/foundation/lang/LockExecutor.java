@@ -98,6 +98,22 @@ public sealed interface LockExecutor
      */
     public <R> Optional<R> execute( final Operation<R> operation ) throws ExecutionFailedException;
 
+    /**
+     *  Returns the statistics for the lock of this executor.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the statistics; it is empty if the lock is not
+     *      instrumented.
+     *
+     *  @see #of(String, Lock, LockMetrics)
+     *  @see AutoLock#getLockStatistics()
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Optional<AutoLock.LockStatistics> getLockStatistics() { return Optional.empty(); }
+
     /**
      *  Creates a new {@code LockExecutor} from the given
      *  {@link Lock}
@@ -132,6 +148,29 @@ public sealed interface LockExecutor
         return retValue;
     }   //  of()
 
+    /**
+     *  Creates a new {@code LockExecutor} from the given
+     *  {@link Lock}
+     *  instance, that records the wait and hold times for the lock under the
+     *  given name, as described for
+     *  {@link AutoLock#of(String, Lock, LockMetrics)}.
+     *
+     *  @param  name    The name of the lock.
+     *  @param  lock    The lock.
+     *  @param  metrics The receiver for the events.
+     *  @return The new {@code LockExecutor}.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static LockExecutor of( final String name, final Lock lock, final LockMetrics metrics )
+    {
+        final var retValue = LockExecutorImpl.of( AutoLock.of( name, lock, metrics ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
     /**
      *  <p>{@summary Performs the given action after obtaining the lock.}</p>
      *  <p>This differs from
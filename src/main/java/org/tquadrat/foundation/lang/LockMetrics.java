@@ -0,0 +1,90 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.concurrent.locks.Lock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The receiver for the events of an instrumented
+ *  {@link AutoLock}.}</p>
+ *  <p>An instance is provided to
+ *  {@link AutoLock#of(String, Lock, LockMetrics)}
+ *  or
+ *  {@link LockExecutor#of(String, Lock, LockMetrics)};
+ *  it will be notified each time the lock was acquired, and each time it
+ *  was released. The name of the lock is passed with each event, so one
+ *  instance can serve any number of locks.</p>
+ *  <p>The methods are called by the thread that acquired or released the
+ *  lock, so they should return quickly; note that
+ *  {@link #lockAcquired(String, long, boolean)}
+ *  is called while the lock is held. Exceptions thrown by the methods are
+ *  ignored.</p>
+ *  <p>All methods have empty default implementations, so an implementation
+ *  needs to override only those for the events it is interested in.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LockMetrics.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LockMetrics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public interface LockMetrics
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  An instance of {@code LockMetrics} that ignores all events.
+     */
+    public static final LockMetrics NONE = new LockMetrics() {};
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Called when the lock was acquired.
+     *
+     *  @param  name    The name of the lock.
+     *  @param  waitTime    The time in nanoseconds the thread had to wait for
+     *      the lock; it is 0 if the lock was not contended.
+     *  @param  contended   {@true} if the lock was held by another thread
+     *      when it was requested, {@false} otherwise.
+     */
+    public default void lockAcquired( final String name, final long waitTime, final boolean contended ) { /* Does nothing */ }
+
+    /**
+     *  Called when the lock was released.
+     *
+     *  @param  name    The name of the lock.
+     *  @param  holdTime    The time in nanoseconds the lock was held.
+     */
+    public default void lockReleased( final String name, final long holdTime ) { /* Does nothing */ }
+}
+//  interface LockMetrics
+
+/*
+ *  End of File
+ */
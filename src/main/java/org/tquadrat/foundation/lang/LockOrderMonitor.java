@@ -0,0 +1,250 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static java.lang.Boolean.getBoolean;
+import static java.util.stream.Collectors.joining;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.CommonConstants.PROPERTY_CHECK_LOCK_ORDER;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary The check of the order in which
+ *  {@link AutoLock}
+ *  instances are acquired, to detect potential deadlocks.}</p>
+ *  <p>When the check is enabled, each {@code AutoLock} that is created
+ *  afterwards by
+ *  {@link AutoLock#of()},
+ *  {@link AutoLock#of(java.util.concurrent.locks.Lock)},
+ *  {@link AutoLock#of(String, java.util.concurrent.locks.Lock)}
+ *  or
+ *  {@link AutoLock#of(String, java.util.concurrent.locks.Lock, LockMetrics)}
+ *  – and with that, by
+ *  {@link LockExecutor#of(java.util.concurrent.locks.Lock)},
+ *  and for the read and the write lock of an
+ *  {@link AutoReadWriteLock}
+ *  – takes part in a global lock-order graph: whenever a thread that holds
+ *  lock&nbsp;A acquires lock&nbsp;B, the edge A&nbsp;→&nbsp;B is recorded
+ *  together with the acquisition site. When a new edge closes a cycle, the
+ *  locks may be acquired in opposite order by different threads, and that
+ *  can cause a deadlock; this is reported to the
+ *  {@linkplain #setViolationHandler(Consumer) violation handler},
+ *  before the lock is acquired. By default, the violations are printed to
+ *  {@link System#err}.</p>
+ *  <p>The check is enabled by the
+ *  {@linkplain System#getProperty(String) System property}
+ *  {@value CommonConstants#PROPERTY_CHECK_LOCK_ORDER},
+ *  or by a call to
+ *  {@link #setEnabled(boolean)};
+ *  it does not affect {@code AutoLock} instances that exist already.</p>
+ *  <p>The read and the write lock of an {@code AutoReadWriteLock} are two
+ *  separate locks in the graph. Locks that are used directly, without an
+ *  {@code AutoLock} wrapper, are not checked. While a thread waits on a
+ *  {@linkplain AutoLock#newCondition() condition},
+ *  the lock still counts as held by that thread.</p>
+ *  <p>The overhead is meant to be low enough for load tests: for each
+ *  acquisition, the check looks up the edges from the locks the thread
+ *  holds already. The graph is searched, and the stack is walked, only
+ *  when an edge is recorded for the first time. As the graph keeps its
+ *  locks, it is not meant for production use with many short-lived
+ *  locks.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: LockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class LockOrderMonitor
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A detected violation of the lock order.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: LockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @param  threadName  The name of the thread that requested the lock.
+     *  @param  heldLock    The name of the lock that was held by the thread.
+     *  @param  requestedLock   The name of the lock that was requested.
+     *  @param  lockOrder   The names of the locks in the order they were
+     *      acquired before, from the requested lock to the held lock.
+     *  @param  acquisitionSite The stack frames of the current request.
+     *  @param  conflictingSite The stack frames of the earlier acquisition
+     *      of the held lock, in the opposite order.
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: LockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Violation( String threadName, String heldLock, String requestedLock, List<String> lockOrder, List<StackTraceElement> acquisitionSite, List<StackTraceElement> conflictingSite )
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Violation}.
+         *
+         *  @param  threadName  The name of the thread that requested the
+         *      lock.
+         *  @param  heldLock    The name of the lock that was held by the
+         *      thread.
+         *  @param  requestedLock   The name of the lock that was requested.
+         *  @param  lockOrder   The names of the locks in the order they were
+         *      acquired before, from the requested lock to the held lock.
+         *  @param  acquisitionSite The stack frames of the current request.
+         *  @param  conflictingSite The stack frames of the earlier
+         *      acquisition of the held lock, in the opposite order.
+         */
+        public Violation
+        {
+            lockOrder = List.copyOf( lockOrder );
+            acquisitionSite = List.copyOf( acquisitionSite );
+            conflictingSite = List.copyOf( conflictingSite );
+        }   //  Violation()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString()
+        {
+            final var retValue = """
+                Potential deadlock: thread '%1$s' holds %2$s and requests %3$s, but these locks were acquired in the order %4$s before
+                  Requested at:
+                %5$s
+                  %2$s acquired at:
+                %6$s"""
+                .formatted( threadName, heldLock, requestedLock, String.join( " -> ", lockOrder ), format( acquisitionSite ), format( conflictingSite ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  toString()
+
+        /**
+         *  Formats the given stack frames.
+         *
+         *  @param  site    The stack frames.
+         *  @return The formatted stack frames.
+         */
+        private static final String format( final List<StackTraceElement> site )
+        {
+            final var retValue = site.stream()
+                .map( "    at %s"::formatted )
+                .collect( joining( "\n" ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  format()
+    }
+    //  record Violation
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The handler for the violations.
+     */
+    @SuppressWarnings( "UseOfSystemOutOrSystemErr" )
+    private static volatile Consumer<Violation> m_ViolationHandler = System.err::println;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The flag that indicates whether the check is enabled.
+     *
+     *  @see CommonConstants#PROPERTY_CHECK_LOCK_ORDER
+     */
+    private static volatile boolean m_IsEnabled;
+
+    static
+    {
+        m_IsEnabled = getBoolean( PROPERTY_CHECK_LOCK_ORDER );
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance is allowed for this class!
+     */
+    private LockOrderMonitor() { throw new PrivateConstructorForStaticClassCalledError( LockOrderMonitor.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the handler for the violations.
+     *
+     *  @return The handler.
+     */
+    public static final Consumer<Violation> getViolationHandler() { return m_ViolationHandler; }
+
+    /**
+     *  Returns whether the check of the lock order is enabled for new
+     *  {@link AutoLock}
+     *  instances.
+     *
+     *  @return {@true} if the check is enabled, {@false} otherwise.
+     */
+    public static final boolean isEnabled() { return m_IsEnabled; }
+
+    /**
+     *  Enables or disables the check of the lock order for
+     *  {@link AutoLock}
+     *  instances that will be created after this call.
+     *
+     *  @param  flag    {@true} to enable the check, {@false} to disable
+     *      it.
+     */
+    public static final void setEnabled( final boolean flag ) { m_IsEnabled = flag; }
+
+    /**
+     *  Sets the handler for the violations. It is called by the thread that
+     *  requests the lock, before the lock is acquired; if it throws an
+     *  exception, the lock will not be acquired, and the exception is
+     *  propagated to the caller.
+     *
+     *  @param  handler The handler.
+     */
+    public static final void setViolationHandler( final Consumer<Violation> handler ) { m_ViolationHandler = requireNonNullArgument( handler, "handler" ); }
+}
+//  class LockOrderMonitor
+
+/*
+ *  End of File
+ */
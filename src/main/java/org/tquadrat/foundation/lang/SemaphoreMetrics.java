@@ -0,0 +1,87 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.lang.StackWalker.StackFrame;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The receiver for the events of an
+ *  {@link AutoSemaphore}
+ *  whose tokens expire after a timeout.}</p>
+ *  <p>An instance is provided to
+ *  {@link AutoSemaphore#of(int, boolean, Duration, SemaphoreMetrics, int)};
+ *  it will be notified each time a token is closed, and each time a token
+ *  expires before it was closed – the latter is a <i>leak</i>: the permits
+ *  were held until the timeout, although the code that acquired them did
+ *  not need them any longer, or failed to release them.</p>
+ *  <p>The methods are called after the permits were released; they should
+ *  return quickly, as they are called by the thread that closed the token,
+ *  or by the single thread that handles the timeouts for all semaphores.
+ *  Exceptions thrown by the methods are ignored.</p>
+ *  <p>All methods have empty default implementations, so an implementation
+ *  needs to override only those for the events it is interested in.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SemaphoreMetrics.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SemaphoreMetrics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public interface SemaphoreMetrics
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  An instance of {@code SemaphoreMetrics} that ignores all events.
+     */
+    public static final SemaphoreMetrics NONE = new SemaphoreMetrics() {};
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Called when a token was closed before its timeout expired.
+     *
+     *  @param  permits The number of permits that were released.
+     */
+    public default void tokenClosed( final int permits ) { /* Does nothing */ }
+
+    /**
+     *  Called when the timeout for a token expired before it was closed.
+     *
+     *  @param  permits The number of permits that were released.
+     *  @param  acquisitionSite The stack frame of the code that acquired
+     *      the token; it is present only if the token was sampled.
+     */
+    public default void tokenExpired( final int permits, @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" ) final Optional<StackFrame> acquisitionSite ) { /* Does nothing */ }
+}
+//  interface SemaphoreMetrics
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,252 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.internal.SoftCacheImpl;
+
+/**
+ *  <p>{@summary A keyed cache for data that may be needed more than once, but
+ *  that can be recreated when the memory becomes scarce.} It is the keyed
+ *  counterpart to
+ *  {@link SoftLazy}.</p>
+ *  <p>The values are created by the loader function that is provided to
+ *  {@link #of(Function)}
+ *  or
+ *  {@link #of(Function, ReferenceType, int)}
+ *  on the first call to
+ *  {@link #get(Object)}
+ *  for the respective key. They will be held by
+ *  {@linkplain java.lang.ref.SoftReference soft}
+ *  or
+ *  {@linkplain java.lang.ref.WeakReference weak}
+ *  references, so that the garbage collector may remove them; in that case,
+ *  the next call to {@code get()} will load the value again. Optionally, the
+ *  number of entries is limited; when the limit is reached, the least
+ *  recently used entry will be evicted.</p>
+ *  <p>The cache is thread-safe, and the loader will be called only once for
+ *  a key, even if many threads request the value for that key concurrently;
+ *  the other threads will wait for the result. But the loader may be called
+ *  concurrently for different keys.</p>
+ *  <p>Like for {@code SoftLazy}, the loader must return the same result for
+ *  each invocation with the same key. Neither the keys nor the values may be
+ *  {@null}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @param  <K> The type of the keys.
+ *  @param  <V> The type of the cached values.
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface SoftCache<K,V>
+    permits SoftCacheImpl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The types of references that can be used to hold the values of a
+     *  {@link SoftCache}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public enum ReferenceType
+    {
+        /**
+         *  The values are held by instances of
+         *  {@link java.lang.ref.SoftReference};
+         *  they will be removed only when the memory becomes scarce.
+         */
+        SOFT,
+
+        /**
+         *  The values are held by instances of
+         *  {@link java.lang.ref.WeakReference};
+         *  they will be removed as soon as they are no longer referenced
+         *  from elsewhere.
+         */
+        WEAK
+    }
+    //  enum ReferenceType
+
+    /**
+     *  The statistics for a
+     *  {@link SoftCache}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @param  hitCount    The number of calls to
+     *      {@link SoftCache#get(Object)}
+     *      that found the value in the cache.
+     *  @param  missCount   The number of calls to
+     *      {@link SoftCache#get(Object)}
+     *      that had to load the value, or to wait for it.
+     *  @param  evictionCount   The number of entries that were evicted
+     *      because the size limit was reached.
+     *  @param  collectedCount  The number of entries that were removed
+     *      because the garbage collector had cleared their values.
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Statistics( long hitCount, long missCount, long evictionCount, long collectedCount )
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the ratio of hits to all requests.
+         *
+         *  @return The hit rate, a value between 0.0 and 1.0; it is 1.0 if
+         *      there were no requests yet.
+         */
+        public final double hitRate()
+        {
+            final var requestCount = hitCount + missCount;
+            final var retValue = requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  hitRate()
+    }
+    //  record Statistics
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The value for the maximum size that indicates an unbounded cache:
+     *  {@value}.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the value for the given key; if the cache does not hold a value
+     *  for the key, it will be loaded.
+     *
+     *  @param  key The key.
+     *  @return The value.
+     */
+    public V get( final K key );
+
+    /**
+     *  Returns the value for the given key, if the cache holds one; the value
+     *  will not be loaded if missing.
+     *
+     *  @param  key The key.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the value.
+     */
+    public Optional<V> getIfPresent( final K key );
+
+    /**
+     *  Returns the statistics for this cache.
+     *
+     *  @return The statistics.
+     */
+    public Statistics getStatistics();
+
+    /**
+     *  Removes the entry for the given key from the cache.
+     *
+     *  @param  key The key.
+     */
+    public void invalidate( final K key );
+
+    /**
+     *  Removes all entries from the cache.
+     */
+    public void invalidateAll();
+
+    /**
+     *  Creates a new unbounded instance of {@code SoftCache} that holds its
+     *  values by
+     *  {@linkplain java.lang.ref.SoftReference soft references}.
+     *
+     *  @param  <K> The type of the keys.
+     *  @param  <V> The type of the cached values.
+     *  @param  loader  The function that loads the value for a key.
+     *  @return The new cache.
+     */
+    public static <K,V> SoftCache<K,V> of( final Function<? super K,? extends V> loader )
+    {
+        return of( loader, ReferenceType.SOFT, UNBOUNDED );
+    }   //  of()
+
+    /**
+     *  Creates a new instance of {@code SoftCache}.
+     *
+     *  @param  <K> The type of the keys.
+     *  @param  <V> The type of the cached values.
+     *  @param  loader  The function that loads the value for a key.
+     *  @param  referenceType   The type of the references that hold the
+     *      values.
+     *  @param  maximumSize The maximum number of entries in the cache;
+     *      {@link #UNBOUNDED}
+     *      for no limit.
+     *  @return The new cache.
+     *  @throws ValidationException The maximum size is less than 1.
+     */
+    public static <K,V> SoftCache<K,V> of( final Function<? super K,? extends V> loader, final ReferenceType referenceType, final int maximumSize )
+    {
+        final var retValue = new SoftCacheImpl<K,V>( loader, referenceType, maximumSize );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Returns the current number of entries in the cache; this number may
+     *  include entries whose values were already cleared by the garbage
+     *  collector.
+     *
+     *  @return The number of entries.
+     */
+    public int size();
+}
+//  interface SoftCache
+
+/*
+ *  End of File
+ */
@@ -17,18 +17,34 @@
 
 package org.tquadrat.foundation.lang;
 
+import static java.util.Collections.unmodifiableList;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.checkFromToIndex;
 import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullElse;
+import static org.tquadrat.foundation.lang.internal.StringConverterService.invalidateRegistry;
 import static org.tquadrat.foundation.lang.internal.StringConverterService.listInstances;
 import static org.tquadrat.foundation.lang.internal.StringConverterService.retrieveConverterForClass;
+import static org.tquadrat.foundation.lang.internal.StringConverterService.retrieveConverterForClassHierarchy;
 import static org.tquadrat.foundation.lang.internal.StringConverterService.retrieveConverterForEnum;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.internal.DefaultEnumStringConverter;
+import org.tquadrat.foundation.lang.internal.StringConverterService;
 
 /**
  *  <p>{@summary Defines the conversion between Strings and object instances,
@@ -57,6 +73,19 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *      {@code fromString(CharSequence)} and {@code toString(Object)} will
  *      return {@null} if called with a {@null} argument.
  *
+ *  @note The methods
+ *      {@link #fromString(CharSequence, int, int)}
+ *      and
+ *      {@link #appendTo(StringBuilder, Object)}
+ *      allow to parse a value from a range of a larger buffer, and to format
+ *      a value into an existing buffer. Their default implementations fall
+ *      back to
+ *      {@link #fromString(CharSequence)}
+ *      and
+ *      {@link #toString(Object)};
+ *      implementations should override them when they can avoid the
+ *      creation of intermediate Strings.
+ *
  *  @note Usually the {@code java.util.Locale.ROOT} locale is used when locale
  *      specific conversion or parsing is required; this means in particular
  *      that numbers will use the decimal point as separator.
@@ -117,6 +146,88 @@ public interface StringConverter<T> extends Serializable
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  <p>{@summary Appends the String representation of the given object
+     *  instance to the given
+     *  {@link Appendable}.}
+     *  Nothing will be appended if {@code source} is {@null}.</p>
+     *  <p>The default implementation appends the result of
+     *  {@link #toString(Object)}.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target for the String representation.
+     *  @param  source  The object to convert; can be {@null}.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default <A extends Appendable> A appendTo( final A target, final T source ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        if( nonNull( source ) ) target.append( toString( source ) );
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
+    /**
+     *  <p>{@summary Appends the String representation of the given object
+     *  instance to the given
+     *  {@link StringBuilder}.}
+     *  Nothing will be appended if {@code source} is {@null}.</p>
+     *  <p>The default implementation appends the result of
+     *  {@link #toString(Object)}.</p>
+     *
+     *  @param  target  The target for the String representation.
+     *  @param  source  The object to convert; can be {@null}.
+     *  @return The target.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default StringBuilder appendTo( final StringBuilder target, final T source )
+    {
+        requireNonNullArgument( target, "target" );
+        if( nonNull( source ) ) target.append( toString( source ) );
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
+    /**
+     *  <p>{@summary Creates a new instance of {@code StringConverter} for the
+     *  given
+     *  {@link Enum}
+     *  type that optionally ignores the case of the values and accepts
+     *  aliases for the constants.}</p>
+     *  <p>Different from
+     *  {@link #forEnum(Class)},
+     *  this method returns always a new instance, and it will never return a
+     *  converter from the registry.</p>
+     *
+     *  @param  <E> The class a converter is needed for.
+     *  @param  type    The instance of the class a converter is needed for.
+     *  @param  ignoreCase  {@true} if the converter should ignore the case
+     *      of the values, {@false} if the values have to match the
+     *      {@linkplain Enum#name() names}
+     *      of the constants exactly.
+     *  @param  aliases The aliases for the constants; the key is the alias,
+     *      the value the constant. Can be empty.
+     *  @return The new instance of {@code StringConverter}.
+     *  @throws IllegalArgumentException    An alias is equal to the name of
+     *      a constant or to another alias, or two names are equal when the
+     *      case is ignored.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <E extends Enum<E>> StringConverter<E> createEnumConverter( final Class<E> type, final boolean ignoreCase, final Map<String,? extends E> aliases ) throws IllegalArgumentException
+    {
+        return new DefaultEnumStringConverter<>( type, ignoreCase, aliases );
+    }   //  createEnumConverter()
+
     /**
      *  Returns an instance of {@code StringConverter} for the given
      *  {@link Class}.
@@ -136,12 +247,44 @@ public interface StringConverter<T> extends Serializable
         return retrieveConverterForClass( type );
     }   //  forClass()
 
+    /**
+     *  <p>{@summary Returns an instance of {@code StringConverter} for the
+     *  given
+     *  {@link Class},
+     *  or for its nearest superclass or interface.} Different from
+     *  {@link #forClass(Class)},
+     *  this method will also find a converter that is registered for a
+     *  superclass or an interface of the given class, if there is none for
+     *  the class itself. Superclasses are searched before interfaces.</p>
+     *  <p>If there is no converter for the given type, or the type is
+     *  {@null}, the return value is
+     *  {@link Optional#empty()}.</p>
+     *  <p>The result is memoized per class; subsequent calls for the same
+     *  class are cheap.</p>
+     *
+     *  @note The converter returned by this method may return an instance
+     *      of a superclass of {@code C} from
+     *      {@link #fromString(CharSequence)}.
+     *
+     *  @param  <C> The class a converter is needed for.
+     *  @param  type    The instance of the class a converter is needed for.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the instance of {@code StringConverter}.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static <C> Optional<StringConverter<? super C>> forClassHierarchy( final Class<C> type )
+    {
+        return retrieveConverterForClassHierarchy( type );
+    }   //  forClassHierarchy()
+
     /**
      *  Returns an instance of {@code StringConverter} for the given
      *  {@link Enum} type.
-     *  If there is no converter for the given type in the registry, a new
-     *  instance of {@code StringConverter} will be created, based on a
-     *  default implementation.
+     *  If there is no converter for the given type in the registry, an
+     *  instance of {@code StringConverter} based on a default implementation
+     *  will be returned; subsequent calls for the same type will return the
+     *  same instance.
      *
      *  @param  <E> The class a converter is needed for.
      *  @param  type    The instance of the class a converter is needed for.
@@ -165,6 +308,223 @@ public interface StringConverter<T> extends Serializable
      */
     public T fromString( final CharSequence source ) throws IllegalArgumentException;
 
+    /**
+     *  <p>{@summary Converts the given range from the given
+     *  {@link CharSequence}
+     *  to an object instance.}</p>
+     *  <p>The default implementation calls
+     *  {@link #fromString(CharSequence)}
+     *  with the respective
+     *  {@linkplain CharSequence#subSequence(int, int) sub sequence};
+     *  implementations should override this method when they are able to
+     *  parse the range without creating an intermediate object.</p>
+     *
+     *  @param  source  The buffer that holds the String representation for
+     *      the object instance; can be {@null}.
+     *  @param  start   The index of the first character of the String
+     *      representation, inclusive.
+     *  @param  end The index after the last character of the String
+     *      representation, exclusive.
+     *  @return The resulting object instance; will be {@null} if
+     *      {@code source} was already {@null}.
+     *  @throws IllegalArgumentException    The format of the given range is
+     *      invalid and cannot be parsed into the object instance.
+     *  @throws IndexOutOfBoundsException   The range is out of the bounds of
+     *      the given {@code source}.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default T fromString( final CharSequence source, final int start, final int end ) throws IllegalArgumentException, IndexOutOfBoundsException
+    {
+        T retValue = null;
+        if( nonNull( source ) )
+        {
+            checkFromToIndex( start, end, source.length() );
+            retValue = fromString( (start == 0) && (end == source.length()) ? source : source.subSequence( start, end ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromString()
+
+    /**
+     *  <p>{@summary Converts all the Strings from the given array to object
+     *  instances.}</p>
+     *  <p>A {@null} element in {@code sources} results in a {@null} element
+     *  in the returned array.</p>
+     *
+     *  @param  sources The String representations for the object instances.
+     *  @param  generator   The function that creates the result array with
+     *      the given length; usually this is the constructor reference for
+     *      the array, like {@code Integer []::new}.
+     *  @return The resulting object instances, in the same order as the
+     *      String representations.
+     *  @throws IllegalArgumentException    The format of one of the given
+     *      Strings is invalid and cannot be parsed into the object instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default T [] fromStrings( final CharSequence [] sources, final IntFunction<T []> generator ) throws IllegalArgumentException
+    {
+        return fromStrings( sources, generator, false );
+    }   //  fromStrings()
+
+    /**
+     *  <p>{@summary Converts all the Strings from the given array to object
+     *  instances, optionally splitting the work across the
+     *  {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}.}</p>
+     *  <p>A {@null} element in {@code sources} results in a {@null} element
+     *  in the returned array.</p>
+     *  <p>The parallel conversion pays off only for large batches, and only
+     *  if the implementation of
+     *  {@link #fromString(CharSequence)}
+     *  is thread-safe; this is the case for all implementations that hold no
+     *  state.</p>
+     *
+     *  @param  sources The String representations for the object instances.
+     *  @param  generator   The function that creates the result array with
+     *      the given length; usually this is the constructor reference for
+     *      the array, like {@code Integer []::new}.
+     *  @param  parallel    {@true} if the conversion should be done in
+     *      parallel, {@false} if it should be done in the current thread.
+     *  @return The resulting object instances, in the same order as the
+     *      String representations.
+     *  @throws IllegalArgumentException    The format of one of the given
+     *      Strings is invalid and cannot be parsed into the object instance.
+     *
+     *  @see java.util.Arrays#parallelSetAll(Object[], IntFunction)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default T [] fromStrings( final CharSequence [] sources, final IntFunction<T []> generator, final boolean parallel ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( sources, "sources" );
+        final var retValue = requireNonNullArgument( generator, "generator" ).apply( sources.length );
+        if( parallel )
+        {
+            Arrays.parallelSetAll( retValue, i -> fromString( sources [i] ) );
+        }
+        else
+        {
+            for( var i = 0; i < sources.length; ++i ) retValue [i] = fromString( sources [i] );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStrings()
+
+    /**
+     *  <p>{@summary Converts all the Strings from the given
+     *  {@link List}
+     *  to object instances.}</p>
+     *  <p>A {@null} element in {@code sources} results in a {@null} element
+     *  in the returned list.</p>
+     *
+     *  @param  sources The String representations for the object instances.
+     *  @return An unmodifiable list with the resulting object instances, in
+     *      the same order as the String representations.
+     *  @throws IllegalArgumentException    The format of one of the given
+     *      Strings is invalid and cannot be parsed into the object instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default List<T> fromStrings( final List<? extends CharSequence> sources ) throws IllegalArgumentException
+    {
+        return fromStrings( sources, false );
+    }   //  fromStrings()
+
+    /**
+     *  <p>{@summary Converts all the Strings from the given
+     *  {@link List}
+     *  to object instances, optionally splitting the work across the
+     *  {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}.}</p>
+     *  <p>A {@null} element in {@code sources} results in a {@null} element
+     *  in the returned list.</p>
+     *
+     *  @param  sources The String representations for the object instances.
+     *  @param  parallel    {@true} if the conversion should be done in
+     *      parallel, {@false} if it should be done in the current thread.
+     *  @return An unmodifiable list with the resulting object instances, in
+     *      the same order as the String representations.
+     *  @throws IllegalArgumentException    The format of one of the given
+     *      Strings is invalid and cannot be parsed into the object instance.
+     *
+     *  @see #fromStrings(CharSequence[], IntFunction, boolean)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default List<T> fromStrings( final List<? extends CharSequence> sources, final boolean parallel ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        @SuppressWarnings( "unchecked" )
+        final var buffer = (T []) new Object [sources.size()];
+        if( sources instanceof RandomAccess )
+        {
+            if( parallel )
+            {
+                Arrays.parallelSetAll( buffer, i -> fromString( sources.get( i ) ) );
+            }
+            else
+            {
+                for( var i = 0; i < buffer.length; ++i ) buffer [i] = fromString( sources.get( i ) );
+            }
+        }
+        else
+        {
+            final var values = sources.toArray( CharSequence []::new );
+            if( parallel )
+            {
+                Arrays.parallelSetAll( buffer, i -> fromString( values [i] ) );
+            }
+            else
+            {
+                for( var i = 0; i < buffer.length; ++i ) buffer [i] = fromString( values [i] );
+            }
+        }
+        final var retValue = unmodifiableList( Arrays.asList( buffer ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStrings()
+
+    /**
+     *  <p>{@summary Converts all the Strings from the given
+     *  {@link Stream}
+     *  to object instances.}</p>
+     *  <p>The conversion will be done in parallel if the given stream is
+     *  {@linkplain Stream#isParallel() parallel}.
+     *  A {@null} element in {@code sources} results in a {@null} element in
+     *  the returned array.</p>
+     *
+     *  @param  sources The String representations for the object instances.
+     *  @param  generator   The function that creates the result array with
+     *      the given length; usually this is the constructor reference for
+     *      the array, like {@code Integer []::new}.
+     *  @return The resulting object instances, in the encounter order of the
+     *      stream.
+     *  @throws IllegalArgumentException    The format of one of the given
+     *      Strings is invalid and cannot be parsed into the object instance.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default T [] fromStrings( final Stream<? extends CharSequence> sources, final IntFunction<T []> generator ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( generator, "generator" );
+        final var retValue = requireNonNullArgument( sources, "sources" )
+            .map( this::fromString )
+            .toArray( generator );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromStrings()
+
     /**
      *  Converts the given object instance to a String.
      *
@@ -189,6 +549,80 @@ public interface StringConverter<T> extends Serializable
         return retValue;
     }   //  toString()
 
+    /**
+     *  <p>{@summary Converts the given String to an object instance, without
+     *  throwing an exception for an invalid value.} Instead, the returned
+     *  {@link Status}
+     *  holds an error code.</p>
+     *
+     *  @param  source  The String representation for the object instance;
+     *      can be {@null}.
+     *  @return The result; the
+     *      {@linkplain Status#result() result}
+     *      will be {@null} if {@code source} was already {@null}, the
+     *      {@linkplain Status#errorCode() error code}
+     *      is the message for the invalid value.
+     *
+     *  @see #tryFromString(CharSequence, int, int)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Status<T,String> tryFromString( final CharSequence source )
+    {
+        final var retValue = isNull( source ) ? new Status<T,String>( null, null ) : tryFromString( source, 0, source.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryFromString()
+
+    /**
+     *  <p>{@summary Converts the given range from the given
+     *  {@link CharSequence}
+     *  to an object instance, without throwing an exception for an invalid
+     *  value.} Instead, the returned
+     *  {@link Status}
+     *  holds an error code.</p>
+     *  <p>The default implementation calls
+     *  {@link #fromString(CharSequence, int, int)}
+     *  and translates an
+     *  {@link IllegalArgumentException}
+     *  into the error code; implementations should override this method
+     *  when they can detect an invalid value cheaper.</p>
+     *
+     *  @param  source  The buffer that holds the String representation for
+     *      the object instance; can be {@null}.
+     *  @param  start   The index of the first character of the String
+     *      representation, inclusive.
+     *  @param  end The index after the last character of the String
+     *      representation, exclusive.
+     *  @return The result; the
+     *      {@linkplain Status#result() result}
+     *      will be {@null} if {@code source} was already {@null}, the
+     *      {@linkplain Status#errorCode() error code}
+     *      is the message for the invalid value.
+     *  @throws IndexOutOfBoundsException   The range is out of the bounds of
+     *      the given {@code source}.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public default Status<T,String> tryFromString( final CharSequence source, final int start, final int end ) throws IndexOutOfBoundsException
+    {
+        Status<T,String> retValue;
+        try
+        {
+            retValue = new Status<>( fromString( source, start, end ), null );
+        }
+        catch( final IllegalArgumentException e )
+        {
+            retValue = new Status<>( null, requireNonNullElse( e.getMessage(), e.getClass().getName() ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryFromString()
+
     /**
      *  Returns the classes for that an instance of {@code StringConverter} is
      *  already registered,
@@ -197,6 +631,36 @@ public interface StringConverter<T> extends Serializable
      */
     @API( status = STABLE, since = "0.1.0" )
     public static Collection<Class<?>> list() { return listInstances(); }
+
+    /**
+     *  <p>{@summary Discards the registry with the known converters.} It will
+     *  be rebuilt on the next call to
+     *  {@link #forClass(Class)},
+     *  {@link #forEnum(Class)}
+     *  or
+     *  {@link #list()}.</p>
+     *  <p>The registry is built only once and cached afterwards; usually, a
+     *  call to this method is not required.</p>
+     *
+     *  @see #reloadConverters(ModuleLayer)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static void reloadConverters() { invalidateRegistry(); }
+
+    /**
+     *  Rebuilds the registry with the known converters from the given
+     *  {@link ModuleLayer};
+     *  this is required after a module layer was added that provides
+     *  additional converters.
+     *
+     *  @param  moduleLayer The module layer that is used to locate the
+     *      service providers for {@code StringConverter}.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static void reloadConverters( final ModuleLayer moduleLayer )
+    {
+        StringConverterService.reloadConverters( moduleLayer );
+    }   //  reloadConverters()
 }
 //  interface StringConverter
 
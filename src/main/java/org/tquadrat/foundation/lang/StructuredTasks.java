@@ -0,0 +1,298 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static java.lang.Math.max;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.LambdaContainerException;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.function.tce.TCESupplier;
+
+/**
+ *  <p>{@summary Methods that run a collection of
+ *  {@link Operation}s
+ *  in parallel, each on its own virtual thread, and wait for their
+ *  results.}</p>
+ *  <p>The operations are <i>structured</i>: none of the methods returns
+ *  before all threads it has started have terminated, even in case of a
+ *  failure, a timeout, or an interrupt. Unfinished operations are
+ *  cancelled by interrupting their threads; an operation that ignores the
+ *  interrupt will delay the return of the method.</p>
+ *  <p>The number of operations that are running at the same time can be
+ *  limited; the other operations wait on an
+ *  {@link AutoSemaphore},
+ *  as described for
+ *  {@link ExecutorBuilder#setMaxConcurrency(int)}.</p>
+ *  <p>Instances of
+ *  {@link TCESupplier}
+ *  can be converted by
+ *  {@link #fromSuppliers(Collection)}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: StructuredTasks.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: StructuredTasks.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class StructuredTasks
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance is allowed for this class!
+     */
+    private StructuredTasks() { throw new PrivateConstructorForStaticClassCalledError( StructuredTasks.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the executor for the operations.
+     *
+     *  @param  maxConcurrency  The maximum number of operations that run at
+     *      the same time; 0 means no limit.
+     *  @return The executor.
+     */
+    private static final ExecutorService createExecutor( final int maxConcurrency )
+    {
+        final var retValue = ExecutorBuilder.obtainBuilder()
+            .setMode( ExecutorBuilder.Mode.VIRTUAL_THREADS )
+            .setThreadFactory( ThreadFactoryBuilder.obtainBuilder()
+                .setVirtual( true )
+                .setNameFactory( "StructuredTask-%d"::formatted )
+                .build() )
+            .setMaxConcurrency( maxConcurrency )
+            .build();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createExecutor()
+
+    /**
+     *  Converts the given suppliers into operations.
+     *
+     *  @param  <R> The type of the results.
+     *  @param  suppliers   The suppliers.
+     *  @return The operations, in the same order as the suppliers.
+     */
+    public static final <R> List<Operation<R>> fromSuppliers( final Collection<? extends TCESupplier<? extends R>> suppliers )
+    {
+        final var retValue = requireNonNullArgument( suppliers, "suppliers" ).stream()
+            .map( supplier -> (Operation<R>) requireNonNullArgument( supplier, "supplier" )::get )
+            .toList();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromSuppliers()
+
+    /**
+     *  <p>{@summary Runs the given operations and returns their results; the
+     *  first failure cancels all other operations.}</p>
+     *  <p>A checked exception thrown by an operation is wrapped into a
+     *  {@link LambdaContainerException};
+     *  unchecked exceptions and errors are thrown as they are.</p>
+     *
+     *  @param  <R> The type of the results.
+     *  @param  operations  The operations.
+     *  @param  maxConcurrency  The maximum number of operations that run at
+     *      the same time; 0 means no limit.
+     *  @param  timeout The time after that the operations that did not finish
+     *      yet will be cancelled.
+     *  @return The results, in the same order as the operations.
+     *  @throws ValidationException The concurrency is negative, or the
+     *      timeout is not positive.
+     *  @throws LambdaContainerException    An operation failed with a checked
+     *      exception.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting.
+     *  @throws TimeoutException    Not all operations finished before the
+     *      timeout.
+     */
+    public static final <R> List<R> invokeAll( final Collection<? extends Operation<? extends R>> operations, final int maxConcurrency, final Duration timeout ) throws ValidationException, LambdaContainerException, InterruptedException, TimeoutException
+    {
+        requireNonNullArgument( operations, "operations" );
+        requireValidIntegerArgument( maxConcurrency, "maxConcurrency", v -> v >= 0 );
+        final var deadline = System.nanoTime() + requireValidArgument( timeout, "timeout", Duration::isPositive ).toNanos();
+
+        final List<R> retValue = new ArrayList<>( operations.size() );
+        try( final var executor = createExecutor( maxConcurrency ) )
+        {
+            try
+            {
+                final var completionService = new ExecutorCompletionService<R>( executor );
+                final List<Future<R>> futures = new ArrayList<>( operations.size() );
+                for( final var operation : operations ) futures.add( completionService.submit( requireNonNullArgument( operation, "operation" )::get ) );
+
+                //---* Wait for the operations, in the order they finish *-----
+                for( var i = 0; i < futures.size(); ++i )
+                {
+                    final var future = completionService.poll( max( 0L, deadline - System.nanoTime() ), TimeUnit.NANOSECONDS );
+                    if( isNull( future ) )
+                    {
+                        throw new TimeoutException( "%d of %d operations did not finish within %s".formatted( futures.size() - i, futures.size(), timeout ) );
+                    }
+                    try
+                    {
+                        future.get();
+                    }
+                    catch( final ExecutionException e )
+                    {
+                        throw rethrow( e.getCause() );
+                    }
+                }
+
+                //---* All operations succeeded *------------------------------
+                for( final var future : futures ) retValue.add( future.resultNow() );
+            }
+            finally
+            {
+                /*
+                 * Cancels the remaining operations after a failure; after a
+                 * success, there are none.
+                 */
+                executor.shutdownNow();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  invokeAll()
+
+    /**
+     *  <p>{@summary Runs the given operations and returns a
+     *  {@link Status}
+     *  for each; a failure does not affect the other operations.}</p>
+     *  <p>The error code of a failed status is the exception thrown by the
+     *  operation; for an operation that did not finish before the timeout,
+     *  and that was cancelled therefore, it is a
+     *  {@link TimeoutException}.</p>
+     *
+     *  @param  <R> The type of the results.
+     *  @param  operations  The operations.
+     *  @param  maxConcurrency  The maximum number of operations that run at
+     *      the same time; 0 means no limit.
+     *  @param  timeout The time after that the operations that did not finish
+     *      yet will be cancelled.
+     *  @return The status for each operation, in the same order as the
+     *      operations.
+     *  @throws ValidationException The concurrency is negative, or the
+     *      timeout is not positive.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting; all operations are cancelled.
+     */
+    public static final <R> List<Status<R,Throwable>> invokeEach( final Collection<? extends Operation<? extends R>> operations, final int maxConcurrency, final Duration timeout ) throws ValidationException, InterruptedException
+    {
+        requireNonNullArgument( operations, "operations" );
+        requireValidIntegerArgument( maxConcurrency, "maxConcurrency", v -> v >= 0 );
+        final var deadline = System.nanoTime() + requireValidArgument( timeout, "timeout", Duration::isPositive ).toNanos();
+
+        final List<Status<R,Throwable>> retValue = new ArrayList<>( operations.size() );
+        try( final var executor = createExecutor( maxConcurrency ) )
+        {
+            try
+            {
+                final List<Future<R>> futures = new ArrayList<>( operations.size() );
+                for( final var operation : operations ) futures.add( executor.submit( requireNonNullArgument( operation, "operation" )::get ) );
+
+                for( final var future : futures )
+                {
+                    Status<R,Throwable> status;
+                    try
+                    {
+                        status = new Status<>( future.get( max( 0L, deadline - System.nanoTime() ), TimeUnit.NANOSECONDS ), null );
+                    }
+                    catch( final ExecutionException e )
+                    {
+                        status = new Status<>( null, e.getCause() );
+                    }
+                    catch( final CancellationException e )
+                    {
+                        status = new Status<>( null, e );
+                    }
+                    catch( final TimeoutException _ )
+                    {
+                        future.cancel( true );
+                        status = new Status<>( null, new TimeoutException( "The operation did not finish within %s".formatted( timeout ) ) );
+                    }
+                    retValue.add( status );
+                }
+            }
+            finally
+            {
+                //---* Cancels all operations after an interrupt *-------------
+                executor.shutdownNow();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  invokeEach()
+
+    /**
+     *  Returns the exception that will be thrown for the given failure of an
+     *  operation.
+     *
+     *  @param  cause   The exception thrown by the operation.
+     *  @return The exception to throw.
+     *  @throws Error   The operation failed with an error.
+     */
+    private static final RuntimeException rethrow( final Throwable cause ) throws Error
+    {
+        final var retValue = switch( cause )
+        {
+            case final RuntimeException e -> e;
+            case final Exception e -> new LambdaContainerException( e );
+            case final Error e -> throw e;
+            default -> new LambdaContainerException( new ExecutionException( cause ) );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rethrow()
+}
+//  class StructuredTasks
+
+/*
+ *  End of File
+ */
@@ -205,6 +205,28 @@ public sealed interface ThreadFactoryBuilder
      */
     public ThreadFactoryBuilder setStackSize( final long stackSize );
 
+    /**
+     *  <p>{@summary Sets the
+     *  {@link ThreadStatistics}
+     *  that track the threads created by the new thread factory.} The
+     *  statistics count the new threads, the live threads and the uncaught
+     *  exceptions, and attribute the CPU time and the allocated bytes of the
+     *  threads to the thread factory.</p>
+     *  <p>If no statistics are specified, but the
+     *  {@linkplain #setThreadGroup(ThreadGroup) thread group}
+     *  is an instance of
+     *  {@link ThreadGroupExt}
+     *  with statistics, these are used; otherwise the threads are not
+     *  tracked.</p>
+     *
+     *  @param  statistics  The statistics.
+     *  @return The builder.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public ThreadFactoryBuilder setStatistics( final ThreadStatistics statistics );
+
     /**
      *  <p>{@summary Sets the thread group for the new threads created by the
      *  new thread factory.}</p>
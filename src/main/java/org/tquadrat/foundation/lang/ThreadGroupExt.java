@@ -19,19 +19,30 @@ package org.tquadrat.foundation.lang;
 
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotBlankArgument;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.internal.ThreadStatisticsImpl;
 
 /**
  *  <p>{@summary An implementation of
  *  {@link ThreadGroup}
  *  that allows to configure the behaviour of
  *  {@link #uncaughtException(Thread, Throwable)}}.</p>
+ *  <p>Optionally, the thread group carries an instance of
+ *  {@link ThreadStatistics};
+ *  it counts the uncaught exceptions of the threads that do not have their
+ *  own
+ *  {@link java.lang.Thread.UncaughtExceptionHandler},
+ *  and it tracks the threads that are created by a thread factory for this
+ *  group that was built by
+ *  {@link ThreadFactoryBuilder}.</p>
  *  <p>This class is not final, to allow further modifications.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
@@ -54,6 +65,13 @@ public class ThreadGroupExt extends ThreadGroup
      */
     private final UncaughtExceptionHandler m_UncaughtExceptionHandler;
 
+    /**
+     *  The statistics for the threads of this group. It can be {@null}.
+     *
+     *  @since 0.26.0
+     */
+    private final ThreadStatistics m_Statistics;
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -75,6 +93,7 @@ public class ThreadGroupExt extends ThreadGroup
     {
         super( requireNotBlankArgument( name, "name" ) );
         m_UncaughtExceptionHandler = null;
+        m_Statistics = null;
     }   //  ThreadGroupExt()
 
     /**
@@ -96,6 +115,7 @@ public class ThreadGroupExt extends ThreadGroup
     {
         super( requireNonNullArgument( parent, "parent" ), requireNotBlankArgument( name, "name" ) );
         m_UncaughtExceptionHandler = null;
+        m_Statistics = null;
     }   //  ThreadGroupExt()
 
     /**
@@ -118,6 +138,7 @@ public class ThreadGroupExt extends ThreadGroup
     {
         super( requireNotBlankArgument( name, "name" ) );
         m_UncaughtExceptionHandler = requireNonNullArgument( handler, "handler" );
+        m_Statistics = null;
     }   //  ThreadGroupExt()
 
     /**
@@ -140,17 +161,90 @@ public class ThreadGroupExt extends ThreadGroup
     {
         super( requireNonNullArgument( parent, "parent" ), requireNotBlankArgument( name, "name" ) );
         m_UncaughtExceptionHandler = requireNonNullArgument( handler, "handler" );
+        m_Statistics = null;
+    }   //  ThreadGroupExt()
+
+    /**
+     *  <p>{@summary Constructs a new thread group with statistics.}</p>
+     *  <p>The parent of this new group is the thread group of the currently
+     *  running thread.</p>
+     *  <p>The behaviour of
+     *  {@link #uncaughtException(Thread, Throwable)}
+     *  is that of the superclass.</p>
+     *
+     *  @param  name    The name of the new thread group.
+     *  @param  statistics  The statistics for the threads of this group.
+     *  @throws IllegalArgumentException    The {@code name} argument is either
+     *      {@null}, empty or blank, or the {@code statistics} argument is
+     *      {@null}.
+     *  @throws SecurityException   The current thread cannot create a thread
+     *      in this thread group.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public ThreadGroupExt( final String name, final ThreadStatistics statistics ) throws IllegalArgumentException
+    {
+        super( requireNotBlankArgument( name, "name" ) );
+        m_UncaughtExceptionHandler = null;
+        m_Statistics = requireNonNullArgument( statistics, "statistics" );
+    }   //  ThreadGroupExt()
+
+    /**
+     *  <p>{@summary Constructs a new thread group with statistics.}</p>
+     *  <p>The parent of this new group is the specified thread group.</p>
+     *  <p>The behaviour of
+     *  {@link #uncaughtException(Thread, Throwable)}
+     *  is determined by the provided handler.</p>
+     *
+     *  @param  parent  The parent thread group.
+     *  @param  name    The name of the new thread group.
+     *  @param  handler The handler for the uncaught exceptions.
+     *  @param  statistics  The statistics for the threads of this group.
+     *  @throws IllegalArgumentException    The {@code name} argument is either
+     *      {@null}, empty or blank, or one of the {@code parent} thread
+     *      group, the {@code handler} or the {@code statistics} arguments is
+     *      {@null}.
+     *  @throws SecurityException   The current thread cannot create a thread
+     *      in this thread group.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public ThreadGroupExt( final ThreadGroup parent, final String name, final UncaughtExceptionHandler handler, final ThreadStatistics statistics ) throws IllegalArgumentException
+    {
+        super( requireNonNullArgument( parent, "parent" ), requireNotBlankArgument( name, "name" ) );
+        m_UncaughtExceptionHandler = requireNonNullArgument( handler, "handler" );
+        m_Statistics = requireNonNullArgument( statistics, "statistics" );
     }   //  ThreadGroupExt()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Returns the statistics for the threads of this group.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the statistics.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public final Optional<ThreadStatistics> getStatistics() { return Optional.ofNullable( m_Statistics ); }
+
     /**
      *  {@inheritDoc}
      */
     @Override
     public final void uncaughtException( final Thread t, final Throwable e )
     {
+        /*
+         * An exception that reaches this method through the handler of a
+         * thread was counted already by that handler.
+         */
+        if( nonNull( m_Statistics ) && (t.getUncaughtExceptionHandler() == this) ) ((ThreadStatisticsImpl) m_Statistics).recordUncaughtException();
+
         if( isNull( m_UncaughtExceptionHandler ) )
         {
             super.uncaughtException( t, e );
@@ -0,0 +1,213 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.internal.ThreadStatisticsImpl;
+
+/**
+ *  <p>{@summary The runtime statistics for a set of threads, usually the
+ *  threads of a thread pool.}</p>
+ *  <p>The threads are tracked when they were created by a
+ *  {@link java.util.concurrent.ThreadFactory}
+ *  that was built by
+ *  {@link ThreadFactoryBuilder}
+ *  with
+ *  {@link ThreadFactoryBuilder#setStatistics(ThreadStatistics)},
+ *  or with a
+ *  {@linkplain ThreadFactoryBuilder#setThreadGroup(ThreadGroup) thread group}
+ *  that is an instance of
+ *  {@link ThreadGroupExt}
+ *  with statistics. Uncaught exceptions are counted for these threads, and
+ *  for all other threads of such a thread group that do not have their own
+ *  {@link java.lang.Thread.UncaughtExceptionHandler}.</p>
+ *  <p>The CPU time and the allocated bytes are taken from the
+ *  {@link java.lang.management.ThreadMXBean};
+ *  for terminated threads, the last values are kept. The JVM does not
+ *  measure these values for virtual threads, so these contribute only to
+ *  the counts.</p>
+ *  <p>A
+ *  {@linkplain Snapshot snapshot}
+ *  can be taken on demand by
+ *  {@link #sample()},
+ *  or periodically after a call to
+ *  {@link #startSampling(Duration)};
+ *  the latest one is returned by
+ *  {@link #getLastSnapshot()}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface ThreadStatistics
+    permits ThreadStatisticsImpl
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The values for a single live thread.
+     *
+     *  @param  threadId    The id of the thread.
+     *  @param  threadName  The name of the thread.
+     *  @param  isVirtual   {@true} if the thread is a virtual thread,
+     *      {@false} otherwise.
+     *  @param  cpuTime The CPU time that was used by the thread; it is
+     *      {@link Duration#ZERO}
+     *      if it was not measured.
+     *  @param  allocatedBytes  The number of bytes that were allocated by the
+     *      thread; it is 0 if it was not measured.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record ThreadSample( long threadId, String threadName, boolean isVirtual, Duration cpuTime, long allocatedBytes ) {}
+
+    /**
+     *  The values for all threads that are tracked by a
+     *  {@link ThreadStatistics}
+     *  instance at a given point in time.
+     *
+     *  @param  name    The name of the statistics.
+     *  @param  timestamp   The time when the snapshot was taken.
+     *  @param  liveCount   The number of threads that are running.
+     *  @param  peakCount   The highest number of threads that were running at
+     *      the same time.
+     *  @param  totalCreated    The number of threads that were created.
+     *  @param  uncaughtExceptionCount  The number of uncaught exceptions.
+     *  @param  cpuTime The CPU time that was used by all threads, including
+     *      the terminated ones.
+     *  @param  allocatedBytes  The number of bytes that were allocated by all
+     *      threads, including the terminated ones.
+     *  @param  threads The values for the live threads.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Snapshot( String name, Instant timestamp, int liveCount, int peakCount, long totalCreated, long uncaughtExceptionCount, Duration cpuTime, long allocatedBytes, List<ThreadSample> threads )
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Snapshot}.
+         *
+         *  @param  name    The name of the statistics.
+         *  @param  timestamp   The time when the snapshot was taken.
+         *  @param  liveCount   The number of threads that are running.
+         *  @param  peakCount   The highest number of threads that were running
+         *      at the same time.
+         *  @param  totalCreated    The number of threads that were created.
+         *  @param  uncaughtExceptionCount  The number of uncaught exceptions.
+         *  @param  cpuTime The CPU time that was used by all threads.
+         *  @param  allocatedBytes  The number of bytes that were allocated by
+         *      all threads.
+         *  @param  threads The values for the live threads.
+         */
+        public Snapshot
+        {
+            threads = List.copyOf( threads );
+        }   //  Snapshot()
+    }
+    //  record Snapshot
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the snapshot that was taken last, either by a call to
+     *  {@link #sample()},
+     *  or by the periodic sampling.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the last snapshot; empty if none was taken yet.
+     */
+    public Optional<Snapshot> getLastSnapshot();
+
+    /**
+     *  Returns the name of this statistics.
+     *
+     *  @return The name.
+     */
+    public String getName();
+
+    /**
+     *  Creates a new {@code ThreadStatistics} instance.
+     *
+     *  @param  name    The name of the statistics, usually that of the
+     *      thread pool.
+     *  @return The new {@code ThreadStatistics} instance.
+     *  @throws ValidationException The name is {@null}, empty or blank.
+     */
+    public static ThreadStatistics of( final String name ) throws ValidationException { return new ThreadStatisticsImpl( name ); }
+
+    /**
+     *  Takes a snapshot now.
+     *
+     *  @return The snapshot.
+     */
+    public Snapshot sample();
+
+    /**
+     *  <p>{@summary Starts taking snapshots periodically.} A previously
+     *  started sampling is stopped.</p>
+     *  <p>The snapshots are taken on a virtual thread, so a slow
+     *  {@link java.lang.management.ThreadMXBean}
+     *  will not delay other timers; the next snapshot is scheduled after the
+     *  previous one was taken.</p>
+     *
+     *  @param  interval    The interval; it must be positive.
+     *  @throws ValidationException The interval is not positive.
+     */
+    public void startSampling( final Duration interval ) throws ValidationException;
+
+    /**
+     *  Stops the periodic sampling. Nothing happens if it was not started.
+     */
+    public void stopSampling();
+}
+//  interface ThreadStatistics
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,464 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Integer.max;
+import static java.lang.Integer.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidDoubleArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.AdaptiveSemaphore;
+import org.tquadrat.foundation.lang.AutoSemaphore;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link AdaptiveSemaphore}.} At the same time, this class extends
+ *  {@link Semaphore};
+ *  the number of available permits of the semaphore is always the current
+ *  limit minus the number of permits in use.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AdaptiveSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AdaptiveSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class AdaptiveSemaphoreImpl extends Semaphore implements AdaptiveSemaphore
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The implementation of
+     *  {@link AutoSemaphore.Token}
+     *  for
+     *  {@link AdaptiveSemaphoreImpl}.}</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AdaptiveSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AdaptiveSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public final class TokenImpl implements AutoSemaphore.Token
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The time when the token was acquired, as returned by
+         *  {@link System#nanoTime()}.
+         */
+        private final long m_AcquiredAt;
+
+        /**
+         *  The number of permits in use after this token was acquired.
+         */
+        private final int m_InFlight;
+
+        /**
+         *  The number of permits to release on close.
+         */
+        private final int m_Permits;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code TokenImpl}.
+         *
+         *  @param  permits The number of the acquired permits.
+         *  @param  inFlight    The number of permits in use after this token
+         *      was acquired.
+         */
+        public TokenImpl( final int permits, final int inFlight )
+        {
+            m_Permits = permits;
+            m_InFlight = inFlight;
+            m_AcquiredAt = System.nanoTime();
+        }   //  TokenImpl()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void close()
+        {
+            final var latency = System.nanoTime() - m_AcquiredAt;
+            m_InFlightCount.addAndGet( -m_Permits );
+            release( m_Permits );
+            adjustLimit( latency, m_AcquiredAt, m_InFlight );
+        }   //  close()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Semaphore getSemaphore() { return AdaptiveSemaphoreImpl.this; }
+    }
+    //  class TokenImpl
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of acquired tokens.
+     */
+    private final LongAdder m_AcquiredCount = new LongAdder();
+
+    /**
+     *  The queue for the asynchronous requests for tokens.
+     */
+    private final transient AsyncTokenQueue m_AsyncQueue;
+
+    /**
+     *  The factor that is applied to the limit when the latency exceeds the
+     *  threshold.
+     */
+    private final double m_BackoffRatio;
+
+    /**
+     *  The number of permits that are currently held by open tokens.
+     */
+    private final AtomicInteger m_InFlightCount = new AtomicInteger();
+
+    /**
+     *  The time of the last decrease of the limit, as returned by
+     *  {@link System#nanoTime()}.
+     */
+    private final AtomicLong m_LastDecrease;
+
+    /**
+     *  The latency threshold in nanoseconds.
+     */
+    private final long m_LatencyThreshold;
+
+    /**
+     *  The current limit.
+     */
+    private final AtomicInteger m_Limit;
+
+    /**
+     *  The upper bound for the limit.
+     */
+    private final int m_MaxLimit;
+
+    /**
+     *  The lower bound for the limit.
+     */
+    private final int m_MinLimit;
+
+    /**
+     *  The number of rejected requests for a token.
+     */
+    private final LongAdder m_RejectedCount = new LongAdder();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The serial version UID for objects of this class: {@value}.
+     *
+     *  @hidden
+     */
+    @Serial
+    private static final long serialVersionUID = 539879857L;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code AdaptiveSemaphoreImpl}.
+     *
+     *  @param  initialLimit    The initial limit.
+     *  @param  minLimit    The lower bound for the limit; it must be at least
+     *      1.
+     *  @param  maxLimit    The upper bound for the limit.
+     *  @param  latencyThreshold    The latency above which the limit will be
+     *      decreased.
+     *  @param  backoffRatio    The factor that is applied to the limit when
+     *      the latency exceeds the threshold; it must be greater than 0.0 and
+     *      less than 1.0.
+     *  @throws ValidationException The bounds are invalid, or the initial
+     *      limit is not between them, or the threshold is not positive, or
+     *      the backoff ratio is out of range.
+     */
+    public AdaptiveSemaphoreImpl( final int initialLimit, final int minLimit, final int maxLimit, final Duration latencyThreshold, final double backoffRatio ) throws ValidationException
+    {
+        super( requireValidIntegerArgument( initialLimit, "initialLimit", v -> (v >= minLimit) && (v <= maxLimit) ) );
+        m_MinLimit = requireValidIntegerArgument( minLimit, "minLimit", v -> v > 0 );
+        m_MaxLimit = requireValidIntegerArgument( maxLimit, "maxLimit", v -> v >= minLimit );
+        m_LatencyThreshold = requireValidArgument( latencyThreshold, "latencyThreshold", Duration::isPositive ).toNanos();
+        m_BackoffRatio = requireValidDoubleArgument( backoffRatio, "backoffRatio", v -> (v > 0.0) && (v < 1.0) );
+        m_Limit = new AtomicInteger( initialLimit );
+        m_LastDecrease = new AtomicLong( System.nanoTime() );
+        m_AsyncQueue = new AsyncTokenQueue( this::tryAcquire, this::createToken );
+    }   //  AdaptiveSemaphoreImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    public final Token acquireToken( final int permits ) throws InterruptedException, IllegalArgumentException
+    {
+        acquire( permits );
+        final var retValue = createToken( permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  acquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CompletableFuture<Token> acquireTokenAsync( final int permits ) throws IllegalArgumentException { return m_AsyncQueue.acquire( permits ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    public final Token acquireTokenUninterruptibly( final int permits ) throws IllegalArgumentException
+    {
+        acquireUninterruptibly( permits );
+        final var retValue = createToken( permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  acquireTokenUninterruptibly()
+
+    /**
+     *  Adjusts the limit after a token was closed.
+     *
+     *  @param  latency The latency of the token in nanoseconds.
+     *  @param  acquiredAt  The time when the token was acquired.
+     *  @param  inFlight    The number of permits in use after the token was
+     *      acquired.
+     */
+    private final void adjustLimit( final long latency, final long acquiredAt, final int inFlight )
+    {
+        if( latency > m_LatencyThreshold )
+        {
+            final var lastDecrease = m_LastDecrease.get();
+            if( (acquiredAt - lastDecrease >= 0L) && m_LastDecrease.compareAndSet( lastDecrease, System.nanoTime() ) )
+            {
+                updateLimit( limit -> max( m_MinLimit, (int) (limit * m_BackoffRatio) ) );
+            }
+        }
+        else
+        {
+            updateLimit( limit -> inFlight * 2 >= limit ? min( m_MaxLimit, limit + 1 ) : limit );
+        }
+    }   //  adjustLimit()
+
+    /**
+     *  Creates a token for the given number of permits that were acquired
+     *  already.
+     *
+     *  @param  permits The number of permits.
+     *  @return The new token.
+     */
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    private final TokenImpl createToken( final int permits )
+    {
+        final var inFlight = m_InFlightCount.addAndGet( permits );
+        m_AcquiredCount.increment();
+        final var retValue = new TokenImpl( permits, inFlight );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int getInFlight() { return m_InFlightCount.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int getLimit() { return m_Limit.get(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Semaphore getSemaphore() { return this; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Statistics getStatistics()
+    {
+        final var retValue = new Statistics( m_Limit.get(), m_InFlightCount.get(), m_AcquiredCount.sum(), m_RejectedCount.sum() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getStatistics()
+
+    /**
+     *  Replaces a deserialised instance by a new one with the same current
+     *  limit and the same configuration, as the queue for the asynchronous
+     *  requests for tokens is not serialised.
+     *
+     *  @return The new instance.
+     */
+    @Serial
+    private final Object readResolve() { return new AdaptiveSemaphoreImpl( m_Limit.get(), m_MinLimit, m_MaxLimit, Duration.ofNanos( m_LatencyThreshold ), m_BackoffRatio ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void release() { release( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>Waiting asynchronous requests for tokens will be granted, if
+     *  possible.</p>
+     */
+    @Override
+    public final void release( final int permits )
+    {
+        super.release( permits );
+        m_AsyncQueue.drain();
+    }   //  release()
+
+    /**
+     *  Creates a token if the permits were acquired, otherwise the request
+     *  is counted as rejected.
+     *
+     *  @param  acquired    {@true} if the permits were acquired,
+     *      {@false} otherwise.
+     *  @param  permits The number of permits.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the token.
+     */
+    private final Optional<Token> tokenIf( final boolean acquired, final int permits )
+    {
+        final Optional<Token> retValue;
+        if( acquired )
+        {
+            retValue = Optional.of( createToken( permits ) );
+        }
+        else
+        {
+            m_RejectedCount.increment();
+            retValue = Optional.empty();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tokenIf()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s[Limit = %d, In Flight = %d]".formatted( getClass().getName(), m_Limit.get(), m_InFlightCount.get() ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits ) throws IllegalArgumentException
+    {
+        final var retValue = tokenIf( tryAcquire( permits ), permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits, final Duration timeout ) throws InterruptedException, IllegalArgumentException
+    {
+        final var retValue = tokenIf( tryAcquire( permits, NANOSECONDS.convert( requireNonNullArgument( timeout, "timeout" ) ), NANOSECONDS ), permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+
+    /**
+     *  Updates the limit with the given function, and adjusts the number of
+     *  permits of the semaphore accordingly.
+     *
+     *  @param  function    The function that calculates the new limit from
+     *      the current one.
+     */
+    private final void updateLimit( final IntUnaryOperator function )
+    {
+        int current;
+        int next;
+        do
+        {
+            current = m_Limit.get();
+            next = function.applyAsInt( current );
+        }
+        while( (next != current) && !m_Limit.compareAndSet( current, next ) );
+
+        if( next > current )
+        {
+            release( next - current );
+        }
+        else if( next < current )
+        {
+            reducePermits( current - next );
+        }
+    }   //  updateLimit()
+}
+//  class AdaptiveSemaphoreImpl
+
+/*
+ *  End of File
+ */
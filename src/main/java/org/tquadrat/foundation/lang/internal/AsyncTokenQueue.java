@@ -0,0 +1,213 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoSemaphore.Token;
+
+/**
+ *  <p>{@summary The queue of the requests for tokens that were made by
+ *  calls to
+ *  {@link org.tquadrat.foundation.lang.AutoSemaphore#acquireTokenAsync(int)}
+ *  and could not be granted immediately.}</p>
+ *  <p>The requests are granted in FIFO order: as long as the request at the
+ *  head of the queue cannot get its permits, the requests behind it will
+ *  wait, too. The owning semaphore has to call
+ *  {@link #drain()}
+ *  each time permits were released; that call is cheap when no requests are
+ *  waiting. The futures are completed by the thread that released the
+ *  permits, so their continuations will run on that thread; an owning
+ *  semaphore that releases permits from a shared thread, like that of the
+ *  {@link TimerWheel},
+ *  has to hand the release over to another thread.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AsyncTokenQueue.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AsyncTokenQueue.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class AsyncTokenQueue
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A waiting request.
+     *
+     *  @param  permits The number of requested permits.
+     *  @param  future  The future that receives the token.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AsyncTokenQueue.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AsyncTokenQueue.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Request( int permits, CompletableFuture<Token> future ) {}
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The thread that currently grants the requests; calls to
+     *  {@link #drain()}
+     *  from this thread, for example when the permits it took for a request
+     *  are returned, are ignored, as that thread will re-check the head of
+     *  the queue anyway.
+     */
+    private volatile Thread m_Drainer;
+
+    /**
+     *  The waiting requests.
+     */
+    private final Queue<Request> m_Requests = new ConcurrentLinkedQueue<>();
+
+    /**
+     *  The function that creates a token for permits that were acquired
+     *  already.
+     */
+    private final IntFunction<? extends Token> m_TokenFactory;
+
+    /**
+     *  The function that tries to acquire the given number of permits
+     *  without waiting.
+     */
+    private final IntPredicate m_TryAcquire;
+
+    /**
+     *  The number of pending calls to
+     *  {@link #drain()};
+     *  only the thread that increments it from 0 will grant the requests.
+     */
+    private final AtomicInteger m_WorkInProgress = new AtomicInteger();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code AsyncTokenQueue}.
+     *
+     *  @param  tryAcquire  The function that tries to acquire the given
+     *      number of permits without waiting.
+     *  @param  tokenFactory    The function that creates a token for permits
+     *      that were acquired already.
+     */
+    public AsyncTokenQueue( final IntPredicate tryAcquire, final IntFunction<? extends Token> tokenFactory )
+    {
+        m_TryAcquire = requireNonNullArgument( tryAcquire, "tryAcquire" );
+        m_TokenFactory = requireNonNullArgument( tokenFactory, "tokenFactory" );
+    }   //  AsyncTokenQueue()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Requests a token for the given number of permits.
+     *
+     *  @param  permits The number of permits.
+     *  @return The future that will receive the token; if the permits are
+     *      available and no other request is waiting, it is already
+     *      completed.
+     *  @throws IllegalArgumentException    The given number of permits is
+     *      negative.
+     */
+    public final CompletableFuture<Token> acquire( final int permits ) throws IllegalArgumentException
+    {
+        requireValidIntegerArgument( permits, "permits", v -> v >= 0 );
+
+        final CompletableFuture<Token> retValue;
+        if( m_Requests.isEmpty() && m_TryAcquire.test( permits ) )
+        {
+            retValue = CompletableFuture.completedFuture( m_TokenFactory.apply( permits ) );
+        }
+        else
+        {
+            retValue = new CompletableFuture<>();
+            m_Requests.add( new Request( permits, retValue ) );
+
+            /*
+             * The permits may have been released after the check above, or
+             * the request will be the new head of the queue; if the future
+             * is cancelled, the requests behind it must get a chance.
+             */
+            retValue.whenComplete( (token, _) -> { if( isNull( token ) ) drain(); } );
+            drain();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  acquire()
+
+    /**
+     *  Grants the waiting requests, in FIFO order, as long as the permits
+     *  are available.
+     */
+    public final void drain()
+    {
+        final var currentThread = Thread.currentThread();
+        if( !m_Requests.isEmpty() && (m_Drainer != currentThread) && (m_WorkInProgress.getAndIncrement() == 0) )
+        {
+            var missed = 1;
+            do
+            {
+                m_Drainer = currentThread;
+                Request request;
+                GrantLoop: while( nonNull( request = m_Requests.peek() ) )
+                {
+                    final var future = request.future();
+                    final var granted = !future.isDone() && m_TryAcquire.test( request.permits() );
+                    if( !granted && !future.isDone() ) break GrantLoop;
+                    m_Requests.poll();
+                    if( granted )
+                    {
+                        //---* Return the token if the future was cancelled *-
+                        final var token = m_TokenFactory.apply( request.permits() );
+                        if( !future.complete( token ) ) token.close();
+                    }
+                }   //  GrantLoop:
+                m_Drainer = null;
+                missed = m_WorkInProgress.addAndGet( -missed );
+            }
+            while( missed != 0 );
+        }
+    }   //  drain()
+}
+//  class AsyncTokenQueue
+
+/*
+ *  End of File
+ */
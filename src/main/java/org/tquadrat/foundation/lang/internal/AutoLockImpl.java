@@ -18,7 +18,9 @@
 
 package org.tquadrat.foundation.lang.internal;
 
+import static java.lang.System.identityHashCode;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
 import java.util.Optional;
@@ -32,6 +34,9 @@ import org.tquadrat.foundation.annotation.NotRecord;
 import org.tquadrat.foundation.lang.Action;
 import org.tquadrat.foundation.lang.AutoLock;
 import org.tquadrat.foundation.lang.Constraint;
+import org.tquadrat.foundation.lang.IntOperation;
+import org.tquadrat.foundation.lang.LockOrderMonitor;
+import org.tquadrat.foundation.lang.LongOperation;
 import org.tquadrat.foundation.lang.Operation;
 
 /**
@@ -59,6 +64,14 @@ public final class AutoLockImpl implements AutoLock
      */
     private final Lock m_Lock;
 
+    /**
+     *  The node for this lock in the lock-order graph; it is {@null} if the
+     *  lock order was not checked when this instance was created.
+     *
+     *  @see LockOrderMonitor
+     */
+    private final LockOrderNode m_OrderNode;
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -71,6 +84,7 @@ public final class AutoLockImpl implements AutoLock
     {
         super();
         m_Lock = requireNonNullArgument( lock, "lock" );
+        m_OrderNode = LockOrderMonitor.isEnabled() ? new LockOrderNode( "%s@%x".formatted( m_Lock.getClass().getSimpleName(), identityHashCode( m_Lock ) ) ) : null;
     }   //  AutoLockImpl()
 
     /**
@@ -92,6 +106,7 @@ public final class AutoLockImpl implements AutoLock
         try
         {
             m_Lock.unlock();
+            if( nonNull( m_OrderNode ) ) m_OrderNode.released();
         }
         catch( final IllegalMonitorStateException ignored ) { /* Deliberately ignored */ }
     }   //  close()
@@ -148,6 +163,99 @@ public final class AutoLockImpl implements AutoLock
         return retValue;
     }   //  execute()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( {"OverlyBroadCatchBlock", "LockAcquiredButNotSafelyReleased"} )
+    @Override
+    public final int executeAsInt( final IntOperation operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final int retValue;
+        lock();
+        try
+        {
+            retValue = operation.getAsInt();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+        finally
+        {
+            close();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeAsInt()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( {"OverlyBroadCatchBlock", "LockAcquiredButNotSafelyReleased"} )
+    @Override
+    public final long executeAsLong( final LongOperation operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final long retValue;
+        lock();
+        try
+        {
+            retValue = operation.getAsLong();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+        finally
+        {
+            close();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeAsLong()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( {"OverlyBroadCatchBlock", "LockAcquiredButNotSafelyReleased"} )
+    @Override
+    public final <R> R executeDirect( final Operation<? extends R> operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final R retValue;
+        lock();
+        try
+        {
+            retValue = operation.get();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+        finally
+        {
+            close();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeDirect()
+
     /**
      *  {@inheritDoc}
      */
@@ -161,7 +269,9 @@ public final class AutoLockImpl implements AutoLock
     @Override
     public final AutoLock lock()
     {
+        if( nonNull( m_OrderNode ) ) m_OrderNode.beforeAcquire();
         m_Lock.lock();
+        if( nonNull( m_OrderNode ) ) m_OrderNode.acquired();
 
         //---* Done *----------------------------------------------------------
         return this;
@@ -174,7 +284,9 @@ public final class AutoLockImpl implements AutoLock
     @Override
     public final AutoLock lockInterruptibly() throws InterruptedException
     {
+        if( nonNull( m_OrderNode ) ) m_OrderNode.beforeAcquire();
         m_Lock.lockInterruptibly();
+        if( nonNull( m_OrderNode ) ) m_OrderNode.acquired();
 
         //---* Done *----------------------------------------------------------
         return this;
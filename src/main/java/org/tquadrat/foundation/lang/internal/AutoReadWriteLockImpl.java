@@ -0,0 +1,127 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.Action;
+import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.AutoLock.ExecutionFailedException;
+import org.tquadrat.foundation.lang.AutoReadWriteLock;
+import org.tquadrat.foundation.lang.Constraint;
+import org.tquadrat.foundation.lang.Operation;
+
+/**
+ *  The implementation of
+ *  {@link AutoReadWriteLock}
+ *  for an arbitrary
+ *  {@link ReadWriteLock}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AutoReadWriteLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AutoReadWriteLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class AutoReadWriteLockImpl implements AutoReadWriteLock
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The wrapped lock.
+     */
+    private final ReadWriteLock m_Lock;
+
+    /**
+     *  The read lock.
+     */
+    private final AutoLock m_ReadLock;
+
+    /**
+     *  The write lock.
+     */
+    private final AutoLock m_WriteLock;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code AutoReadWriteLockImpl} instance.
+     *
+     *  @param  lock    The wrapped lock.
+     */
+    public AutoReadWriteLockImpl( final ReadWriteLock lock )
+    {
+        m_Lock = requireNonNullArgument( lock, "lock" );
+        m_ReadLock = AutoLock.of( m_Lock.readLock() );
+        m_WriteLock = AutoLock.of( m_Lock.writeLock() );
+    }   //  AutoReadWriteLockImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean evaluate( final Constraint constraint ) throws ExecutionFailedException { return m_ReadLock.evaluate( constraint ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <R> Optional<R> execute( final Operation<? extends R> operation ) throws ExecutionFailedException { return m_ReadLock.execute( operation ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ReadWriteLock getWrappedLockInstance() { return m_Lock; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void perform( final Action action ) throws ExecutionFailedException { m_WriteLock.perform( action ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final AutoLock readLock() { return m_ReadLock; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final AutoLock writeLock() { return m_WriteLock; }
+}
+//  class AutoReadWriteLockImpl
+
+/*
+ *  End of File
+ */
@@ -17,10 +17,15 @@
 
 package org.tquadrat.foundation.lang.internal;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
 import java.io.Serial;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 
 import org.apiguardian.api.API;
@@ -100,6 +105,14 @@ public final class AutoSemaphoreImpl extends Semaphore implements AutoSemaphore
     }
     //  class TokenImpl
 
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The queue for the asynchronous requests for tokens.
+     */
+    private final transient AsyncTokenQueue m_AsyncQueue;
+
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
@@ -125,6 +138,7 @@ public final class AutoSemaphoreImpl extends Semaphore implements AutoSemaphore
     public AutoSemaphoreImpl( final int permits )
     {
         super( permits );
+        m_AsyncQueue = new AsyncTokenQueue( this::tryAcquire, this::createToken );
     }   //  AutoSemaphoreImpl()
 
     /**
@@ -140,6 +154,7 @@ public final class AutoSemaphoreImpl extends Semaphore implements AutoSemaphore
     public AutoSemaphoreImpl( final int permits, final boolean fair )
     {
         super( permits, fair );
+        m_AsyncQueue = new AsyncTokenQueue( this::tryAcquire, this::createToken );
     }   //  AutoSemaphoreImpl()
 
         /*---------*\
@@ -153,12 +168,18 @@ public final class AutoSemaphoreImpl extends Semaphore implements AutoSemaphore
     public final Token acquireToken( final int permits ) throws InterruptedException, IllegalArgumentException
     {
         acquire( permits );
-        final var retValue = new TokenImpl( permits );
+        final var retValue = createToken( permits );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  acquireToken()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CompletableFuture<Token> acquireTokenAsync( final int permits ) throws IllegalArgumentException { return m_AsyncQueue.acquire( permits ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -167,17 +188,81 @@ public final class AutoSemaphoreImpl extends Semaphore implements AutoSemaphore
     public final Token acquireTokenUninterruptibly( final int permits ) throws IllegalArgumentException
     {
         acquireUninterruptibly( permits );
-        final var retValue = new TokenImpl( permits );
+        final var retValue = createToken( permits );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  acquireTokenUninterruptibly()
 
+    /**
+     *  Creates a token for the given number of permits that were acquired
+     *  already.
+     *
+     *  @param  permits The number of permits.
+     *  @return The new token.
+     */
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    private final Token createToken( final int permits ) { return new TokenImpl( permits ); }
+
     /**
      *  {@inheritDoc}
      */
     @Override
     public final Semaphore getSemaphore() { return this; }
+
+    /**
+     *  Replaces a deserialised instance by a new one with the same number of
+     *  available permits and the same fairness setting, as the queue for the
+     *  asynchronous requests for tokens is not serialised.
+     *
+     *  @return The new instance.
+     */
+    @Serial
+    private final Object readResolve() { return new AutoSemaphoreImpl( availablePermits(), isFair() ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void release() { release( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>Waiting asynchronous requests for tokens will be granted, if
+     *  possible.</p>
+     */
+    @Override
+    public final void release( final int permits )
+    {
+        super.release( permits );
+        m_AsyncQueue.drain();
+    }   //  release()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits ) throws IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits ) ? Optional.of( createToken( permits ) ) : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits, final Duration timeout ) throws InterruptedException, IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits, NANOSECONDS.convert( requireNonNullArgument( timeout, "timeout" ) ), NANOSECONDS )
+            ? Optional.of( createToken( permits ) )
+            : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
 }
 //  class AutoSemaphore
 
@@ -21,15 +21,20 @@ package org.tquadrat.foundation.lang.internal;
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.MountPoint;
+import org.tquadrat.foundation.lang.Status;
 import org.tquadrat.foundation.lang.StringConverter;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.String.format;
-import static java.util.Arrays.stream;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.checkFromToIndex;
 import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
@@ -41,15 +46,22 @@ import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
  *  {@link Enum}.}</p>
  *  <p>The implementation of
  *  {@link #fromString(CharSequence)}
- *  provided here uses
- *  {@link Class#getEnumConstants()}
- *  to find the {@code enum} value:</p>
- *  <div class="source-container"><pre>&hellip;
- *  T result = stream( m_EnumType.getEnumConstants() )
- *      .filter( constant -&gt; value.equals( constant.name() ) )
- *      .findFirst()
- *      .orElseThrow( () -&gt; new IllegalArgumentException( &hellip; );
- *  &hellip;</pre></div>
+ *  provided here looks up the given value in a hash table that is built
+ *  once, when the converter is created, from the
+ *  {@linkplain Enum#name() names}
+ *  of the constants returned by
+ *  {@link Class#getEnumConstants()}.
+ *  The given value will not be converted to a String for that, so that
+ *  {@link #fromString(CharSequence, int, int)}
+ *  can parse a range from a larger buffer without creating an intermediate
+ *  object.</p>
+ *  <p>Optionally, the lookup ignores the case of the value, and additional
+ *  aliases for the constants can be provided.</p>
+ *  <p>{@link #tryFromString(CharSequence, int, int)}
+ *  will not throw an exception for an invalid value; instead it returns a
+ *  {@link Status}
+ *  instance with the error code
+ *  {@value #ERROR_UnknownValue}.</p>
  *  <p>The implementation of
  *  {@link #toString(Enum)}
  *  in this class will return the value of
@@ -71,6 +83,18 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
+    /**
+     *  The error code for an unknown value that is returned by
+     *  {@link #tryFromString(CharSequence, int, int)}:
+     *  {@value}.
+     */
+    public static final String ERROR_UnknownValue = "Unknown/invalid value";
+
+    /**
+     *  The error message for an ambiguous key in the lookup table: {@value}.
+     */
+    public static final String MSG_AmbiguousKey = "Ambiguous name or alias for %2$s: %1$s";
+
     /**
      *  The error message for the name of an unknown class on the command line:
      *  {@value}.
@@ -80,6 +104,17 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The aliases for the constants; it is kept as a serializable copy, as
+     *  it is needed to rebuild the lookup table after deserialisation. It is
+     *  {@null} for an instance that was serialised by a version of this
+     *  class without aliases.
+     *
+     *  @serial
+     */
+    @SuppressWarnings( "CollectionDeclaredAsConcreteClass" )
+    private final HashMap<String,T> m_Aliases;
+
     /**
      *  The data type of the property to set.
      *
@@ -87,6 +122,33 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
      */
     private final Class<T> m_EnumType;
 
+    /**
+     *  The status that is returned for an unknown value.
+     */
+    private transient Status<T,String> m_Failure;
+
+    /**
+     *  The flag that indicates whether the lookup ignores the case.
+     *
+     *  @serial
+     */
+    private final boolean m_IgnoreCase;
+
+    /**
+     *  The keys of the lookup table.
+     */
+    private transient String [] m_Keys;
+
+    /**
+     *  The bit mask for the index in the lookup table.
+     */
+    private transient int m_Mask;
+
+    /**
+     *  The values of the lookup table.
+     */
+    private transient Object [] m_Values;
+
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
@@ -107,28 +169,105 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
      *  @param  enumType    The data type for the property.
      */
     public DefaultEnumStringConverter( final Class<T> enumType )
+    {
+        this( enumType, false, Map.of() );
+    }   //  EnumValueHandler()
+
+    /**
+     *  Creates a new {@code EnumValueHandler} instance.
+     *
+     *  @param  enumType    The data type for the property.
+     *  @param  ignoreCase  {@true} if the lookup should ignore the case of
+     *      the value, {@false} if the value has to match exactly.
+     *  @param  aliases The aliases for the constants; the key is the alias,
+     *      the value the constant.
+     *  @throws IllegalArgumentException    An alias is equal to the name of
+     *      a constant or to another alias, possibly ignoring the case.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    public DefaultEnumStringConverter( final Class<T> enumType, final boolean ignoreCase, final Map<String,? extends T> aliases ) throws IllegalArgumentException
     {
         m_EnumType = requireNonNullArgument( enumType, "enumType" );
+        m_IgnoreCase = ignoreCase;
+        m_Aliases = new HashMap<>( requireNonNullArgument( aliases, "aliases" ) );
+        initialise();
     }   //  EnumValueHandler()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Adds the given key to the lookup table.
+     *
+     *  @param  key The key.
+     *  @param  value   The value.
+     *  @throws IllegalArgumentException    The key is already in the table.
+     */
+    private final void addKey( final String key, final T value ) throws IllegalArgumentException
+    {
+        if( lookup( key, 0, key.length() ) >= 0 ) throw new IllegalArgumentException( format( MSG_AmbiguousKey, key, m_EnumType.getName() ) );
+        var index = hash( key, 0, key.length() ) & m_Mask;
+        while( nonNull( m_Keys [index] ) ) index = (index + 1) & m_Mask;
+        m_Keys [index] = key;
+        m_Values [index] = requireNonNullArgument( value, "value" );
+    }   //  addKey()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The
+     *  {@linkplain Enum#name() name}
+     *  of the constant is appended; no String is created.</p>
+     */
+    @Override
+    public StringBuilder appendTo( final StringBuilder target, final T source )
+    {
+        requireNonNullArgument( target, "target" );
+        if( nonNull( source ) ) target.append( source.name() );
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
+    /**
+     *  Folds the given character for the comparison and the hash
+     *  calculation, if the case is to be ignored.
+     *
+     *  @param  c   The character.
+     *  @return The folded character.
+     */
+    private final char fold( final char c ) { return m_IgnoreCase ? Character.toLowerCase( Character.toUpperCase( c ) ) : c; }
+
     /**
      *  {@inheritDoc}
      */
     @MountPoint
     @Override
     public T fromString( final CharSequence source ) throws IllegalArgumentException
+    {
+        final var retValue = isNull( source ) ? null : fromString( source, 0, source.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  fromString()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public T fromString( final CharSequence source, final int start, final int end ) throws IllegalArgumentException, IndexOutOfBoundsException
     {
         T retValue = null;
         if( nonNull( source ) )
         {
-            if( source.isEmpty() ) throw new IllegalArgumentException( format( MSG_UnknownValue, source ) );
-            retValue = stream( m_EnumType.getEnumConstants() )
-                .filter( constant -> source.toString().equals( constant.name() ) )
-                .findFirst()
-                .orElseThrow( () -> new IllegalArgumentException( format( MSG_UnknownValue, source ) ) );
+            checkFromToIndex( start, end, source.length() );
+            final var index = lookup( source, start, end );
+            if( index < 0 ) throw new IllegalArgumentException( format( MSG_UnknownValue, source.subSequence( start, end ) ) );
+            @SuppressWarnings( "unchecked" )
+            final var value = (T) m_Values [index];
+            retValue = value;
         }
 
         //---* Done *----------------------------------------------------------
@@ -143,6 +282,98 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
     @SuppressWarnings( "PublicMethodNotExposedInInterface" )
     public final Collection<Class<T>> getSubjectClass() { return List.of( m_EnumType ); }
 
+    /**
+     *  Calculates the hash code for the given range.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The hash code.
+     */
+    private final int hash( final CharSequence source, final int start, final int end )
+    {
+        var retValue = 0;
+        for( var i = start; i < end; ++i ) retValue = 31 * retValue + fold( source.charAt( i ) );
+        retValue ^= retValue >>> 16;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hash()
+
+    /**
+     *  Creates the lookup table and the other transient state.
+     *
+     *  @throws IllegalArgumentException    An alias is equal to the name of
+     *      a constant or to another alias, possibly ignoring the case.
+     */
+    private final void initialise() throws IllegalArgumentException
+    {
+        m_Failure = new Status<>( null, ERROR_UnknownValue );
+
+        final var constants = m_EnumType.getEnumConstants();
+        final Map<String,T> aliases = isNull( m_Aliases ) ? Map.of() : m_Aliases;
+        final var capacity = Integer.highestOneBit( Math.max( 1, (constants.length + aliases.size()) * 2 ) ) << 1;
+        m_Mask = capacity - 1;
+        m_Keys = new String [capacity];
+        m_Values = new Object [capacity];
+        for( final var constant : constants ) addKey( constant.name(), constant );
+        for( final var entry : aliases.entrySet() ) addKey( entry.getKey(), entry.getValue() );
+    }   //  initialise()
+
+    /**
+     *  Looks up the given range in the lookup table.
+     *
+     *  @param  source  The buffer.
+     *  @param  start   The start index of the range, inclusive.
+     *  @param  end The end index of the range, exclusive.
+     *  @return The index of the matching entry in the lookup table, or -1 if
+     *      there is no matching entry.
+     */
+    private final int lookup( final CharSequence source, final int start, final int end )
+    {
+        final var length = end - start;
+        var retValue = -1;
+        var index = hash( source, start, end ) & m_Mask;
+        SearchLoop: while( nonNull( m_Keys [index] ) )
+        {
+            final var key = m_Keys [index];
+            if( key.length() == length )
+            {
+                var matches = true;
+                for( var i = 0; matches && (i < length); ++i )
+                {
+                    matches = fold( key.charAt( i ) ) == fold( source.charAt( start + i ) );
+                }
+                if( matches )
+                {
+                    retValue = index;
+                    break SearchLoop;
+                }
+            }
+            index = (index + 1) & m_Mask;
+        }   //  SearchLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lookup()
+
+    /**
+     *  Restores the transient state after deserialisation. Unlike
+     *  {@code readResolve()},
+     *  this method is called for the instances of subclasses, too.
+     *
+     *  @param  inputStream The stream that holds the serialised instance.
+     *  @throws IOException Reading the stream failed.
+     *  @throws ClassNotFoundException  The class of a serialised object
+     *      could not be found.
+     */
+    @Serial
+    private final void readObject( final ObjectInputStream inputStream ) throws IOException, ClassNotFoundException
+    {
+        inputStream.defaultReadObject();
+        initialise();
+    }   //  readObject()
+
     /**
      *  {@inheritDoc}
      */
@@ -155,9 +386,36 @@ public class DefaultEnumStringConverter<T extends Enum<T>> implements StringConv
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  toString()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public Status<T,String> tryFromString( final CharSequence source, final int start, final int end ) throws IndexOutOfBoundsException
+    {
+        var retValue = m_Failure;
+        if( isNull( source ) )
+        {
+            retValue = new Status<>( null, null );
+        }
+        else
+        {
+            checkFromToIndex( start, end, source.length() );
+            final var index = lookup( source, start, end );
+            if( index >= 0 )
+            {
+                @SuppressWarnings( "unchecked" )
+                final var value = (T) m_Values [index];
+                retValue = new Status<>( value, null );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryFromString()
 }
 //  class DefaultEnumStringConverter
 
 /*
  *  End of File
- */
\ No newline at end of file
+ */
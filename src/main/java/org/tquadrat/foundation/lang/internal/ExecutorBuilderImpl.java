@@ -0,0 +1,593 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Integer.max;
+import static java.lang.Integer.min;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.AutoSemaphore;
+import org.tquadrat.foundation.lang.ExecutorBuilder;
+import org.tquadrat.foundation.lang.Objects;
+import org.tquadrat.foundation.lang.ThreadFactoryBuilder;
+
+/**
+ *  The implementation of
+ *  {@link ExecutorBuilder}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class ExecutorBuilderImpl implements ExecutorBuilder
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary An
+     *  {@link ExecutorService}
+     *  that limits the number of tasks that are executed at the same time by
+     *  another executor that starts a new thread for each task.}</p>
+     *  <p>Each task waits on an
+     *  {@link AutoSemaphore}
+     *  inside its own thread before it is run; as the threads are virtual,
+     *  waiting is cheap, and the submitting thread will never block.</p>
+     *  <p>The tasks that are still waiting are tracked by this executor
+     *  itself; a call to
+     *  {@link #shutdownNow()}
+     *  returns them, and cancels those that are instances of
+     *  {@link Future},
+     *  like the tasks created by
+     *  {@link #submit(Runnable) submit()},
+     *  so that nobody will wait for them forever. If a waiting thread is
+     *  interrupted otherwise, its task will be cancelled, too.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class BoundedThreadPerTaskExecutor extends AbstractExecutorService
+    {
+            /*---------------*\
+        ====** Inner Classes **================================================
+            \*---------------*/
+        /**
+         *  The wrapper for a task that waits for a token before it runs the
+         *  task.
+         *
+         *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+         *  @version $Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+         *  @since 0.26.0
+         *
+         *  @UMLGraph.link
+         */
+        @ClassVersion( sourceVersion = "$Id: ExecutorBuilderImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+        @API( status = INTERNAL, since = "0.26.0" )
+        private final class PendingTask implements Runnable
+        {
+                /*------------*\
+            ====** Attributes **===============================================
+                \*------------*/
+            /**
+             *  The task.
+             */
+            private final Runnable m_Command;
+
+                /*--------------*\
+            ====** Constructors **=============================================
+                \*--------------*/
+            /**
+             *  Creates a new instance of {@code PendingTask}.
+             *
+             *  @param  command The task.
+             */
+            public PendingTask( final Runnable command ) { m_Command = command; }
+
+                /*---------*\
+            ====** Methods **==================================================
+                \*---------*/
+            /**
+             *  Cancels the task if it is a
+             *  {@link Future}.
+             *
+             *  @return The task.
+             */
+            public final Runnable cancel()
+            {
+                if( m_Command instanceof final Future<?> future ) future.cancel( false );
+
+                //---* Done *--------------------------------------------------
+                return m_Command;
+            }   //  cancel()
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final void run()
+            {
+                try( final var _ = m_Semaphore.acquireToken() )
+                {
+                    if( m_Pending.remove( this ) ) m_Command.run();
+                }
+                catch( final InterruptedException _ )
+                {
+                    if( m_Pending.remove( this ) ) cancel();
+                    Thread.currentThread().interrupt();
+                }
+            }   //  run()
+        }
+        //  class PendingTask
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The executor that runs the tasks.
+         */
+        private final ExecutorService m_Delegate;
+
+        /**
+         *  The tasks that are waiting for a token; a task that is removed
+         *  from this set by another thread must not be run anymore.
+         */
+        private final Set<PendingTask> m_Pending = ConcurrentHashMap.newKeySet();
+
+        /**
+         *  The semaphore that limits the concurrency.
+         */
+        private final AutoSemaphore m_Semaphore;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code BoundedThreadPerTaskExecutor}.
+         *
+         *  @param  delegate    The executor that runs the tasks.
+         *  @param  maxConcurrency  The maximum number of tasks that are
+         *      executed at the same time.
+         */
+        public BoundedThreadPerTaskExecutor( final ExecutorService delegate, final int maxConcurrency )
+        {
+            m_Delegate = requireNonNullArgument( delegate, "delegate" );
+            m_Semaphore = AutoSemaphore.of( maxConcurrency );
+        }   //  BoundedThreadPerTaskExecutor()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean awaitTermination( final long timeout, final TimeUnit unit ) throws InterruptedException
+        {
+            return m_Delegate.awaitTermination( timeout, unit );
+        }   //  awaitTermination()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void execute( final Runnable command )
+        {
+            final var task = new PendingTask( requireNonNullArgument( command, "command" ) );
+            m_Pending.add( task );
+            try
+            {
+                m_Delegate.execute( task );
+            }
+            catch( final RejectedExecutionException e )
+            {
+                m_Pending.remove( task );
+                throw e;
+            }
+        }   //  execute()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isShutdown() { return m_Delegate.isShutdown(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean isTerminated() { return m_Delegate.isTerminated(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void shutdown() { m_Delegate.shutdown(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final List<Runnable> shutdownNow()
+        {
+            final List<Runnable> retValue = new ArrayList<>();
+            for( final var task : m_Pending )
+            {
+                if( m_Pending.remove( task ) ) retValue.add( task.cancel() );
+            }
+            retValue.addAll( m_Delegate.shutdownNow() );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  shutdownNow()
+    }
+    //  class BoundedThreadPerTaskExecutor
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The marker for a pool size that was not set explicitly: {@value}.
+     */
+    private static final int NOT_SET = -1;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The flag whether the core threads may time out. The default is
+     *  {@false}.
+     */
+    private boolean m_AllowCoreThreadTimeOut = false;
+
+    /**
+     *  The core pool size;
+     *  {@value #NOT_SET}
+     *  if it was not set. See
+     *  {@link #effectiveCorePoolSize()}
+     *  for the default.
+     */
+    private int m_CorePoolSize = NOT_SET;
+
+    /**
+     *  The keep-alive time for idle threads. The default is
+     *  {@link ExecutorBuilder#DEFAULT_KEEP_ALIVE_TIME}.
+     */
+    private Duration m_KeepAliveTime = DEFAULT_KEEP_ALIVE_TIME;
+
+    /**
+     *  The maximum number of tasks that are executed at the same time in the
+     *  mode
+     *  {@link ExecutorBuilder.Mode#VIRTUAL_THREADS VIRTUAL_THREADS}.
+     *  The default of 0 means that the concurrency is not limited.
+     */
+    private int m_MaxConcurrency = 0;
+
+    /**
+     *  The maximum pool size, or the parallelism of a fork-join pool;
+     *  {@value #NOT_SET}
+     *  if it was not set. See
+     *  {@link #effectiveMaximumPoolSize()}
+     *  for the default.
+     */
+    private int m_MaximumPoolSize = NOT_SET;
+
+    /**
+     *  The kind of executor. The default is
+     *  {@link ExecutorBuilder.Mode#THREAD_POOL THREAD_POOL}.
+     */
+    private Mode m_Mode = Mode.THREAD_POOL;
+
+    /**
+     *  The capacity of the queue. The default is
+     *  {@link ExecutorBuilder#DEFAULT_QUEUE_CAPACITY}.
+     */
+    private int m_QueueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     *  The policy for rejected tasks. The default is
+     *  {@link ExecutorBuilder.RejectionPolicy#ABORT ABORT}.
+     */
+    private RejectionPolicy m_RejectionPolicy = RejectionPolicy.ABORT;
+
+    /**
+     *  The thread factory. The default is {@null}, meaning that a factory
+     *  with the default settings will be created by
+     *  {@link ThreadFactoryBuilder}.
+     */
+    private ThreadFactory m_ThreadFactory = null;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code ExecutorBuilderImpl}.
+     */
+    public ExecutorBuilderImpl() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorService build() throws ValidationException
+    {
+        final ExecutorService retValue = switch( m_Mode )
+        {
+            case THREAD_POOL -> buildThreadPool();
+            case VIRTUAL_THREADS ->
+            {
+                final var threadFactory = isNull( m_ThreadFactory )
+                    ? ThreadFactoryBuilder.obtainBuilder().setVirtual( true ).build()
+                    : m_ThreadFactory;
+                final var executor = Executors.newThreadPerTaskExecutor( threadFactory );
+                yield m_MaxConcurrency > 0 ? new BoundedThreadPerTaskExecutor( executor, m_MaxConcurrency ) : executor;
+            }
+            case FORK_JOIN -> new ForkJoinPool( effectiveMaximumPoolSize(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  build()
+
+    /**
+     *  Creates the
+     *  {@link ThreadPoolExecutor}.
+     *
+     *  @return The thread pool.
+     *  @throws ValidationException The core pool size is greater than the
+     *      maximum pool size, and both were set explicitly.
+     */
+    private final ThreadPoolExecutor buildThreadPool() throws ValidationException
+    {
+        if( (m_CorePoolSize != NOT_SET) && (m_MaximumPoolSize != NOT_SET) && (m_CorePoolSize > m_MaximumPoolSize) )
+        {
+            throw new ValidationException( "The core pool size %1$d is greater than the maximum pool size %2$d"
+                .formatted( m_CorePoolSize, m_MaximumPoolSize ) );
+        }
+
+        final BlockingQueue<Runnable> queue = m_QueueCapacity == 0
+            ? new SynchronousQueue<>()
+            : new ArrayBlockingQueue<>( m_QueueCapacity );
+        final RejectedExecutionHandler rejectionHandler = switch( m_RejectionPolicy )
+        {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        final var threadFactory = isNull( m_ThreadFactory ) ? ThreadFactoryBuilder.obtainBuilder().build() : m_ThreadFactory;
+
+        final var retValue = new ThreadPoolExecutor( effectiveCorePoolSize(), effectiveMaximumPoolSize(), m_KeepAliveTime.toNanos(), TimeUnit.NANOSECONDS, queue, threadFactory, rejectionHandler );
+        if( m_AllowCoreThreadTimeOut && !m_KeepAliveTime.isZero() ) retValue.allowCoreThreadTimeOut( true );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  buildThreadPool()
+
+    /**
+     *  Returns the core pool size. If it was not set, it is the number of
+     *  available processors, but not more than an explicitly set maximum
+     *  pool size.
+     *
+     *  @return The core pool size.
+     */
+    private final int effectiveCorePoolSize()
+    {
+        final var processors = Runtime.getRuntime().availableProcessors();
+        final var retValue = m_CorePoolSize != NOT_SET
+            ? m_CorePoolSize
+            : m_MaximumPoolSize != NOT_SET ? min( processors, m_MaximumPoolSize ) : processors;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  effectiveCorePoolSize()
+
+    /**
+     *  Returns the maximum pool size. If it was not set, it is the number of
+     *  available processors, but not less than an explicitly set core pool
+     *  size.
+     *
+     *  @return The maximum pool size.
+     */
+    private final int effectiveMaximumPoolSize()
+    {
+        final var processors = Runtime.getRuntime().availableProcessors();
+        final var retValue = m_MaximumPoolSize != NOT_SET
+            ? m_MaximumPoolSize
+            : max( processors, m_CorePoolSize );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  effectiveMaximumPoolSize()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setAllowCoreThreadTimeOut( final boolean flag )
+    {
+        m_AllowCoreThreadTimeOut = flag;
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setAllowCoreThreadTimeOut()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setCorePoolSize( final int corePoolSize ) throws ValidationException
+    {
+        m_CorePoolSize = requireValidIntegerArgument( corePoolSize, "corePoolSize", v -> v >= 0 );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setCorePoolSize()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setKeepAliveTime( final Duration keepAliveTime ) throws ValidationException
+    {
+        m_KeepAliveTime = requireValidArgument( keepAliveTime, "keepAliveTime", v -> !v.isNegative() );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setKeepAliveTime()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setMaxConcurrency( final int maxConcurrency ) throws ValidationException
+    {
+        m_MaxConcurrency = requireValidIntegerArgument( maxConcurrency, "maxConcurrency", v -> v >= 0 );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setMaxConcurrency()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setMaximumPoolSize( final int maximumPoolSize ) throws ValidationException
+    {
+        m_MaximumPoolSize = requireValidIntegerArgument( maximumPoolSize, "maximumPoolSize", v -> v > 0 );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setMaximumPoolSize()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setMode( final Mode mode )
+    {
+        m_Mode = requireNonNullArgument( mode, "mode" );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setMode()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setQueueCapacity( final int queueCapacity ) throws ValidationException
+    {
+        m_QueueCapacity = requireValidIntegerArgument( queueCapacity, "queueCapacity", v -> v >= 0 );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setQueueCapacity()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setRejectionPolicy( final RejectionPolicy rejectionPolicy )
+    {
+        m_RejectionPolicy = requireNonNullArgument( rejectionPolicy, "rejectionPolicy" );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setRejectionPolicy()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ExecutorBuilderImpl setThreadFactory( final ThreadFactory threadFactory )
+    {
+        m_ThreadFactory = requireNonNullArgument( threadFactory, "threadFactory" );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setThreadFactory()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        final var buffer = new StringJoiner( ", ", "%s[".formatted( getClass().getName() ), "]" )
+            .add( "Mode=%s".formatted( m_Mode.name() ) )
+            .add( "CorePoolSize=%d".formatted( effectiveCorePoolSize() ) )
+            .add( "MaximumPoolSize=%d".formatted( effectiveMaximumPoolSize() ) )
+            .add( "KeepAliveTime=%s".formatted( m_KeepAliveTime ) )
+            .add( "AllowCoreThreadTimeOut=%b".formatted( m_AllowCoreThreadTimeOut ) )
+            .add( "QueueCapacity=%d".formatted( m_QueueCapacity ) )
+            .add( "RejectionPolicy=%s".formatted( m_RejectionPolicy.name() ) )
+            .add( "MaxConcurrency=%d".formatted( m_MaxConcurrency ) )
+            .add( "ThreadFactory='%s'".formatted( Objects.toString( m_ThreadFactory ) ) );
+
+        //---* Compose the return value *--------------------------------------
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class ExecutorBuilderImpl
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,474 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.CommonConstants.NULL_STRING;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidArgument;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.ExpiringLazy;
+import org.tquadrat.foundation.lang.Lazy;
+import org.tquadrat.foundation.lang.Objects;
+
+/**
+ *  <p>{@summary The implementation of the interface
+ *  {@link ExpiringLazy}.}</p>
+ *  <p>The current value is kept together with its refresh and expiration
+ *  times in an immutable snapshot that is published through a
+ *  {@code volatile} field; a call to
+ *  {@link #get()}
+ *  for a valid value reads the clock and that field, but does not lock.</p>
+ *  <p>The times are kept as nanoseconds; for the
+ *  {@linkplain InstantSource#system() system clock},
+ *  these are taken from
+ *  {@link System#nanoTime()},
+ *  so that the call does not allocate, too. Any other clock is read through
+ *  {@link InstantSource#instant()};
+ *  that allocates an
+ *  {@link java.time.Instant}
+ *  on each call, but such a clock is intended for testing only.</p>
+ *  <p>The supplier must not call
+ *  {@link #get()}
+ *  on the same instance when no valid value is available; this would
+ *  cause an
+ *  {@link IllegalStateException}.</p>
+ *  <p>The loading of a new value is single flight, like for
+ *  {@link LazyImpl}:
+ *  the first thread publishes a
+ *  {@link CompletableFuture}
+ *  and calls the supplier (or schedules the call with the executor for a
+ *  refresh), all other threads that need the new value are waiting on that
+ *  future.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ExpiringLazyImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ *
+ *  @param  <T> The type of the value for this instance of
+ *      {@code ExpiringLazy}.
+ */
+@ClassVersion( sourceVersion = "$Id: ExpiringLazyImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class ExpiringLazyImpl<T> implements ExpiringLazy<T>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The value together with the times when it should be refreshed and
+     *  when it expires.
+     *
+     *  @param  <T> The type of the value.
+     *  @param  value   The value.
+     *  @param  refreshAt   The time in nanoseconds when the value should be
+     *      refreshed.
+     *  @param  expiresAt   The time in nanoseconds when the value expires.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ExpiringLazyImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ExpiringLazyImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Snapshot<T>( T value, long refreshAt, long expiresAt )
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Checks whether the value is expired at the given time.
+         *
+         *  @param  now The time in nanoseconds.
+         *  @return {@true} if the value is expired, {@false} otherwise.
+         */
+        public final boolean isExpired( final long now ) { return now - expiresAt >= 0; }
+
+        /**
+         *  Checks whether the value should be refreshed at the given time.
+         *
+         *  @param  now The time in nanoseconds.
+         *  @return {@true} if the value should be refreshed, {@false}
+         *      otherwise.
+         */
+        public final boolean isStale( final long now ) { return now - refreshAt >= 0; }
+    }
+    //  record Snapshot
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The clock; it returns the current time in nanoseconds.
+     */
+    private final LongSupplier m_Clock;
+
+    /**
+     *  The completion for a running load or refresh; it is {@null} while no
+     *  new value is loaded.
+     */
+    @SuppressWarnings( "unused" )
+    private volatile CompletableFuture<T> m_Completion;
+
+    /**
+     *  The executor for the refresh; {@null} if the value should not be
+     *  refreshed in the background.
+     */
+    private final Executor m_Executor;
+
+    /**
+     *  The thread that currently calls the supplier; used to detect a
+     *  recursive call to
+     *  {@link #get()}
+     *  from the supplier.
+     */
+    private volatile Thread m_Loader;
+
+    /**
+     *  The time in nanoseconds before the expiration when the refresh will
+     *  be started.
+     */
+    private final long m_RefreshAhead;
+
+    /**
+     *  The current value; {@null} if the value was not yet loaded, or if it
+     *  was invalidated.
+     */
+    private volatile Snapshot<T> m_Snapshot;
+
+    /**
+     *  The supplier for the value.
+     */
+    private final Supplier<T> m_Supplier;
+
+    /**
+     *  The time to live in nanoseconds for a value.
+     */
+    private final long m_TimeToLive;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The handle for the field
+     *  {@link #m_Completion}.
+     */
+    private static final VarHandle m_CompletionHandle;
+
+    static
+    {
+        try
+        {
+            m_CompletionHandle = MethodHandles.lookup().findVarHandle( ExpiringLazyImpl.class, "m_Completion", CompletableFuture.class );
+        }
+        catch( final NoSuchFieldException | IllegalAccessException e )
+        {
+            throw new ExceptionInInitializerError( e );
+        }
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ExpiringLazyImpl} instance.
+     *
+     *  @param  supplier    The supplier for the value.
+     *  @param  timeToLive  The time to live for a value.
+     *  @param  refreshAhead    The time before the expiration when the
+     *      refresh will be started.
+     *  @param  executor    The executor for the refresh; {@null} if the
+     *      value should not be refreshed in the background.
+     *  @param  clock   The clock.
+     */
+    public ExpiringLazyImpl( final Supplier<T> supplier, final Duration timeToLive, final Duration refreshAhead, final Executor executor, final InstantSource clock )
+    {
+        m_Supplier = requireNonNullArgument( supplier, "supplier" );
+        final var ttl = requireValidArgument( timeToLive, "timeToLive", Duration::isPositive );
+        m_TimeToLive = ttl.toNanos();
+        m_RefreshAhead = requireValidArgument( refreshAhead, "refreshAhead", v -> !v.isNegative() && (v.compareTo( ttl ) < 0) ).toNanos();
+        m_Executor = executor;
+        m_Clock = requireNonNullArgument( clock, "clock" ) == InstantSource.system()
+            ? System::nanoTime
+            : () ->
+            {
+                final var instant = clock.instant();
+                return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+            };
+        m_Loader = null;
+        m_Completion = null;
+        m_Snapshot = null;
+    }   //  ExpiringLazyImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean equals( final Object obj )
+    {
+        var retValue = this == obj;
+        if( !retValue && nonNull( obj ) )
+        {
+            if( obj instanceof final Lazy<?> other )
+            {
+                retValue = get().equals( other.get() );
+            }
+            else
+            {
+                retValue = get().equals( obj );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  equals()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final T get()
+    {
+        final var now = m_Clock.getAsLong();
+        var snapshot = m_Snapshot;
+        if( isNull( snapshot ) || snapshot.isExpired( now ) )
+        {
+            snapshot = load( snapshot );
+        }
+        else if( nonNull( m_Executor ) && snapshot.isStale( now ) )
+        {
+            refresh();
+        }
+        final var retValue = snapshot.value();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  get()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() { return get().hashCode(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void invalidate() { m_Snapshot = null; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean isPresent()
+    {
+        final var snapshot = m_Snapshot;
+        final var retValue = nonNull( snapshot ) && !snapshot.isExpired( m_Clock.getAsLong() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isPresent()
+
+    /**
+     *  Loads a new value and waits for it.
+     *
+     *  @param  expiredSnapshot The snapshot that was found expired by the
+     *      calling thread; can be {@null}.
+     *  @return The new snapshot.
+     */
+    @SuppressWarnings( "unchecked" )
+    private final Snapshot<T> load( final Snapshot<T> expiredSnapshot )
+    {
+        Snapshot<T> retValue;
+        final var newCompletion = new CompletableFuture<T>();
+        final var completion = (CompletableFuture<T>) m_CompletionHandle.compareAndExchange( this, null, newCompletion );
+        if( isNull( completion ) )
+        {
+            /*
+             * Another thread may have loaded the value after this one found
+             * the expired snapshot.
+             */
+            retValue = m_Snapshot;
+            if( isNull( retValue ) || (retValue == expiredSnapshot) || retValue.isExpired( m_Clock.getAsLong() ) )
+            {
+                retValue = runSupplier( newCompletion );
+            }
+            else
+            {
+                m_Completion = null;
+                newCompletion.complete( retValue.value() );
+            }
+        }
+        else
+        {
+            //---* Wait for the other thread *---------------------------------
+            if( m_Loader == Thread.currentThread() ) throw new IllegalStateException( "Recursive initialisation of ExpiringLazy" );
+            try
+            {
+                completion.join();
+            }
+            catch( final CompletionException e )
+            {
+                switch( e.getCause() )
+                {
+                    case final RuntimeException cause -> throw cause;
+                    case final Error cause -> throw cause;
+                    case null, default -> throw e;
+                }
+            }
+            retValue = m_Snapshot;
+            if( isNull( retValue ) || retValue.isExpired( m_Clock.getAsLong() ) ) retValue = load( retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  load()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public <X extends Throwable> T orElseThrow( final Supplier<? extends X> exceptionSupplier ) throws X
+    {
+        final var snapshot = m_Snapshot;
+        if( isNull( snapshot ) || snapshot.isExpired( m_Clock.getAsLong() ) ) throw exceptionSupplier.get();
+
+        //---* Done *----------------------------------------------------------
+        return snapshot.value();
+    }   //  orElseThrow()
+
+    /**
+     *  Schedules the refresh of the value with the executor, unless a load
+     *  or refresh is already running.
+     */
+    @SuppressWarnings( "unchecked" )
+    private final void refresh()
+    {
+        final var newCompletion = new CompletableFuture<T>();
+        final var completion = (CompletableFuture<T>) m_CompletionHandle.compareAndExchange( this, null, newCompletion );
+        if( isNull( completion ) )
+        {
+            try
+            {
+                m_Executor.execute( () ->
+                {
+                    try
+                    {
+                        runSupplier( newCompletion );
+                    }
+                    catch( final RuntimeException | Error _ )
+                    {
+                        /*
+                         * The current value remains valid until it expires;
+                         * the next call to get() will try again.
+                         */
+                    }
+                } );
+            }
+            catch( final RejectedExecutionException _ )
+            {
+                m_Completion = null;
+                newCompletion.complete( null );
+            }
+        }
+    }   //  refresh()
+
+    /**
+     *  Calls the supplier and publishes the result as the new snapshot.
+     *
+     *  @param  completion  The completion for the waiting threads.
+     *  @return The new snapshot.
+     */
+    private final Snapshot<T> runSupplier( final CompletableFuture<T> completion )
+    {
+        final Snapshot<T> retValue;
+        try
+        {
+            final T value;
+            m_Loader = Thread.currentThread();
+            try
+            {
+                value = m_Supplier.get();
+            }
+            finally
+            {
+                m_Loader = null;
+            }
+            final var expiresAt = m_Clock.getAsLong() + m_TimeToLive;
+            retValue = new Snapshot<>( value, expiresAt - m_RefreshAhead, expiresAt );
+            m_Snapshot = retValue;
+            m_Completion = null;
+            completion.complete( value );
+        }
+        catch( final Throwable t )
+        {
+            m_Completion = null;
+            completion.completeExceptionally( t );
+            throw t;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  runSupplier()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        final var snapshot = m_Snapshot;
+        final var retValue = isNull( snapshot )
+            ? "[Not initialized]"
+            : snapshot.isExpired( m_Clock.getAsLong() )
+                ? "[Expired]"
+                : Objects.toString( snapshot.value(), NULL_STRING );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class ExpiringLazyImpl
+
+/*
+ *  End of File
+ */
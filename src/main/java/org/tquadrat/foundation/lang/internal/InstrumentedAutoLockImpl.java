@@ -0,0 +1,680 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.NotRecord;
+import org.tquadrat.foundation.lang.Action;
+import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.Constraint;
+import org.tquadrat.foundation.lang.IntOperation;
+import org.tquadrat.foundation.lang.LockMetrics;
+import org.tquadrat.foundation.lang.LockOrderMonitor;
+import org.tquadrat.foundation.lang.LongOperation;
+import org.tquadrat.foundation.lang.Operation;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link AutoLock}
+ *  that records the wait and hold times for the lock.}</p>
+ *  <p>The bookkeeping for the current hold is done in attributes that are
+ *  guarded by the wrapped lock itself; therefore that lock has to be
+ *  exclusive.</p>
+ *  <p>The conditions returned by
+ *  {@link #newCondition()}
+ *  are wrappers that end the current hold before the thread waits, and
+ *  that start a new hold with the same depth when the thread got the lock
+ *  back.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: InstrumentedAutoLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @see AutoLock#of(String, Lock, LockMetrics)
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: InstrumentedAutoLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+@NotRecord
+public final class InstrumentedAutoLockImpl implements AutoLock
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The wrapper for a
+     *  {@link Condition}
+     *  of the wrapped lock that keeps the bookkeeping for the hold of the
+     *  lock consistent while the thread waits.}</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: InstrumentedAutoLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: InstrumentedAutoLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private final class InstrumentedCondition implements Condition
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The wrapped condition.
+         */
+        private final Condition m_Condition;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code InstrumentedCondition}.
+         *
+         *  @param  condition   The wrapped condition.
+         */
+        public InstrumentedCondition( final Condition condition )
+        {
+            m_Condition = condition;
+        }   //  InstrumentedCondition()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void await() throws InterruptedException
+        {
+            final var holdDepth = suspendHold();
+            try
+            {
+                m_Condition.await();
+            }
+            finally
+            {
+                resumeHold( holdDepth );
+            }
+        }   //  await()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean await( final long time, final TimeUnit unit ) throws InterruptedException
+        {
+            final boolean retValue;
+            final var holdDepth = suspendHold();
+            try
+            {
+                retValue = m_Condition.await( time, unit );
+            }
+            finally
+            {
+                resumeHold( holdDepth );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  await()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final long awaitNanos( final long nanosTimeout ) throws InterruptedException
+        {
+            final long retValue;
+            final var holdDepth = suspendHold();
+            try
+            {
+                retValue = m_Condition.awaitNanos( nanosTimeout );
+            }
+            finally
+            {
+                resumeHold( holdDepth );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  awaitNanos()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void awaitUninterruptibly()
+        {
+            final var holdDepth = suspendHold();
+            try
+            {
+                m_Condition.awaitUninterruptibly();
+            }
+            finally
+            {
+                resumeHold( holdDepth );
+            }
+        }   //  awaitUninterruptibly()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean awaitUntil( final Date deadline ) throws InterruptedException
+        {
+            final boolean retValue;
+            final var holdDepth = suspendHold();
+            try
+            {
+                retValue = m_Condition.awaitUntil( deadline );
+            }
+            finally
+            {
+                resumeHold( holdDepth );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  awaitUntil()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void signal() { m_Condition.signal(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void signalAll() { m_Condition.signalAll(); }
+    }
+    //  class InstrumentedCondition
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The time when the current owner acquired the lock, as returned by
+     *  {@link System#nanoTime()}.
+     */
+    private long m_AcquiredAt;
+
+    /**
+     *  The number of acquisitions.
+     */
+    private final LongAdder m_AcquiredCount = new LongAdder();
+
+    /**
+     *  The number of contended acquisitions.
+     */
+    private final LongAdder m_ContendedCount = new LongAdder();
+
+    /**
+     *  The number of holds of the current owner; it is greater than 1 when
+     *  the lock was acquired reentrantly.
+     */
+    private int m_HoldDepth;
+
+    /**
+     *  The histogram for the hold times.
+     */
+    private final LatencyHistogram m_HoldTimes = new LatencyHistogram();
+
+    /**
+     *  The wrapped lock.
+     */
+    private final Lock m_Lock;
+
+    /**
+     *  The receiver for the events.
+     */
+    private final LockMetrics m_Metrics;
+
+    /**
+     *  The name of the lock.
+     */
+    private final String m_Name;
+
+    /**
+     *  The node for this lock in the lock-order graph; {@null} if the
+     *  check of the lock order was not enabled when this lock was created.
+     *
+     *  @see LockOrderMonitor
+     */
+    private final LockOrderNode m_OrderNode;
+
+    /**
+     *  The thread that currently holds the lock, or {@null}. Only the owner
+     *  writes this attribute, so a thread that reads itself here holds the
+     *  lock.
+     */
+    private Thread m_Owner;
+
+    /**
+     *  The histogram for the wait times.
+     */
+    private final LatencyHistogram m_WaitTimes = new LatencyHistogram();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code InstrumentedAutoLockImpl} instance.
+     *
+     *  @param  name    The name of the lock.
+     *  @param  lock    The wrapped lock.
+     *  @param  metrics The receiver for the events.
+     */
+    public InstrumentedAutoLockImpl( final String name, final Lock lock, final LockMetrics metrics )
+    {
+        m_Name = requireNotEmptyArgument( name, "name" );
+        m_Lock = requireNonNullArgument( lock, "lock" );
+        m_Metrics = requireNonNullArgument( metrics, "metrics" );
+        m_OrderNode = LockOrderMonitor.isEnabled() ? new LockOrderNode( m_Name ) : null;
+    }   //  InstrumentedAutoLockImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Does the bookkeeping after the lock was acquired.
+     *
+     *  @param  waitTime    The time in nanoseconds the thread had to wait.
+     *  @param  contended   {@true} if the lock was contended, {@false}
+     *      otherwise.
+     */
+    private final void acquired( final long waitTime, final boolean contended )
+    {
+        final var currentThread = Thread.currentThread();
+        if( m_Owner == currentThread )
+        {
+            ++m_HoldDepth;
+        }
+        else
+        {
+            m_Owner = currentThread;
+            m_HoldDepth = 1;
+            m_AcquiredAt = System.nanoTime();
+            m_AcquiredCount.increment();
+            if( contended ) m_ContendedCount.increment();
+            m_WaitTimes.record( waitTime );
+            try
+            {
+                m_Metrics.lockAcquired( m_Name, waitTime, contended );
+            }
+            catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+        }
+    }   //  acquired()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "ProhibitedExceptionCaught" )
+    @Override
+    public final void close()
+    {
+        if( m_Owner == Thread.currentThread() )
+        {
+            if( --m_HoldDepth == 0 )
+            {
+                final var holdTime = System.nanoTime() - m_AcquiredAt;
+                m_Owner = null;
+                m_Lock.unlock();
+                if( nonNull( m_OrderNode ) ) m_OrderNode.released();
+                m_HoldTimes.record( holdTime );
+                try
+                {
+                    m_Metrics.lockReleased( m_Name, holdTime );
+                }
+                catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+            }
+            else
+            {
+                m_Lock.unlock();
+                if( nonNull( m_OrderNode ) ) m_OrderNode.released();
+            }
+        }
+        else
+        {
+            try
+            {
+                m_Lock.unlock();
+                if( nonNull( m_OrderNode ) ) m_OrderNode.released();
+            }
+            catch( final IllegalMonitorStateException ignored ) { /* Deliberately ignored */ }
+        }
+    }   //  close()
+
+    /**
+     *  Commits the given JFR event, if it is enabled.
+     *
+     *  @param  event   The event.
+     */
+    private final void commit( final LockContentionEvent event )
+    {
+        if( event.shouldCommit() )
+        {
+            event.lockName = m_Name;
+            event.commit();
+        }
+    }   //  commit()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final boolean evaluate( final Constraint constraint ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( constraint, "constraint" );
+        final boolean retValue;
+        try( final var _ = lock() )
+        {
+            retValue = constraint.evaluate();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  evaluate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <R> Optional<R> execute( final Operation<? extends R> operation ) throws ExecutionFailedException
+    {
+        final var retValue = Optional.<R>ofNullable( executeDirect( operation ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  execute()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final int executeAsInt( final IntOperation operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final int retValue;
+        try( final var _ = lock() )
+        {
+            retValue = operation.getAsInt();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeAsInt()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final long executeAsLong( final LongOperation operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final long retValue;
+        try( final var _ = lock() )
+        {
+            retValue = operation.getAsLong();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeAsLong()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final <R> R executeDirect( final Operation<? extends R> operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+        final R retValue;
+        try( final var _ = lock() )
+        {
+            retValue = operation.get();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  executeDirect()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<LockStatistics> getLockStatistics()
+    {
+        final var retValue = Optional.of( new LockStatistics( m_Name, m_AcquiredCount.sum(), m_ContendedCount.sum(), m_WaitTimes.getDistribution(), m_HoldTimes.getDistribution() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getLockStatistics()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Lock getWrappedLockInstance() { return m_Lock; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "LockAcquiredButNotSafelyReleased" )
+    @Override
+    public final AutoLock lock()
+    {
+        if( nonNull( m_OrderNode ) ) m_OrderNode.beforeAcquire();
+        if( m_Lock.tryLock() )
+        {
+            acquired( 0L, false );
+        }
+        else
+        {
+            final var event = new LockContentionEvent();
+            event.begin();
+            final var start = System.nanoTime();
+            m_Lock.lock();
+            final var waitTime = System.nanoTime() - start;
+            event.end();
+            acquired( waitTime, true );
+            commit( event );
+        }
+        if( nonNull( m_OrderNode ) ) m_OrderNode.acquired();
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  lock()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "LockAcquiredButNotSafelyReleased" )
+    @Override
+    public final AutoLock lockInterruptibly() throws InterruptedException
+    {
+        if( nonNull( m_OrderNode ) ) m_OrderNode.beforeAcquire();
+        if( m_Lock.tryLock() )
+        {
+            acquired( 0L, false );
+        }
+        else
+        {
+            final var event = new LockContentionEvent();
+            event.begin();
+            final var start = System.nanoTime();
+            m_Lock.lockInterruptibly();
+            final var waitTime = System.nanoTime() - start;
+            event.end();
+            acquired( waitTime, true );
+            commit( event );
+        }
+        if( nonNull( m_OrderNode ) ) m_OrderNode.acquired();
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  lockInterruptibly()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Condition newCondition() { return new InstrumentedCondition( m_Lock.newCondition() ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final void perform( final Action action ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( action, "action" );
+        try( final var _ = lock() )
+        {
+            action.run();
+        }
+        /*
+         * Catching java.lang.Throwable is required here to wrap really all
+         * thrown exceptions into an ExecutionFailedException.
+         */
+        catch( final Throwable t )
+        {
+            throw new ExecutionFailedException( t );
+        }
+    }   //  perform()
+
+    /**
+     *  Starts a new hold after the current thread got the lock back from a
+     *  call to one of the {@code await} methods of a
+     *  {@linkplain #newCondition() condition}.
+     *
+     *  @param  holdDepth   The depth of the hold, as returned by
+     *      {@link #suspendHold()};
+     *      0 if the current thread did not own the lock before.
+     */
+    private final void resumeHold( final int holdDepth )
+    {
+        if( holdDepth > 0 )
+        {
+            m_Owner = Thread.currentThread();
+            m_HoldDepth = holdDepth;
+            m_AcquiredAt = System.nanoTime();
+            m_AcquiredCount.increment();
+            try
+            {
+                m_Metrics.lockAcquired( m_Name, 0L, false );
+            }
+            catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+        }
+    }   //  resumeHold()
+
+    /**
+     *  Ends the current hold before the current thread waits in one of the
+     *  {@code await} methods of a
+     *  {@linkplain #newCondition() condition},
+     *  as that will release the lock.
+     *
+     *  @return The depth of the hold; 0 if the current thread does not own
+     *      the lock. In the latter case, the wrapped condition will throw an
+     *      {@link IllegalMonitorStateException}.
+     */
+    private final int suspendHold()
+    {
+        var retValue = 0;
+        if( m_Owner == Thread.currentThread() )
+        {
+            retValue = m_HoldDepth;
+            final var holdTime = System.nanoTime() - m_AcquiredAt;
+            m_Owner = null;
+            m_HoldDepth = 0;
+            m_HoldTimes.record( holdTime );
+            try
+            {
+                m_Metrics.lockReleased( m_Name, holdTime );
+            }
+            catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  suspendHold()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s[Name = %s]".formatted( getClass().getName(), m_Name ); }
+}
+//  class InstrumentedAutoLockImpl
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,225 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireValidDoubleArgument;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoLock.LockStatistics.Distribution;
+
+/**
+ *  <p>{@summary A lock-free histogram for durations in nanoseconds.}</p>
+ *  <p>Like an HDR histogram, it uses buckets whose width grows with the
+ *  magnitude of the values: each power of two is split into
+ *  {@value #SUB_BUCKET_COUNT}
+ *  sub-buckets of equal width. This covers the full range of positive
+ *  {@code long} values with a fixed number of buckets and a relative error
+ *  of at most 12.5&nbsp;percent. Recording a value is a single atomic
+ *  increment, without any allocation.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LatencyHistogram.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LatencyHistogram.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class LatencyHistogram
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of bits for the sub-bucket index: {@value}.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     *  The number of sub-buckets per power of two: {@value}.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     *  The number of buckets: {@value}.
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The counts per bucket.
+     */
+    private final AtomicLongArray m_Counts = new AtomicLongArray( BUCKET_COUNT );
+
+    /**
+     *  The largest recorded value.
+     */
+    private final AtomicLong m_Max = new AtomicLong();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the index of the bucket for the given value.
+     *
+     *  @param  value   The value; it must not be negative.
+     *  @return The index of the bucket.
+     */
+    private static final int bucketIndex( final long value )
+    {
+        final int retValue;
+        if( value < SUB_BUCKET_COUNT )
+        {
+            retValue = (int) value;
+        }
+        else
+        {
+            final var magnitude = Long.SIZE - 1 - numberOfLeadingZeros( value );
+            final var subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+            retValue = ((magnitude - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  bucketIndex()
+
+    /**
+     *  Returns the largest value that falls into the bucket with the given
+     *  index.
+     *
+     *  @param  index   The index of the bucket.
+     *  @return The upper bound of the bucket.
+     */
+    private static final long bucketUpperBound( final int index )
+    {
+        final long retValue;
+        if( index < SUB_BUCKET_COUNT )
+        {
+            retValue = index;
+        }
+        else
+        {
+            final var shift = (index >>> SUB_BUCKET_BITS) - 1;
+            final long lowerBound = (long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1))) << shift;
+            retValue = lowerBound + ((1L << shift) - 1);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  bucketUpperBound()
+
+    /**
+     *  Returns the number of recorded values.
+     *
+     *  @return The number of values.
+     */
+    public final long getCount()
+    {
+        var retValue = 0L;
+        for( var i = 0; i < BUCKET_COUNT; ++i ) retValue += m_Counts.get( i );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getCount()
+
+    /**
+     *  Returns the distribution of the recorded values.
+     *
+     *  @return The distribution.
+     */
+    public final Distribution getDistribution()
+    {
+        final var retValue = new Distribution( Duration.ofNanos( getValueAtPercentile( 50.0 ) ), Duration.ofNanos( getValueAtPercentile( 90.0 ) ), Duration.ofNanos( getValueAtPercentile( 99.0 ) ), Duration.ofNanos( m_Max.get() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getDistribution()
+
+    /**
+     *  Returns the largest recorded value.
+     *
+     *  @return The maximum; it is 0 if no value was recorded yet.
+     */
+    public final long getMax() { return m_Max.get(); }
+
+    /**
+     *  Returns the value at the given percentile: the given percentage of
+     *  the recorded values is less than or equal to the returned value,
+     *  within the precision of the histogram.
+     *
+     *  @param  percentile  The percentile, a value between 0.0 and 100.0.
+     *  @return The value at the percentile; it is 0 if no value was
+     *      recorded yet.
+     */
+    public final long getValueAtPercentile( final double percentile )
+    {
+        requireValidDoubleArgument( percentile, "percentile", v -> (v >= 0.0) && (v <= 100.0) );
+
+        final var counts = new long [BUCKET_COUNT];
+        var total = 0L;
+        for( var i = 0; i < BUCKET_COUNT; ++i ) total += (counts [i] = m_Counts.get( i ));
+
+        var retValue = 0L;
+        if( total > 0 )
+        {
+            final var target = Math.max( 1L, (long) Math.ceil( percentile / 100.0 * total ) );
+            var cumulated = 0L;
+            var index = 0;
+            while( (cumulated += counts [index]) < target ) ++index;
+            retValue = Math.min( bucketUpperBound( index ), m_Max.get() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getValueAtPercentile()
+
+    /**
+     *  Records the given value.
+     *
+     *  @param  value   The value; negative values are recorded as 0.
+     */
+    public final void record( final long value )
+    {
+        final var effectiveValue = Math.max( 0L, value );
+        m_Counts.incrementAndGet( bucketIndex( effectiveValue ) );
+        if( effectiveValue > m_Max.get() ) m_Max.accumulateAndGet( effectiveValue, Math::max );
+    }   //  record()
+}
+//  class LatencyHistogram
+
+/*
+ *  End of File
+ */
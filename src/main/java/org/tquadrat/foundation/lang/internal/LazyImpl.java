@@ -23,12 +23,14 @@ import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
-import java.util.Optional;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
-import org.tquadrat.foundation.lang.AutoLock;
 import org.tquadrat.foundation.lang.Lazy;
 import org.tquadrat.foundation.lang.Objects;
 
@@ -53,6 +55,13 @@ import org.tquadrat.foundation.lang.Objects;
  *  {@link #hashCode()}
  *  force the initialisation.</p>
  *  <p>{@link #toString()} do not force the initialisation.</p>
+ *  <p>The initialisation is single flight: the first thread that needs the
+ *  value calls the supplier, all others wait on a shared
+ *  {@link CompletableFuture}
+ *  instead of a lock, so that virtual threads will not block their carrier
+ *  threads. Once the value is initialised, a call to
+ *  {@link #get()}
+ *  does neither wait nor allocate.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: LazyImpl.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -70,21 +79,34 @@ public final class LazyImpl<T> implements Lazy<T>
     ====** Attributes **=======================================================
         \*------------*/
     /**
-     *  The lock that protects the value creation. It will be set to
-     *  {@linkplain Optional#empty() empty}
-     *  after
-     *  {@link #m_Value} is initialised.
+     *  <p>{@summary The completion for a running initialisation.} It is set
+     *  by the thread that calls the supplier, all other threads that need
+     *  the value in the meantime are waiting for it.</p>
+     *  <p>Waiting on a
+     *  {@link CompletableFuture}
+     *  parks the thread, so that virtual threads will not block their
+     *  carrier threads.</p>
      */
-    @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
-    private Optional<AutoLock> m_Lock;
+    @SuppressWarnings( "unused" )
+    private volatile CompletableFuture<T> m_Completion;
 
     /**
-     *  The supplier for the value of this {@code Lazy} instance. It will be
-     *  set to {@null} after
+     *  The thread that currently calls the supplier; used to detect a
+     *  recursive initialisation.
+     */
+    private Thread m_Initialiser;
+
+    /**
+     *  <p>{@summary The supplier for the value of this {@code Lazy} instance.}
+     *  It will be set to {@null} after
+     *  {@link #m_Value}
+     *  is initialised.</p>
+     *  <p>This field is {@code volatile}; its write after the assignment of
      *  {@link #m_Value}
-     *  is initialised.
+     *  publishes the value to all threads that see {@null} here, so that
+     *  the read of the value itself does not need to be synchronised.</p>
      */
-    private Supplier<T> m_Supplier;
+    private volatile Supplier<T> m_Supplier;
 
     /**
      *  The value of this {@code Lazy} instance; it is {@null} if it was
@@ -92,6 +114,27 @@ public final class LazyImpl<T> implements Lazy<T>
      */
     private T m_Value;
 
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The handle for the field
+     *  {@link #m_Completion}.
+     */
+    private static final VarHandle m_CompletionHandle;
+
+    static
+    {
+        try
+        {
+            m_CompletionHandle = MethodHandles.lookup().findVarHandle( LazyImpl.class, "m_Completion", CompletableFuture.class );
+        }
+        catch( final NoSuchFieldException | IllegalAccessException e )
+        {
+            throw new ExceptionInInitializerError( e );
+        }
+    }
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -104,9 +147,10 @@ public final class LazyImpl<T> implements Lazy<T>
      */
     public LazyImpl( final Supplier<T> supplier )
     {
-        m_Supplier = requireNonNullArgument( supplier, "supplier" );
-        m_Lock = Optional.of( AutoLock.of() );
+        m_Completion = null;
+        m_Initialiser = null;
         m_Value = null;
+        m_Supplier = requireNonNullArgument( supplier, "supplier" );
     }   //  LazyImpl()
 
     /**
@@ -123,9 +167,10 @@ public final class LazyImpl<T> implements Lazy<T>
      */
     public LazyImpl( final T value )
     {
-        m_Supplier = null;
-        m_Lock = Optional.empty();
+        m_Completion = null;
+        m_Initialiser = null;
         m_Value = value;
+        m_Supplier = null;
     }   //  LazyImpl()
 
         /*---------*\
@@ -160,25 +205,7 @@ public final class LazyImpl<T> implements Lazy<T>
     @Override
     public final T get()
     {
-        m_Lock.ifPresent( lck ->
-        {
-            try( @SuppressWarnings( "unused" ) final var lock = lck.lock() )
-            {
-                /*
-                 * When the lock is present, the supplier must have been not
-                 * null; this is enforced by the respective constructor.
-                 * So when the supplier is NOW null, another thread has
-                 * performed the initialisation while this one was waiting for
-                 * the lock.
-                 */
-                if( nonNull( m_Supplier ) )
-                {
-                    m_Value = m_Supplier.get();
-                    m_Lock = Optional.empty();
-                    m_Supplier = null;
-                }
-            }
-        } );
+        if( nonNull( m_Supplier ) ) initialise();
 
         //---* Done *----------------------------------------------------------
         return m_Value;
@@ -190,6 +217,74 @@ public final class LazyImpl<T> implements Lazy<T>
     @Override
     public final int hashCode() { return get().hashCode(); }
 
+    /**
+     *  <p>{@summary Initialises the value. This is the slow path for
+     *  {@link #get()};}
+     *  once the value is initialised, this method will not be called
+     *  again.</p>
+     *  <p>Only the first thread calls the supplier; all other threads wait
+     *  on the completion that was published by that first thread. If the
+     *  supplier fails, the exception will be thrown to all waiting threads,
+     *  and the next call to {@code get()} will try again.</p>
+     *
+     *  @throws IllegalStateException   The supplier tried to retrieve the
+     *      value of this {@code Lazy} instance.
+     */
+    @SuppressWarnings( "unchecked" )
+    private final void initialise() throws IllegalStateException
+    {
+        final var newCompletion = new CompletableFuture<T>();
+        final var completion = (CompletableFuture<T>) m_CompletionHandle.compareAndExchange( this, null, newCompletion );
+        if( isNull( completion ) )
+        {
+            //---* This thread has to run the supplier *-----------------------
+            final var supplier = m_Supplier;
+            if( isNull( supplier ) )
+            {
+                //---* Another thread has finished the initialisation *--------
+                newCompletion.complete( m_Value );
+            }
+            else
+            {
+                m_Initialiser = Thread.currentThread();
+                try
+                {
+                    m_Value = supplier.get();
+                    m_Supplier = null;
+                    newCompletion.complete( m_Value );
+                }
+                catch( final Throwable t )
+                {
+                    m_Completion = null;
+                    newCompletion.completeExceptionally( t );
+                    throw t;
+                }
+                finally
+                {
+                    m_Initialiser = null;
+                }
+            }
+        }
+        else
+        {
+            //---* Wait for the other thread *---------------------------------
+            if( m_Initialiser == Thread.currentThread() ) throw new IllegalStateException( "Recursive initialisation of Lazy" );
+            try
+            {
+                completion.join();
+            }
+            catch( final CompletionException e )
+            {
+                switch( e.getCause() )
+                {
+                    case final RuntimeException cause -> throw cause;
+                    case final Error cause -> throw cause;
+                    case null, default -> throw e;
+                }
+            }
+        }
+    }   //  initialise()
+
     /**
      *  {@inheritDoc}
      */
@@ -0,0 +1,81 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *  <p>{@summary The
+ *  <a href="https://docs.oracle.com/en/java/javase/21/jfapi/">JDK Flight Recorder</a>
+ *  event for a contended acquisition of an instrumented
+ *  {@link org.tquadrat.foundation.lang.AutoLock}.}</p>
+ *  <p>The duration of the event is the time the thread had to wait for the
+ *  lock. Like the JDK's own {@code jdk.JavaMonitorEnter} event, it records
+ *  the stack trace; use the {@code threshold} setting of the recording to
+ *  drop short waits.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LockContentionEvent.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LockContentionEvent.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+@Name( LockContentionEvent.EVENT_NAME )
+@Label( "Lock Contention" )
+@Category( {"tquadrat", "Locks"} )
+@Description( "A thread had to wait for an instrumented AutoLock" )
+@StackTrace( true )
+public final class LockContentionEvent extends Event
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The name of the event: {@value}.
+     */
+    public static final String EVENT_NAME = "org.tquadrat.foundation.LockContention";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The name of the lock; the field does not follow the naming
+     *  conventions, as its name is shown in the recordings.
+     */
+    @SuppressWarnings( "InstanceVariableNamingConvention" )
+    @Label( "Lock Name" )
+    String lockName;
+}
+//  class LockContentionEvent
+
+/*
+ *  End of File
+ */
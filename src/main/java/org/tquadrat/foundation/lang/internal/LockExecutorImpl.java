@@ -95,6 +95,12 @@ public final class LockExecutorImpl implements LockExecutor
         return retValue;
     }   //  execute()
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Optional<AutoLock.LockStatistics> getLockStatistics() { return m_Lock.getLockStatistics(); }
+
     /**
      *  Creates a new {@code LockExecutor} from the given
      *  {@link Lock}
@@ -0,0 +1,292 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.LockExecutor;
+import org.tquadrat.foundation.lang.LockOrderMonitor;
+import org.tquadrat.foundation.lang.LockOrderMonitor.Violation;
+
+/**
+ *  <p>{@summary A lock in the lock-order graph that is maintained for
+ *  {@link LockOrderMonitor}.}</p>
+ *  <p>Each node holds the edges to the locks that were acquired while it
+ *  was held, together with the acquisition site; the graph is made only
+ *  from these edges, there is no global structure. The locks held by a
+ *  thread are tracked in a
+ *  {@link ThreadLocal}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LockOrderNode.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LockOrderNode.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class LockOrderNode
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of stack frames that are recorded for an
+     *  acquisition site: {@value}.
+     */
+    private static final int MAX_SITE_DEPTH = 8;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The name of the lock.
+     */
+    private final String m_Name;
+
+    /**
+     *  The locks that were acquired while this lock was held, with the
+     *  site of the first such acquisition.
+     */
+    private final Map<LockOrderNode,List<StackTraceElement>> m_Successors = new ConcurrentHashMap<>();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The locks held by the current thread, in the order of their
+     *  acquisition; a lock that was acquired reentrantly is contained
+     *  more than once.
+     */
+    private static final ThreadLocal<List<LockOrderNode>> m_HeldLocks = ThreadLocal.withInitial( ArrayList::new );
+
+    /**
+     *  The stack walker that determines the acquisition sites.
+     */
+    private static final StackWalker m_StackWalker = StackWalker.getInstance();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code LockOrderNode}.
+     *
+     *  @param  name    The name of the lock.
+     */
+    public LockOrderNode( final String name )
+    {
+        m_Name = requireNotEmptyArgument( name, "name" );
+    }   //  LockOrderNode()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Records that the current thread acquired this lock.
+     */
+    public final void acquired() { m_HeldLocks.get().add( this ); }
+
+    /**
+     *  Records the edges from the locks that are held by the current thread
+     *  to this lock, and reports a violation if a new edge closes a cycle.
+     *  To be called before the lock is acquired.
+     */
+    public final void beforeAcquire()
+    {
+        final var heldLocks = m_HeldLocks.get();
+
+        /*
+         * The common case is that all edges are known already; this is
+         * checked on the list itself, without copying it. The copy is only
+         * needed when edges are added, as the violation handler may acquire
+         * locks, too.
+         */
+        var isNewEdge = false;
+        ScanLoop: for( var i = 0; i < heldLocks.size(); ++i )
+        {
+            final var heldLock = heldLocks.get( i );
+            if( heldLock == this )
+            {
+                //---* A reentrant acquisition does not add edges *------------
+                isNewEdge = false;
+                break ScanLoop;
+            }
+            if( !heldLock.m_Successors.containsKey( this ) ) isNewEdge = true;
+        }   //  ScanLoop:
+
+        if( isNewEdge )
+        {
+            List<StackTraceElement> site = null;
+            for( final var heldLock : List.copyOf( heldLocks ) )
+            {
+                if( !heldLock.m_Successors.containsKey( this ) )
+                {
+                    if( isNull( site ) ) site = findAcquisitionSite();
+                    if( isNull( heldLock.m_Successors.putIfAbsent( this, site ) ) )
+                    {
+                        /*
+                         * The edge was added before the search, so that of
+                         * two threads that add opposite edges concurrently,
+                         * at least one will find the cycle.
+                         */
+                        final var acquisitionSite = site;
+                        findPath( heldLock ).ifPresent( path -> report( heldLock, path, acquisitionSite ) );
+                    }
+                }
+            }
+        }
+    }   //  beforeAcquire()
+
+    /**
+     *  Determines the stack frames of the code that acquires a lock,
+     *  starting with the first frame outside of the lock implementations.
+     *
+     *  @return The stack frames.
+     */
+    private static final List<StackTraceElement> findAcquisitionSite()
+    {
+        final var retValue = m_StackWalker.walk( frames -> frames
+            .dropWhile( frame -> isInternalFrame( frame.getClassName() ) )
+            .limit( MAX_SITE_DEPTH )
+            .map( StackFrame::toStackTraceElement )
+            .toList() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findAcquisitionSite()
+
+    /**
+     *  Searches the path from this lock to the given lock in the lock-order
+     *  graph.
+     *
+     *  @param  target  The target lock.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the locks on the path, starting with this lock and
+     *      ending with the target; it is empty if there is no path.
+     */
+    private final Optional<List<LockOrderNode>> findPath( final LockOrderNode target )
+    {
+        final Map<LockOrderNode,LockOrderNode> predecessors = new IdentityHashMap<>();
+        final var queue = new ArrayDeque<LockOrderNode>();
+        predecessors.put( this, this );
+        queue.add( this );
+        var found = false;
+        SearchLoop: while( !queue.isEmpty() )
+        {
+            final var node = queue.poll();
+            for( final var successor : node.m_Successors.keySet() )
+            {
+                if( !predecessors.containsKey( successor ) )
+                {
+                    predecessors.put( successor, node );
+                    if( successor == target )
+                    {
+                        found = true;
+                        break SearchLoop;
+                    }
+                    queue.add( successor );
+                }
+            }
+        }   //  SearchLoop:
+
+        Optional<List<LockOrderNode>> retValue = Optional.empty();
+        if( found )
+        {
+            final var path = new ArrayDeque<LockOrderNode>();
+            for( var node = target; node != this; node = predecessors.get( node ) ) path.addFirst( node );
+            path.addFirst( this );
+            retValue = Optional.of( List.copyOf( path ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findPath()
+
+    /**
+     *  Checks whether the given class belongs to the implementation of the
+     *  locks.
+     *
+     *  @param  className   The name of the class.
+     *  @return {@true} if the class belongs to the implementation,
+     *      {@false} otherwise.
+     */
+    private static final boolean isInternalFrame( final String className )
+    {
+        final var retValue = className.startsWith( LockOrderNode.class.getName() )
+            || className.startsWith( AutoLockImpl.class.getName() )
+            || className.startsWith( InstrumentedAutoLockImpl.class.getName() )
+            || className.startsWith( LockExecutorImpl.class.getName() )
+            || className.equals( AutoLock.class.getName() )
+            || className.equals( LockExecutor.class.getName() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isInternalFrame()
+
+    /**
+     *  Records that the current thread released this lock.
+     */
+    public final void released()
+    {
+        final var heldLocks = m_HeldLocks.get();
+        final var index = heldLocks.lastIndexOf( this );
+        if( index >= 0 ) heldLocks.remove( index );
+    }   //  released()
+
+    /**
+     *  Reports a violation of the lock order.
+     *
+     *  @param  heldLock    The lock that is held by the current thread.
+     *  @param  path    The path from this lock to the held lock.
+     *  @param  acquisitionSite The site of the current request.
+     */
+    private final void report( final LockOrderNode heldLock, final List<LockOrderNode> path, final List<StackTraceElement> acquisitionSite )
+    {
+        final var conflictingSite = path.get( path.size() - 2 ).m_Successors.get( heldLock );
+        final var violation = new Violation( Thread.currentThread().getName(), heldLock.m_Name, m_Name, path.stream().map( node -> node.m_Name ).toList(), acquisitionSite, nonNull( conflictingSite ) ? conflictingSite : List.of() );
+        LockOrderMonitor.getViolationHandler().accept( violation );
+    }   //  report()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return m_Name; }
+}
+//  class LockOrderNode
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,332 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoLock;
+
+/**
+ *  <p>{@summary A thread-safe registry that maps {@code long} keys to
+ *  objects, without boxing the keys.}</p>
+ *  <p>The registry is split into
+ *  {@value #STRIPE_COUNT}
+ *  stripes, selected by the lowest bits of the key, so that threads that
+ *  are working on different keys will rarely contend for the same lock.
+ *  Each stripe is a hash table with open addressing and linear probing;
+ *  removed entries are closed by a backward shift, so that no tombstones
+ *  are needed.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LongRegistry.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @param  <V> The type of the registered objects.
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LongRegistry.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class LongRegistry<V>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A stripe of the registry.
+     *
+     *  @param  <V> The type of the registered objects.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: LongRegistry.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: LongRegistry.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class Stripe<V>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The keys.
+         */
+        private long [] m_Keys;
+
+        /**
+         *  The lock that guards this stripe.
+         */
+        private final AutoLock m_Lock = AutoLock.of();
+
+        /**
+         *  The number of entries.
+         */
+        private int m_Size;
+
+        /**
+         *  The values; {@null} marks an empty slot.
+         */
+        private Object [] m_Values;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Stripe}.
+         */
+        public Stripe()
+        {
+            m_Keys = new long [INITIAL_CAPACITY];
+            m_Values = new Object [INITIAL_CAPACITY];
+            m_Size = 0;
+        }   //  Stripe()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the slot for the given key in the given table.
+         *
+         *  @param  key The key.
+         *  @param  keys    The table.
+         *  @param  values  The values for the table.
+         *  @return The index of the slot that holds the key, or of the empty
+         *      slot where the key would be inserted.
+         */
+        private static int findSlot( final long key, final long [] keys, final Object [] values )
+        {
+            final var mask = keys.length - 1;
+            var retValue = hash( key ) & mask;
+            while( nonNull( values [retValue] ) && (keys [retValue] != key) ) retValue = (retValue + 1) & mask;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  findSlot()
+
+        /**
+         *  Adds the given entry.
+         *
+         *  @param  key The key.
+         *  @param  value   The value.
+         */
+        public final void put( final long key, final V value )
+        {
+            try( final var _ = m_Lock.lock() )
+            {
+                if( (m_Size + 1) * 2 > m_Keys.length ) resize();
+                final var slot = findSlot( key, m_Keys, m_Values );
+                if( isNull( m_Values [slot] ) ) ++m_Size;
+                m_Keys [slot] = key;
+                m_Values [slot] = value;
+            }
+        }   //  put()
+
+        /**
+         *  Removes the entry for the given key.
+         *
+         *  @param  key The key.
+         *  @return The removed value, or {@null} if there was no entry for
+         *      the key.
+         */
+        @SuppressWarnings( "unchecked" )
+        public final V remove( final long key )
+        {
+            V retValue;
+            try( final var _ = m_Lock.lock() )
+            {
+                var slot = findSlot( key, m_Keys, m_Values );
+                retValue = (V) m_Values [slot];
+                if( nonNull( retValue ) )
+                {
+                    //---* Close the gap by a backward shift *-----------------
+                    final var mask = m_Keys.length - 1;
+                    var next = slot;
+                    ShiftLoop: while( true )
+                    {
+                        next = (next + 1) & mask;
+                        if( isNull( m_Values [next] ) ) break ShiftLoop;
+                        final var home = hash( m_Keys [next] ) & mask;
+                        final var stays = slot <= next
+                            ? (slot < home) && (home <= next)
+                            : (slot < home) || (home <= next);
+                        if( !stays )
+                        {
+                            m_Keys [slot] = m_Keys [next];
+                            m_Values [slot] = m_Values [next];
+                            slot = next;
+                        }
+                    }   //  ShiftLoop:
+                    m_Values [slot] = null;
+                    --m_Size;
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  remove()
+
+        /**
+         *  Doubles the capacity of this stripe.
+         */
+        private final void resize()
+        {
+            final var keys = new long [m_Keys.length * 2];
+            final var values = new Object [m_Values.length * 2];
+            for( var i = 0; i < m_Keys.length; ++i )
+            {
+                if( nonNull( m_Values [i] ) )
+                {
+                    final var slot = findSlot( m_Keys [i], keys, values );
+                    keys [slot] = m_Keys [i];
+                    values [slot] = m_Values [i];
+                }
+            }
+            m_Keys = keys;
+            m_Values = values;
+        }   //  resize()
+
+        /**
+         *  Returns the number of entries in this stripe.
+         *
+         *  @return The number of entries.
+         */
+        public final int size()
+        {
+            final int retValue;
+            try( final var _ = m_Lock.lock() )
+            {
+                retValue = m_Size;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  size()
+    }
+    //  class Stripe
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The initial capacity of a stripe: {@value}.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     *  The number of stripes: {@value}.
+     */
+    public static final int STRIPE_COUNT = 16;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The stripes.
+     */
+    private final Stripe<V> [] m_Stripes;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code LongRegistry}.
+     */
+    public LongRegistry()
+    {
+        @SuppressWarnings( {"unchecked", "rawtypes"} )
+        final Stripe<V> [] stripes = new Stripe [STRIPE_COUNT];
+        for( var i = 0; i < STRIPE_COUNT; ++i ) stripes [i] = new Stripe<>();
+        m_Stripes = stripes;
+    }   //  LongRegistry()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Calculates the hash for the given key inside a stripe.
+     *
+     *  @param  key The key.
+     *  @return The hash.
+     */
+    private static int hash( final long key )
+    {
+        final var h = (key >>> 4) * 0x9E3779B97F4A7C15L;
+        final var retValue = (int) (h ^ (h >>> 32));
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hash()
+
+    /**
+     *  Registers the given object with the given key; an object that is
+     *  already registered with that key will be replaced.
+     *
+     *  @param  key The key.
+     *  @param  value   The object.
+     */
+    public final void put( final long key, final V value )
+    {
+        stripe( key ).put( key, requireNonNullArgument( value, "value" ) );
+    }   //  put()
+
+    /**
+     *  Removes the object with the given key from the registry.
+     *
+     *  @param  key The key.
+     *  @return The removed object, or {@null} if no object was registered
+     *      with the key.
+     */
+    public final V remove( final long key ) { return stripe( key ).remove( key ); }
+
+    /**
+     *  Returns the number of registered objects. As the stripes are counted
+     *  one after the other, the result is only a snapshot when other threads
+     *  are modifying the registry.
+     *
+     *  @return The number of registered objects.
+     */
+    public final int size()
+    {
+        var retValue = 0;
+        for( final var stripe : m_Stripes ) retValue += stripe.size();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  size()
+
+    /**
+     *  Returns the stripe for the given key.
+     *
+     *  @param  key The key.
+     *  @return The stripe.
+     */
+    private final Stripe<V> stripe( final long key ) { return m_Stripes [(int) (key & (STRIPE_COUNT - 1))]; }
+}
+//  class LongRegistry
+
+/*
+ *  End of File
+ */
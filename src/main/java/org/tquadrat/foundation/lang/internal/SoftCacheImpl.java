@@ -0,0 +1,669 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Long.max;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.io.Serial;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.SoftCache;
+
+/**
+ *  <p>{@summary The implementation for the
+ *  {@link SoftCache}
+ *  interface.}</p>
+ *  <p>The entries are kept in a
+ *  {@link ConcurrentHashMap},
+ *  so that a cache hit does not need a lock. The order for the LRU eviction
+ *  is kept in a
+ *  {@link LinkedHashMap}
+ *  in access order, guarded by an
+ *  {@link AutoLock}.
+ *  A hit on a bounded cache only records the key in a small ring buffer;
+ *  that buffer is replayed to the access order under the lock, on each
+ *  miss and each write, or when the buffer is full and the lock is free.
+ *  When the buffer overflows before it was replayed, some accesses are
+ *  lost; the eviction order is then only approximately LRU.</p>
+ *  <p>The loader is called outside the lock; concurrent requests for a key
+ *  that is currently loaded are waiting on a
+ *  {@link CompletableFuture}.</p>
+ *  <p>The references to the values are registered with a
+ *  {@link ReferenceQueue};
+ *  the entries for cleared references are removed together with the
+ *  replay of the buffer.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @param  <K> The type of the keys.
+ *  @param  <V> The type of the cached values.
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class SoftCacheImpl<K,V> implements SoftCache<K,V>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The common interface for the references that hold the values; it
+     *  provides access to the key, so that the entry can be removed when the
+     *  reference was cleared.
+     *
+     *  @param  <K> The type of the key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static sealed interface KeyedReference<K>
+        permits SoftValue, WeakValue
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the key for the referenced value.
+         *
+         *  @return The key.
+         */
+        public K key();
+    }
+    //  interface KeyedReference
+
+    /**
+     *  A soft reference to a value.
+     *
+     *  @param  <K> The type of the key.
+     *  @param  <V> The type of the value.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class SoftValue<K,V> extends SoftReference<V> implements KeyedReference<K>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The key.
+         */
+        private final K m_Key;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code SoftValue} instance.
+         *
+         *  @param  key The key.
+         *  @param  value   The value.
+         *  @param  queue   The reference queue.
+         */
+        public SoftValue( final K key, final V value, final ReferenceQueue<? super V> queue )
+        {
+            super( value, queue );
+            m_Key = key;
+        }   //  SoftValue()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final K key() { return m_Key; }
+    }
+    //  class SoftValue
+
+    /**
+     *  A weak reference to a value.
+     *
+     *  @param  <K> The type of the key.
+     *  @param  <V> The type of the value.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SoftCacheImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class WeakValue<K,V> extends WeakReference<V> implements KeyedReference<K>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The key.
+         */
+        private final K m_Key;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code WeakValue} instance.
+         *
+         *  @param  key The key.
+         *  @param  value   The value.
+         *  @param  queue   The reference queue.
+         */
+        public WeakValue( final K key, final V value, final ReferenceQueue<? super V> queue )
+        {
+            super( value, queue );
+            m_Key = key;
+        }   //  WeakValue()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final K key() { return m_Key; }
+    }
+    //  class WeakValue
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The size of the buffer for the recorded accesses: {@value}. It must
+     *  be a power of two.
+     */
+    private static final int ACCESS_BUFFER_SIZE = 64;
+
+    /**
+     *  The mask that determines the index in the buffer for the recorded
+     *  accesses: {@value}.
+     */
+    private static final int ACCESS_BUFFER_MASK = ACCESS_BUFFER_SIZE - 1;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The keys of the recent cache hits that were not yet applied to the
+     *  access order.
+     */
+    private final AtomicReferenceArray<K> m_AccessBuffer = new AtomicReferenceArray<>( ACCESS_BUFFER_SIZE );
+
+    /**
+     *  The entries of the cache in access order; guarded by the lock.
+     */
+    private final LinkedHashMap<K,Reference<V>> m_AccessOrder;
+
+    /**
+     *  The index of the next recorded access in the buffer that will be
+     *  applied to the access order; guarded by the lock.
+     */
+    private long m_AccessReadIndex = 0L;
+
+    /**
+     *  The index for the next access that will be recorded in the buffer.
+     */
+    private final AtomicLong m_AccessWriteIndex = new AtomicLong();
+
+    /**
+     *  The counter for the entries that were removed because their values
+     *  were cleared by the garbage collector.
+     */
+    private final LongAdder m_CollectedCount = new LongAdder();
+
+    /**
+     *  The entries of the cache; it is modified only while holding the
+     *  lock, but read without it.
+     */
+    private final Map<K,Reference<V>> m_Entries = new ConcurrentHashMap<>();
+
+    /**
+     *  The counter for the entries that were evicted because the size limit
+     *  was reached.
+     */
+    private final LongAdder m_EvictionCount = new LongAdder();
+
+    /**
+     *  The counter for the cache hits.
+     */
+    private final LongAdder m_HitCount = new LongAdder();
+
+    /**
+     *  The loader for the values.
+     */
+    private final Function<? super K,? extends V> m_Loader;
+
+    /**
+     *  The completions for the values that are currently loaded.
+     */
+    private final Map<K,CompletableFuture<V>> m_Loading = new HashMap<>();
+
+    /**
+     *  The lock that guards the modifications of the entries and the access
+     *  order.
+     */
+    private final AutoLock m_Lock = AutoLock.of();
+
+    /**
+     *  The maximum number of entries.
+     */
+    private final int m_MaximumSize;
+
+    /**
+     *  The counter for the cache misses.
+     */
+    private final LongAdder m_MissCount = new LongAdder();
+
+    /**
+     *  The queue for the cleared references.
+     */
+    private final ReferenceQueue<V> m_Queue = new ReferenceQueue<>();
+
+    /**
+     *  The type of the references that hold the values.
+     */
+    private final ReferenceType m_ReferenceType;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SoftCacheImpl} instance.
+     *
+     *  @param  loader  The function that loads the value for a key.
+     *  @param  referenceType   The type of the references that hold the
+     *      values.
+     *  @param  maximumSize The maximum number of entries in the cache;
+     *      {@link SoftCache#UNBOUNDED}
+     *      for no limit.
+     */
+    public SoftCacheImpl( final Function<? super K,? extends V> loader, final ReferenceType referenceType, final int maximumSize )
+    {
+        m_Loader = requireNonNullArgument( loader, "loader" );
+        m_ReferenceType = requireNonNullArgument( referenceType, "referenceType" );
+        m_MaximumSize = requireValidIntegerArgument( maximumSize, "maximumSize", v -> v > 0 );
+
+        m_AccessOrder = new LinkedHashMap<>( 16, 0.75f, true )
+        {
+            /**
+             *  The serial version UID for objects of this class: {@value}.
+             *
+             *  @hidden
+             */
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            protected final boolean removeEldestEntry( final Map.Entry<K,Reference<V>> eldest )
+            {
+                final var retValue = size() > m_MaximumSize;
+                if( retValue )
+                {
+                    m_Entries.remove( eldest.getKey(), eldest.getValue() );
+                    m_EvictionCount.increment();
+                }
+
+                //---* Done *--------------------------------------------------
+                return retValue;
+            }   //  removeEldestEntry()
+        };
+    }   //  SoftCacheImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the reference for the given value.
+     *
+     *  @param  key The key.
+     *  @param  value   The value.
+     *  @return The reference.
+     */
+    private final Reference<V> createReference( final K key, final V value )
+    {
+        final Reference<V> retValue = switch( m_ReferenceType )
+        {
+            case SOFT -> new SoftValue<>( key, value, m_Queue );
+            case WEAK -> new WeakValue<>( key, value, m_Queue );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createReference()
+
+    /**
+     *  Applies the accesses that were recorded in the buffer to the access
+     *  order. This method must be called while holding the lock.
+     */
+    private final void drainAccessBuffer()
+    {
+        final var writeIndex = m_AccessWriteIndex.get();
+        for( var i = max( m_AccessReadIndex, writeIndex - ACCESS_BUFFER_SIZE ); i < writeIndex; ++i )
+        {
+            final var key = m_AccessBuffer.getAndSet( (int) i & ACCESS_BUFFER_MASK, null );
+            if( nonNull( key ) ) m_AccessOrder.get( key );
+        }
+        m_AccessReadIndex = writeIndex;
+    }   //  drainAccessBuffer()
+
+    /**
+     *  Removes the entries for the references that were cleared by the
+     *  garbage collector. This method must be called while holding the
+     *  lock.
+     */
+    @SuppressWarnings( "unchecked" )
+    private final void expungeStaleEntries()
+    {
+        Reference<? extends V> reference;
+        while( nonNull( reference = m_Queue.poll() ) )
+        {
+            final var key = ((KeyedReference<K>) reference).key();
+            if( m_Entries.remove( key, reference ) )
+            {
+                m_AccessOrder.remove( key, reference );
+                m_CollectedCount.increment();
+            }
+        }
+    }   //  expungeStaleEntries()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final V get( final K key )
+    {
+        requireNonNullArgument( key, "key" );
+
+        var retValue = lookup( key );
+        CompletableFuture<V> completion = null;
+        var isLoader = false;
+        if( nonNull( retValue ) )
+        {
+            m_HitCount.increment();
+        }
+        else
+        {
+            try( final var _ = m_Lock.lock() )
+            {
+                performMaintenance();
+
+                //---* Another thread may have loaded the value meanwhile *-----
+                final var reference = m_Entries.get( key );
+                if( nonNull( reference ) ) retValue = reference.get();
+                if( nonNull( retValue ) )
+                {
+                    m_AccessOrder.get( key );
+                    m_HitCount.increment();
+                }
+                else
+                {
+                    m_MissCount.increment();
+                    completion = m_Loading.get( key );
+                    if( isNull( completion ) )
+                    {
+                        completion = new CompletableFuture<>();
+                        m_Loading.put( key, completion );
+                        isLoader = true;
+                    }
+                }
+            }
+        }
+
+        if( isLoader )
+        {
+            retValue = load( key, completion );
+        }
+        else if( isNull( retValue ) )
+        {
+            //---* Wait for the thread that loads the value *------------------
+            try
+            {
+                retValue = completion.join();
+            }
+            catch( final CompletionException e )
+            {
+                switch( e.getCause() )
+                {
+                    case final RuntimeException cause -> throw cause;
+                    case final Error cause -> throw cause;
+                    case null, default -> throw e;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  get()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<V> getIfPresent( final K key )
+    {
+        requireNonNullArgument( key, "key" );
+
+        final var retValue = Optional.ofNullable( lookup( key ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getIfPresent()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Statistics getStatistics()
+    {
+        final var retValue = new Statistics( m_HitCount.sum(), m_MissCount.sum(), m_EvictionCount.sum(), m_CollectedCount.sum() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getStatistics()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void invalidate( final K key )
+    {
+        requireNonNullArgument( key, "key" );
+        try( final var _ = m_Lock.lock() )
+        {
+            m_Entries.remove( key );
+            m_AccessOrder.remove( key );
+            performMaintenance();
+        }
+    }   //  invalidate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void invalidateAll()
+    {
+        try( final var _ = m_Lock.lock() )
+        {
+            m_Entries.clear();
+            m_AccessOrder.clear();
+            performMaintenance();
+        }
+    }   //  invalidateAll()
+
+    /**
+     *  Calls the loader for the given key and stores the result in the
+     *  cache.
+     *
+     *  @param  key The key.
+     *  @param  completion  The completion that is used to publish the
+     *      result to the waiting threads.
+     *  @return The value.
+     */
+    private final V load( final K key, final CompletableFuture<V> completion )
+    {
+        final V retValue;
+        try
+        {
+            retValue = requireNonNull( m_Loader.apply( key ), "The loader returned null" );
+            try( final var _ = m_Lock.lock() )
+            {
+                performMaintenance();
+                final var reference = createReference( key, retValue );
+                m_Entries.put( key, reference );
+                m_AccessOrder.put( key, reference );
+                m_Loading.remove( key );
+            }
+            completion.complete( retValue );
+        }
+        catch( final Throwable t )
+        {
+            try( final var _ = m_Lock.lock() )
+            {
+                m_Loading.remove( key );
+            }
+            completion.completeExceptionally( t );
+            throw t;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  load()
+
+    /**
+     *  Looks up the value for the given key without taking the lock; if the
+     *  cache is bounded, the access is recorded for the access order.
+     *
+     *  @param  key The key.
+     *  @return The value; {@null} if the cache does not have a value for the
+     *      given key.
+     */
+    private final V lookup( final K key )
+    {
+        final var reference = m_Entries.get( key );
+        final var retValue = isNull( reference ) ? null : reference.get();
+        if( nonNull( retValue ) && (m_MaximumSize != UNBOUNDED) ) recordAccess( key );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lookup()
+
+    /**
+     *  Applies the recorded accesses to the access order and removes the
+     *  entries for the references that were cleared by the garbage
+     *  collector. This method must be called while holding the lock.
+     */
+    private final void performMaintenance()
+    {
+        drainAccessBuffer();
+        expungeStaleEntries();
+    }   //  performMaintenance()
+
+    /**
+     *  Records an access to the given key in the buffer. If the buffer is
+     *  full, the recorded accesses are applied to the access order, but only
+     *  if the lock is free; otherwise the oldest accesses will be
+     *  overwritten.
+     *
+     *  @param  key The key.
+     */
+    private final void recordAccess( final K key )
+    {
+        final var index = m_AccessWriteIndex.getAndIncrement();
+        m_AccessBuffer.lazySet( (int) index & ACCESS_BUFFER_MASK, key );
+        if( ((int) index & ACCESS_BUFFER_MASK) == ACCESS_BUFFER_MASK )
+        {
+            final var lock = m_Lock.getWrappedLockInstance();
+            if( lock.tryLock() )
+            {
+                try
+                {
+                    performMaintenance();
+                }
+                finally
+                {
+                    lock.unlock();
+                }
+            }
+        }
+    }   //  recordAccess()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int size()
+    {
+        final int retValue;
+        try( final var _ = m_Lock.lock() )
+        {
+            performMaintenance();
+            retValue = m_Entries.size();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  size()
+}
+//  class SoftCacheImpl
+
+/*
+ *  End of File
+ */
@@ -19,10 +19,14 @@ package org.tquadrat.foundation.lang.internal;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.SoftReference;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -30,9 +34,15 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.lang.SoftLazy;
 
 /**
- *  The implementation for the
+ *  <p>{@summary The implementation for the
  *  {@link SoftLazy}
- *  interface.
+ *  interface.}</p>
+ *  <p>This implementation is thread-safe. When the garbage collector has
+ *  cleared the data, only one thread calls the initializer to recreate it;
+ *  all other threads that need the data in the meantime are waiting for
+ *  that thread, on a
+ *  {@link CompletableFuture}
+ *  so that virtual threads will not block their carrier threads.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: SoftLazyImpl.java 1031 2022-04-07 22:43:02Z tquadrat $
@@ -56,16 +66,50 @@ public final class SoftLazyImpl<T> implements SoftLazy<T>
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The completion for a running recreation of the data; it is
+     *  {@null} while no recreation is in progress.
+     */
+    @SuppressWarnings( "unused" )
+    private volatile CompletableFuture<T> m_Completion;
+
     /**
      *  The initializer method.
      */
     private final Supplier<T> m_Initializer;
 
     /**
-     *  The data reference.
+     *  The thread that currently calls the initializer; used to detect a
+     *  recursive recreation.
+     */
+    private Thread m_InitializerThread;
+
+    /**
+     *  The data reference; it is {@null} until the data was created for the
+     *  first time.
+     */
+    private volatile SoftReference<T> m_Reference;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The handle for the field
+     *  {@link #m_Completion}.
      */
-    @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
-    private Optional<SoftReference<T>> m_Reference = Optional.empty();
+    private static final VarHandle m_CompletionHandle;
+
+    static
+    {
+        try
+        {
+            m_CompletionHandle = MethodHandles.lookup().findVarHandle( SoftLazyImpl.class, "m_Completion", CompletableFuture.class );
+        }
+        catch( final NoSuchFieldException | IllegalAccessException e )
+        {
+            throw new ExceptionInInitializerError( e );
+        }
+    }
 
         /*--------------*\
     ====** Constructors **=====================================================
@@ -78,48 +122,105 @@ public final class SoftLazyImpl<T> implements SoftLazy<T>
     public SoftLazyImpl( final Supplier<T> initializer )
     {
         m_Initializer = requireNonNullArgument( initializer, "initializer" );
+        m_Completion = null;
+        m_InitializerThread = null;
+        m_Reference = null;
     }   //  SoftLazyImpl<T>()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  Creates the reference to the data.
-     *
-     *  @return The reference.
+     *  {@inheritDoc}
      */
-    private final SoftReference<T> createReference()
+    @Override
+    public final T get()
     {
-        final var data = m_Initializer.get();
-        final var retValue = new SoftReference<>( data );
+        final var reference = m_Reference;
+        var retValue = isNull( reference ) ? null : reference.get();
+        if( isNull( retValue ) ) retValue = recreate( reference );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  createReference()
+    }   //  get()
 
     /**
-     *  {@inheritDoc}
+     *  <p>{@summary Recreates the data.} Only one thread at a time calls the
+     *  initializer; the others are waiting for the result.</p>
+     *
+     *  @param  staleReference  The reference that was found empty by the
+     *      calling thread; can be {@null}.
+     *  @return The data.
+     *  @throws IllegalStateException   The initializer tried to retrieve the
+     *      data of this {@code SoftLazy} instance.
      */
-    @Override
-    public final T get()
+    @SuppressWarnings( "unchecked" )
+    private final T recreate( final SoftReference<T> staleReference ) throws IllegalStateException
     {
-        var updateReference = m_Reference.isEmpty();
-        var reference = m_Reference.orElseGet( this::createReference );
-        var retValue = reference.get();
-        if( isNull( retValue ) )
+        T retValue = null;
+        final var newCompletion = new CompletableFuture<T>();
+        final var completion = (CompletableFuture<T>) m_CompletionHandle.compareAndExchange( this, null, newCompletion );
+        if( isNull( completion ) )
         {
-            updateReference = true;
-            reference = createReference();
-            retValue = reference.get();
+            //---* This thread has to call the initializer *-------------------
+            try
+            {
+                /*
+                 * Another thread may have recreated the data after this one
+                 * found the stale reference.
+                 */
+                final var current = m_Reference;
+                if( nonNull( current ) && (current != staleReference) ) retValue = current.get();
+                if( isNull( retValue ) )
+                {
+                    m_InitializerThread = Thread.currentThread();
+                    try
+                    {
+                        retValue = m_Initializer.get();
+                    }
+                    finally
+                    {
+                        m_InitializerThread = null;
+                    }
+                    m_Reference = new SoftReference<>( retValue );
+                }
+                newCompletion.complete( retValue );
+            }
+            catch( final Throwable t )
+            {
+                newCompletion.completeExceptionally( t );
+                throw t;
+            }
+            finally
+            {
+                m_Completion = null;
+            }
+        }
+        else
+        {
+            //---* Wait for the other thread *---------------------------------
+            if( m_InitializerThread == Thread.currentThread() ) throw new IllegalStateException( "Recursive initialisation of SoftLazy" );
+            try
+            {
+                retValue = completion.join();
+            }
+            catch( final CompletionException e )
+            {
+                switch( e.getCause() )
+                {
+                    case final RuntimeException cause -> throw cause;
+                    case final Error cause -> throw cause;
+                    case null, default -> throw e;
+                }
+            }
         }
-        if( updateReference ) m_Reference = Optional.of( reference );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  get()
+    }   //  recreate()
 }
 //  class SoftLazyImpl
 
 /*
  *  End of File
- */
\ No newline at end of file
+ */
@@ -0,0 +1,196 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.Action;
+import org.tquadrat.foundation.lang.AutoLock;
+import org.tquadrat.foundation.lang.AutoLock.ExecutionFailedException;
+import org.tquadrat.foundation.lang.AutoReadWriteLock;
+import org.tquadrat.foundation.lang.Constraint;
+import org.tquadrat.foundation.lang.Operation;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link AutoReadWriteLock}
+ *  that is based on a
+ *  {@link StampedLock}.}</p>
+ *  <p>{@link #evaluate(Constraint)}
+ *  and
+ *  {@link #execute(Operation)}
+ *  call the constraint or operation first with an optimistic read stamp;
+ *  only if that stamp is no longer valid afterwards, they call it again
+ *  while holding the read lock.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: StampedAutoReadWriteLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: StampedAutoReadWriteLockImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class StampedAutoReadWriteLockImpl implements AutoReadWriteLock
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The wrapped lock.
+     */
+    private final StampedLock m_Lock;
+
+    /**
+     *  The read lock.
+     */
+    private final AutoLock m_ReadLock;
+
+    /**
+     *  The write lock.
+     */
+    private final AutoLock m_WriteLock;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code StampedAutoReadWriteLockImpl} instance.
+     *
+     *  @param  lock    The wrapped lock.
+     */
+    public StampedAutoReadWriteLockImpl( final StampedLock lock )
+    {
+        m_Lock = requireNonNullArgument( lock, "lock" );
+        m_ReadLock = AutoLock.of( m_Lock.asReadLock() );
+        m_WriteLock = AutoLock.of( m_Lock.asWriteLock() );
+    }   //  StampedAutoReadWriteLockImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final boolean evaluate( final Constraint constraint ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( constraint, "constraint" );
+
+        boolean retValue = false;
+        var valid = false;
+        final var stamp = m_Lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            /*
+             * Catching java.lang.Throwable is required here, as the
+             * constraint may fail on inconsistent data; the failure counts
+             * only when the stamp is still valid.
+             */
+            try
+            {
+                retValue = constraint.evaluate();
+                valid = m_Lock.validate( stamp );
+            }
+            catch( final Throwable t )
+            {
+                if( m_Lock.validate( stamp ) ) throw new ExecutionFailedException( t );
+            }
+        }
+
+        //---* Fall back to the read lock *------------------------------------
+        if( !valid ) retValue = m_ReadLock.evaluate( constraint );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  evaluate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OverlyBroadCatchBlock" )
+    @Override
+    public final <R> Optional<R> execute( final Operation<? extends R> operation ) throws ExecutionFailedException
+    {
+        requireNonNullArgument( operation, "operation" );
+
+        Optional<R> retValue = Optional.empty();
+        var valid = false;
+        final var stamp = m_Lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            /*
+             * Catching java.lang.Throwable is required here, as the
+             * operation may fail on inconsistent data; the failure counts
+             * only when the stamp is still valid.
+             */
+            try
+            {
+                retValue = Optional.ofNullable( operation.get() );
+                valid = m_Lock.validate( stamp );
+            }
+            catch( final Throwable t )
+            {
+                if( m_Lock.validate( stamp ) ) throw new ExecutionFailedException( t );
+            }
+        }
+
+        //---* Fall back to the read lock *------------------------------------
+        if( !valid ) retValue = m_ReadLock.execute( operation );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  execute()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final ReadWriteLock getWrappedLockInstance() { return m_Lock.asReadWriteLock(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void perform( final Action action ) throws ExecutionFailedException { m_WriteLock.perform( action ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final AutoLock readLock() { return m_ReadLock; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final AutoLock writeLock() { return m_WriteLock; }
+}
+//  class StampedAutoReadWriteLockImpl
+
+/*
+ *  End of File
+ */
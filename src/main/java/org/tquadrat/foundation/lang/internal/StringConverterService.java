@@ -26,8 +26,12 @@ import static org.tquadrat.foundation.lang.StringConverter.METHOD_NAME_GetSubjec
 import static org.tquadrat.foundation.lang.StringConverter.METHOD_NAME_Provider;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,12 +42,22 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
 import org.tquadrat.foundation.exception.UnexpectedExceptionError;
+import org.tquadrat.foundation.lang.AutoLock;
 import org.tquadrat.foundation.lang.StringConverter;
 
 /**
- *  The implementation for the
+ *  <p>{@summary The implementation for the
  *  {@link StringConverter}
- *  service methods.
+ *  service methods.}</p>
+ *  <p>The registry of the known converters will be built once, on the first
+ *  lookup, and is immutable afterwards; lookups will not acquire a lock.
+ *  Calling
+ *  {@link #reloadConverters(ModuleLayer)}
+ *  or
+ *  {@link #invalidateRegistry()}
+ *  will cause the registry to be rebuilt, e.g. after a new
+ *  {@link ModuleLayer}
+ *  was added.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: StringConverterService.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -56,6 +70,209 @@ import org.tquadrat.foundation.lang.StringConverter;
 @UtilityClass
 public final class StringConverterService
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The registry for the known converters.}</p>
+     *  <p>Besides the converters from the service providers, an instance of
+     *  this class memoizes the results of the lookups along the class
+     *  hierarchy, and the default converters for {@code enum} types, each
+     *  per
+     *  {@link Class},
+     *  using a
+     *  {@link ClassValue}.
+     *  The latter does not prevent the classes and their class loaders from
+     *  being garbage collected.</p>
+     *  <p>Instances of this class are immutable; when the registry is
+     *  reloaded, a new instance will be created, and with it the
+     *  memoized results are discarded.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: StringConverterService.java 1258 2026-06-04 18:33:06Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: StringConverterService.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class Registry
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The converters, with their subject classes as the key.
+         */
+        private final Map<Class<?>,StringConverter<?>> m_Converters;
+
+        /**
+         *  The default converters for {@code enum} types.
+         */
+        private final ClassValue<StringConverter<?>> m_EnumConverters;
+
+        /**
+         *  The converters that were resolved along the class hierarchy.
+         */
+        private final ClassValue<Optional<StringConverter<?>>> m_ResolvedConverters;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Registry}.
+         *
+         *  @param  converters  The converters, with their subject classes as
+         *      the key.
+         */
+        public Registry( final Map<Class<?>,StringConverter<?>> converters )
+        {
+            m_Converters = Map.copyOf( converters );
+            m_EnumConverters = new ClassValue<>()
+            {
+                /**
+                 *  {@inheritDoc}
+                 */
+                @SuppressWarnings( {"unchecked", "rawtypes"} )
+                @Override
+                protected final StringConverter<?> computeValue( final Class<?> type )
+                {
+                    final StringConverter<?> retValue = m_Converters.containsKey( type )
+                        ? m_Converters.get( type )
+                        : new DefaultEnumStringConverter( type );
+
+                    //---* Done *----------------------------------------------
+                    return retValue;
+                }   //  computeValue()
+            };
+            m_ResolvedConverters = new ClassValue<>()
+            {
+                /**
+                 *  {@inheritDoc}
+                 */
+                @Override
+                protected final Optional<StringConverter<?>> computeValue( final Class<?> type )
+                {
+                    return resolve( type );
+                }   //  computeValue()
+            };
+        }   //  Registry()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the converter for the given class.
+         *
+         *  @param  type    The subject class.
+         *  @return The converter; {@null} if there is no converter for the
+         *      given class.
+         */
+        public final StringConverter<?> get( final Class<?> type ) { return m_Converters.get( type ); }
+
+        /**
+         *  Returns the converter for the given {@code enum} type; if there is
+         *  no converter registered for it, an instance of
+         *  {@link DefaultEnumStringConverter}
+         *  will be returned. Subsequent calls for the same type will return
+         *  the same converter instance.
+         *
+         *  @param  type    The {@code enum} type.
+         *  @return The converter.
+         */
+        public final StringConverter<?> getForEnum( final Class<? extends Enum<?>> type ) { return m_EnumConverters.get( type ); }
+
+        /**
+         *  Returns the converter for the given class or for its nearest
+         *  superclass or interface that has a converter. The result is
+         *  memoized.
+         *
+         *  @param  type    The subject class.
+         *  @return An instance of
+         *      {@link Optional}
+         *      that holds the converter.
+         */
+        public final Optional<StringConverter<?>> getForHierarchy( final Class<?> type ) { return m_ResolvedConverters.get( type ); }
+
+        /**
+         *  Returns the subject classes for the registered converters.
+         *
+         *  @return The subject classes.
+         */
+        public final Collection<Class<?>> keySet() { return m_Converters.keySet(); }
+
+        /**
+         *  <p>{@summary Searches the converter for the given class along the
+         *  class hierarchy.}</p>
+         *  <p>First, the given class itself and its superclasses are checked,
+         *  starting with the given class; then the interfaces are checked,
+         *  breadth first, starting with those that are implemented directly
+         *  by the given class.</p>
+         *
+         *  @param  type    The subject class.
+         *  @return An instance of
+         *      {@link Optional}
+         *      that holds the converter.
+         */
+        private final Optional<StringConverter<?>> resolve( final Class<?> type )
+        {
+            StringConverter<?> result = null;
+
+            //---* Check the class and its superclasses *----------------------
+            final Deque<Class<?>> interfaces = new ArrayDeque<>();
+            SearchLoop: for( Class<?> currentClass = type; nonNull( currentClass ); currentClass = currentClass.getSuperclass() )
+            {
+                result = m_Converters.get( currentClass );
+                if( nonNull( result ) ) break SearchLoop;
+                interfaces.addAll( List.of( currentClass.getInterfaces() ) );
+            }   //  SearchLoop:
+
+            //---* Check the interfaces *--------------------------------------
+            final Collection<Class<?>> visited = new HashSet<>();
+            InterfaceLoop: while( isNull( result ) && !interfaces.isEmpty() )
+            {
+                final var currentInterface = interfaces.removeFirst();
+                if( visited.add( currentInterface ) )
+                {
+                    result = m_Converters.get( currentInterface );
+                    interfaces.addAll( List.of( currentInterface.getInterfaces() ) );
+                }
+            }   //  InterfaceLoop:
+
+            final var retValue = Optional.<StringConverter<?>>ofNullable( result );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  resolve()
+    }
+    //  class Registry
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The lock that guards the creation of the converter registry.
+     */
+    private static final AutoLock m_Lock;
+
+    /**
+     *  The additional module layers that are used to load the converters.
+     */
+    private static volatile List<ModuleLayer> m_ModuleLayers;
+
+    /**
+     *  The registry for the known converters; it will be {@null} if not yet
+     *  loaded, or if it was invalidated.
+     */
+    private static volatile Registry m_Registry;
+
+    static
+    {
+        m_Lock = AutoLock.of();
+        m_ModuleLayers = List.of();
+        m_Registry = null;
+    }
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -67,6 +284,64 @@ public final class StringConverterService
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Creates the registry from the converters that are visible for this
+     *  module, and from those provided by the additional module layers.
+     *
+     *  @return The new registry.
+     */
+    private static final Registry createRegistry()
+    {
+        final var converters = loadConverters();
+        for( final var moduleLayer : m_ModuleLayers )
+        {
+            converters.putAll( loadConverters( moduleLayer ) );
+        }
+        final var retValue = new Registry( converters );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createRegistry()
+
+    /**
+     *  Returns the registry with the known converters. If it was not yet
+     *  loaded, this will be done now.
+     *
+     *  @return The registry.
+     */
+    private static final Registry getRegistry()
+    {
+        var retValue = m_Registry;
+        if( isNull( retValue ) )
+        {
+            try( final var _ = m_Lock.lock() )
+            {
+                retValue = m_Registry;
+                if( isNull( retValue ) )
+                {
+                    retValue = createRegistry();
+                    m_Registry = retValue;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getRegistry()
+
+    /**
+     *  Invalidates the registry with the known converters; it will be
+     *  rebuilt on the next lookup.
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    public static final void invalidateRegistry()
+    {
+        try( final var _ = m_Lock.lock() )
+        {
+            m_Registry = null;
+        }
+    }   //  invalidateRegistry()
+
     /**
      *  Returns the classes for that an instance of {@code StringConverter} is
      *  registered,
@@ -76,23 +351,41 @@ public final class StringConverterService
     @API( status = INTERNAL, since = "0.1.0" )
     public static final Collection<Class<?>> listInstances()
     {
-        final var registry = loadConverters();
-        final Collection<Class<?>> retValue = List.copyOf( registry.keySet() );
+        final Collection<Class<?>> retValue = List.copyOf( getRegistry().keySet() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  listInstances()
 
     /**
-     *  Loads the known instances of
-     *  {@link StringConverter}.
+     *  <p>{@summary Loads the known instances of
+     *  {@link StringConverter}.}</p>
+     *  <p>Each call will scan the service providers again; for lookups, the
+     *  cached registry should be used instead.</p>
      *
      *  @return The registry with the converters.
      */
     @API( status = INTERNAL, since = "0.1.0" )
     public static final Map<Class<?>,StringConverter<?>> loadConverters()
     {
-        final var moduleLayer = StringConverter.class.getModule().getLayer();
+        final var retValue = loadConverters( StringConverter.class.getModule().getLayer() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadConverters()
+
+    /**
+     *  Loads the instances of
+     *  {@link StringConverter}
+     *  that are visible from the given
+     *  {@link ModuleLayer}.
+     *
+     *  @param  moduleLayer The module layer; if {@null}, the converters are
+     *      loaded from the class path.
+     *  @return The registry with the converters.
+     */
+    private static final Map<Class<?>,StringConverter<?>> loadConverters( final ModuleLayer moduleLayer )
+    {
         final var converters = isNull( moduleLayer )
             ? ServiceLoader.load( StringConverter.class )
             : ServiceLoader.load( moduleLayer, StringConverter.class );
@@ -122,6 +415,38 @@ public final class StringConverterService
         return retValue;
     }   //  loadConverters()
 
+    /**
+     *  <p>{@summary Rebuilds the registry with the known converters, using the
+     *  given
+     *  {@link ModuleLayer}
+     *  to locate the service providers.}</p>
+     *  <p>This is required when a new module layer was added that provides
+     *  additional implementations of
+     *  {@link StringConverter}.
+     *  The given layer will be remembered, so that its converters (and those
+     *  from its parent layers) will survive a later
+     *  {@linkplain #invalidateRegistry() invalidation}.
+     *  A converter from the given layer replaces an already known converter
+     *  for the same subject class.</p>
+     *
+     *  @param  moduleLayer The module layer.
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    public static final void reloadConverters( final ModuleLayer moduleLayer )
+    {
+        requireNonNullArgument( moduleLayer, "moduleLayer" );
+        try( final var _ = m_Lock.lock() )
+        {
+            if( !m_ModuleLayers.contains( moduleLayer ) )
+            {
+                final List<ModuleLayer> moduleLayers = new ArrayList<>( m_ModuleLayers );
+                moduleLayers.add( moduleLayer );
+                m_ModuleLayers = List.copyOf( moduleLayers );
+            }
+            m_Registry = createRegistry();
+        }
+    }   //  reloadConverters()
+
     /**
      *  Returns an instance of {@code StringConverter} for the given
      *  {@link Class}.
@@ -141,8 +466,7 @@ public final class StringConverterService
         StringConverter<?> result = null;
         if( nonNull( type ) )
         {
-            final var registry = loadConverters();
-            result = registry.get( type );
+            result = getRegistry().get( type );
         }
         @SuppressWarnings( "unchecked" )
         final var retValue = Optional.ofNullable( (StringConverter<C>) result );
@@ -151,12 +475,43 @@ public final class StringConverterService
         return retValue;
     }   //  retrieveConverterForClass()
 
+    /**
+     *  <p>{@summary Returns an instance of {@code StringConverter} for the
+     *  given
+     *  {@link Class},
+     *  or for the nearest superclass or interface of it, if there is no
+     *  converter for the class itself.} If there is no converter at all,
+     *  or the type is {@null}, the return value is
+     *  {@link Optional#empty()}.</p>
+     *  <p>The superclasses are searched before the interfaces. The result
+     *  is memoized per class, so that subsequent lookups for the same class
+     *  are cheap.</p>
+     *
+     *  @param  <C> The class a converter is needed for.
+     *  @param  type    The instance of the class a converter is needed for.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the instance of {@code StringConverter}.
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    public static final <C> Optional<StringConverter<? super C>> retrieveConverterForClassHierarchy( final Class<C> type )
+    {
+        @SuppressWarnings( "unchecked" )
+        final Optional<StringConverter<? super C>> retValue = isNull( type )
+            ? Optional.empty()
+            : getRegistry().getForHierarchy( type ).map( converter -> (StringConverter<? super C>) converter );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveConverterForClassHierarchy()
+
     /**
      *  Returns an instance of {@code StringConverter} for the given
      *  {@link Enum} type.
-     *  If there is no converter for the given type in the registry, a new
-     *  instance of {@code StringConverter} will be created, on base of
-     *  {@link DefaultEnumStringConverter}.
+     *  If there is no converter for the given type in the registry, an
+     *  instance of
+     *  {@link DefaultEnumStringConverter}
+     *  will be returned; it is created only once per type.
      *
      *  @param  <E> The class a converter is needed for.
      *  @param  type    The instance of the class a converter is needed for.
@@ -165,7 +520,8 @@ public final class StringConverterService
     @API( status = INTERNAL, since = "0.1.0" )
     public static final <E extends Enum<E>> StringConverter<E> retrieveConverterForEnum( final Class<E> type )
     {
-        final var retValue = retrieveConverterForClass( requireNonNullArgument( type, "type" ) ).orElseGet( () -> new DefaultEnumStringConverter<>( type ) );
+        @SuppressWarnings( "unchecked" )
+        final var retValue = (StringConverter<E>) getRegistry().getForEnum( requireNonNullArgument( type, "type" ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -0,0 +1,745 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Integer.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ImpossibleExceptionError;
+import org.tquadrat.foundation.lang.AutoSemaphore;
+
+/**
+ *  <p>{@summary An implementation of
+ *  {@link AutoSemaphore}
+ *  that distributes its permits over several stripes.} At the same time,
+ *  this class extends
+ *  {@link Semaphore},
+ *  but it overrides all of its methods that acquire or release permits.
+ *  The methods
+ *  {@link #hasQueuedThreads()}
+ *  and
+ *  {@link #getQueueLength()}
+ *  are final in {@code Semaphore}, they do not report the threads that are
+ *  waiting for permits from this semaphore.</p>
+ *  <p>Each thread acquires its permits from, and releases them to, its
+ *  <i>home stripe</i>, that is determined by the hash of its
+ *  {@linkplain Thread#threadId() id}.
+ *  If the home stripe does not have enough permits, the permits will be
+ *  collected from all stripes; this is done under a lock, so that only one
+ *  thread at a time holds permits that it has collected only partially.
+ *  Otherwise, two threads that need more than one permit could take each
+ *  other's permits, fail, return them, and try again, without any progress.
+ *  Each stripe lives on its own cache line, so that threads on different
+ *  cores will rarely write to the same memory.</p>
+ *  <p>The total number of permits is exact at any time: the permits in the
+ *  stripes, minus the permits that are owed to the semaphore (if it was
+ *  created with a negative number of permits, or if permits were
+ *  {@linkplain #reducePermits(int) reduced}),
+ *  plus the permits that are held by the threads.</p>
+ *  <p>Only threads that do not find enough permits in their home stripe
+ *  will use a lock; a release will only touch that lock if there are
+ *  threads waiting. The semaphore is never fair.</p>
+ *  <p>A deserialised instance is replaced by a new one with the same
+ *  number of stripes and of available permits.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: StripedSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: StripedSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class StripedSemaphoreImpl extends Semaphore implements AutoSemaphore
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The implementation of
+     *  {@link AutoSemaphore.Token}
+     *  for
+     *  {@link StripedSemaphoreImpl}.}</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: StripedSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: StripedSemaphoreImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public final class TokenImpl implements AutoSemaphore.Token
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of permits to release on close.
+         */
+        private final int m_Permits;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code TokenImpl}.
+         *
+         *  @param  permits The number of the acquired permits.
+         */
+        public TokenImpl( final int permits )
+        {
+            m_Permits = permits;
+        }   //  TokenImpl()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void close()
+        {
+            StripedSemaphoreImpl.this.release( m_Permits );
+        }   //  close()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Semaphore getSemaphore() { return StripedSemaphoreImpl.this; }
+    }
+    //  class TokenImpl
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of stripes: {@value}.
+     */
+    public static final int MAX_STRIPES = 256;
+
+    /**
+     *  The distance between two stripes in the array of permits, in
+     *  {@code int} slots: {@value}. This puts each stripe on its own cache
+     *  line.
+     */
+    private static final int STRIPE_DISTANCE = 16;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The queue for the asynchronous requests for tokens.
+     */
+    private final transient AsyncTokenQueue m_AsyncQueue;
+
+    /**
+     *  The number of permits that is owed to this semaphore; releases will
+     *  pay this debt first, before the permits are made available again.
+     */
+    private final AtomicInteger m_Debt;
+
+    /**
+     *  The lock that is used by the threads that collect permits from all
+     *  stripes, or that have to wait for permits.
+     */
+    private final ReentrantLock m_Lock;
+
+    /**
+     *  The mask that determines a stripe from a hash.
+     */
+    private final int m_Mask;
+
+    /**
+     *  The condition that signals that permits were released.
+     */
+    private final transient Condition m_PermitsReleased;
+
+    /**
+     *  The stripes; only every
+     *  {@value #STRIPE_DISTANCE}th
+     *  element is used.
+     */
+    private final AtomicIntegerArray m_Stripes;
+
+    /**
+     *  The number of threads that are waiting for permits.
+     */
+    private final AtomicInteger m_Waiters;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The serial version UID for objects of this class: {@value}.
+     *
+     *  @hidden
+     */
+    @Serial
+    private static final long serialVersionUID = 539879857L;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a {@code StripedSemaphoreImpl} instance with the given number
+     *  of permits and one stripe for each available processor.
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     */
+    public StripedSemaphoreImpl( final int permits )
+    {
+        this( permits, Runtime.getRuntime().availableProcessors() );
+    }   //  StripedSemaphoreImpl()
+
+    /**
+     *  Creates a {@code StripedSemaphoreImpl} instance with the given number
+     *  of permits and the given number of stripes.
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     *  @param  stripes The number of stripes; it will be rounded up to the
+     *      next power of two, but it will not exceed
+     *      {@value #MAX_STRIPES}.
+     */
+    public StripedSemaphoreImpl( final int permits, final int stripes )
+    {
+        super( 0, false );
+        requireValidIntegerArgument( stripes, "stripes", v -> v > 0 );
+
+        final var stripeCount = stripes >= MAX_STRIPES ? MAX_STRIPES : Integer.highestOneBit( (stripes << 1) - 1 );
+        m_Mask = stripeCount - 1;
+        m_Stripes = new AtomicIntegerArray( stripeCount * STRIPE_DISTANCE );
+        m_Debt = new AtomicInteger( permits < 0 ? -permits : 0 );
+        m_Waiters = new AtomicInteger( 0 );
+        m_Lock = new ReentrantLock();
+        m_PermitsReleased = m_Lock.newCondition();
+        m_AsyncQueue = new AsyncTokenQueue( this::tryAcquire, this::createToken );
+
+        //---* Distribute the permits *----------------------------------------
+        if( permits > 0 )
+        {
+            for( var i = 0; i < stripeCount; ++i )
+            {
+                m_Stripes.set( i * STRIPE_DISTANCE, permits / stripeCount + (i < permits % stripeCount ? 1 : 0) );
+            }
+        }
+    }   //  StripedSemaphoreImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void acquire() throws InterruptedException { acquire( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void acquire( final int permits ) throws InterruptedException
+    {
+        checkPermits( permits );
+        if( Thread.interrupted() ) throw new InterruptedException();
+        if( !take( permits ) ) awaitPermits( permits, true, -1L );
+    }   //  acquire()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    public final Token acquireToken( final int permits ) throws InterruptedException, IllegalArgumentException
+    {
+        acquire( permits );
+        final var retValue = createToken( permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  acquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CompletableFuture<Token> acquireTokenAsync( final int permits ) throws IllegalArgumentException { return m_AsyncQueue.acquire( permits ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    public final Token acquireTokenUninterruptibly( final int permits ) throws IllegalArgumentException
+    {
+        acquireUninterruptibly( permits );
+        final var retValue = createToken( permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  acquireTokenUninterruptibly()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void acquireUninterruptibly() { acquireUninterruptibly( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void acquireUninterruptibly( final int permits )
+    {
+        checkPermits( permits );
+        if( !take( permits ) )
+        {
+            try
+            {
+                awaitPermits( permits, false, -1L );
+            }
+            catch( final InterruptedException e )
+            {
+                throw new ImpossibleExceptionError( e );
+            }
+        }
+    }   //  acquireUninterruptibly()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int availablePermits()
+    {
+        var retValue = -m_Debt.get();
+        for( var i = 0; i <= m_Mask; ++i ) retValue += m_Stripes.get( i * STRIPE_DISTANCE );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  availablePermits()
+
+    /**
+     *  Waits until the given number of permits could be taken, or the given
+     *  time has elapsed.
+     *
+     *  @param  permits The number of permits.
+     *  @param  interruptible   {@true} if the wait can be interrupted,
+     *      {@false} otherwise.
+     *  @param  nanos   The maximum time to wait in nanoseconds; a negative
+     *      value means that there is no limit.
+     *  @return {@true} if the permits were taken, {@false} if the time has
+     *      elapsed before.
+     *  @throws InterruptedException    The current thread was interrupted
+     *      while waiting.
+     */
+    private final boolean awaitPermits( final int permits, final boolean interruptible, final long nanos ) throws InterruptedException
+    {
+        var retValue = false;
+        m_Waiters.incrementAndGet();
+        try
+        {
+            if( interruptible ) m_Lock.lockInterruptibly(); else m_Lock.lock();
+            try
+            {
+                var remaining = nanos;
+                WaitLoop: while( !(retValue = take( permits )) )
+                {
+                    if( nanos < 0 )
+                    {
+                        if( interruptible ) m_PermitsReleased.await(); else m_PermitsReleased.awaitUninterruptibly();
+                    }
+                    else
+                    {
+                        if( remaining <= 0L ) break WaitLoop;
+                        remaining = m_PermitsReleased.awaitNanos( remaining );
+                    }
+                }   //  WaitLoop:
+            }
+            finally
+            {
+                m_Lock.unlock();
+            }
+        }
+        finally
+        {
+            m_Waiters.decrementAndGet();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  awaitPermits()
+
+    /**
+     *  Checks whether the given number of permits is not negative.
+     *
+     *  @param  permits The number of permits.
+     *  @throws IllegalArgumentException    The number is negative.
+     */
+    private static final void checkPermits( final int permits ) throws IllegalArgumentException
+    {
+        requireValidIntegerArgument( permits, "permits", v -> v >= 0 );
+    }   //  checkPermits()
+
+    /**
+     *  Creates a token for the given number of permits that were acquired
+     *  already.
+     *
+     *  @param  permits The number of permits.
+     *  @return The new token.
+     */
+    @SuppressWarnings( "ReturnOfInnerClass" )
+    private final Token createToken( final int permits ) { return new TokenImpl( permits ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int drainPermits()
+    {
+        var retValue = -m_Debt.getAndSet( 0 );
+        for( var i = 0; i <= m_Mask; ++i ) retValue += m_Stripes.getAndSet( i * STRIPE_DISTANCE, 0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  drainPermits()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Semaphore getSemaphore() { return this; }
+
+    /**
+     *  Returns the number of stripes.
+     *
+     *  @return The number of stripes.
+     */
+    @SuppressWarnings( "PublicMethodNotExposedInInterface" )
+    public final int getStripeCount() { return m_Mask + 1; }
+
+    /**
+     *  Returns the index of the home stripe for the current thread.
+     *
+     *  @return The index of the home stripe (not yet multiplied by
+     *      {@value #STRIPE_DISTANCE}).
+     */
+    private final int homeStripe()
+    {
+        final var h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        final var retValue = (int) (h ^ (h >>> 32)) & m_Mask;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  homeStripe()
+
+    /**
+     *  Pays the given number of permits to the debt of this semaphore.
+     *
+     *  @param  permits The number of permits.
+     *  @return The number of permits that are left after the debt was paid.
+     */
+    private final int payDebt( final int permits )
+    {
+        var retValue = permits;
+        PaymentLoop: while( retValue > 0 )
+        {
+            final var debt = m_Debt.get();
+            if( debt <= 0 ) break PaymentLoop;
+            final var payment = min( debt, retValue );
+            if( m_Debt.compareAndSet( debt, debt - payment ) ) retValue -= payment;
+        }   //  PaymentLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  payDebt()
+
+    /**
+     *  Replaces a deserialised instance by a new one, as the lock condition
+     *  and the queue for the asynchronous requests for tokens are not
+     *  serialised.
+     *
+     *  @return The new instance.
+     */
+    @Serial
+    private final Object readResolve() { return new StripedSemaphoreImpl( availablePermits(), getStripeCount() ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The permits that are not available currently will be taken from
+     *  the next released permits.</p>
+     */
+    @Override
+    protected final void reducePermits( final int reduction )
+    {
+        checkPermits( reduction );
+        final var home = homeStripe();
+        var taken = 0;
+        for( var i = 0; (i <= m_Mask) && (taken < reduction); ++i )
+        {
+            taken += takeFromStripe( (home + i) & m_Mask, reduction - taken );
+        }
+        if( taken < reduction ) m_Debt.addAndGet( reduction - taken );
+    }   //  reducePermits()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void release() { release( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void release( final int permits )
+    {
+        checkPermits( permits );
+        returnPermits( permits );
+    }   //  release()
+
+    /**
+     *  Returns the given number of permits to the home stripe of the current
+     *  thread, after any debt was paid, and wakes up the waiting threads, if
+     *  there are any; waiting asynchronous requests for tokens will be
+     *  granted, if possible.
+     *
+     *  @param  permits The number of permits.
+     */
+    private final void returnPermits( final int permits )
+    {
+        final var remaining = m_Debt.get() > 0 ? payDebt( permits ) : permits;
+        if( remaining > 0 )
+        {
+            m_Stripes.getAndAdd( homeStripe() * STRIPE_DISTANCE, remaining );
+            if( m_Waiters.get() > 0 )
+            {
+                m_Lock.lock();
+                try
+                {
+                    m_PermitsReleased.signalAll();
+                }
+                finally
+                {
+                    m_Lock.unlock();
+                }
+            }
+            m_AsyncQueue.drain();
+        }
+    }   //  returnPermits()
+
+    /**
+     *  Tries to take the given number of permits from the home stripe of the
+     *  current thread; if that stripe does not have enough permits, they
+     *  will be collected from all stripes, under the lock. If the stripes do
+     *  not have enough permits in total, the permits collected so far are
+     *  returned.
+     *
+     *  @param  permits The number of permits.
+     *  @return {@true} if the permits were taken, {@false} otherwise.
+     */
+    private final boolean take( final int permits )
+    {
+        final var home = homeStripe();
+        var retValue = takeAllFromStripe( home, permits );
+        if( !retValue )
+        {
+            m_Lock.lock();
+            try
+            {
+                /*
+                 * The releases do not use the lock, so permits may be moved
+                 * to a stripe that was already visited; another pass is made
+                 * as long as the previous one found some permits.
+                 */
+                var taken = 0;
+                int found;
+                do
+                {
+                    found = 0;
+                    for( var i = 0; (i <= m_Mask) && (taken + found < permits); ++i )
+                    {
+                        found += takeFromStripe( (home + i) & m_Mask, permits - taken - found );
+                    }
+                    taken += found;
+                }
+                while( (found > 0) && (taken < permits) );
+                retValue = taken == permits;
+                if( !retValue && (taken > 0) ) returnPermits( taken );
+            }
+            finally
+            {
+                m_Lock.unlock();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  take()
+
+    /**
+     *  Takes the given number of permits from the given stripe, but only if
+     *  that stripe has enough permits.
+     *
+     *  @param  stripe  The index of the stripe.
+     *  @param  permits The number of permits to take.
+     *  @return {@true} if the permits were taken, {@false} otherwise.
+     */
+    private final boolean takeAllFromStripe( final int stripe, final int permits )
+    {
+        final var index = stripe * STRIPE_DISTANCE;
+        var retValue = permits == 0;
+        TakeLoop: while( !retValue )
+        {
+            final var available = m_Stripes.get( index );
+            if( available < permits ) break TakeLoop;
+            retValue = m_Stripes.compareAndSet( index, available, available - permits );
+        }   //  TakeLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  takeAllFromStripe()
+
+    /**
+     *  Takes up to the given number of permits from the given stripe.
+     *
+     *  @param  stripe  The index of the stripe.
+     *  @param  permits The maximum number of permits to take.
+     *  @return The number of permits that were taken.
+     */
+    private final int takeFromStripe( final int stripe, final int permits )
+    {
+        final var index = stripe * STRIPE_DISTANCE;
+        var retValue = 0;
+        TakeLoop: while( permits > 0 )
+        {
+            final var available = m_Stripes.get( index );
+            if( available <= 0 ) break TakeLoop;
+            final var taken = min( available, permits );
+            if( m_Stripes.compareAndSet( index, available, available - taken ) )
+            {
+                retValue = taken;
+                break TakeLoop;
+            }
+        }   //  TakeLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  takeFromStripe()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s@%x[Permits = %d, Stripes = %d]".formatted( getClass().getName(), hashCode(), availablePermits(), getStripeCount() ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAcquire() { return tryAcquire( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAcquire( final int permits )
+    {
+        checkPermits( permits );
+        final var retValue = take( permits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquire()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAcquire( final long timeout, final TimeUnit unit ) throws InterruptedException
+    {
+        return tryAcquire( 1, timeout, unit );
+    }   //  tryAcquire()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAcquire( final int permits, final long timeout, final TimeUnit unit ) throws InterruptedException
+    {
+        checkPermits( permits );
+        final var nanos = Math.max( 0L, requireNonNullArgument( unit, "unit" ).toNanos( timeout ) );
+        if( Thread.interrupted() ) throw new InterruptedException();
+        final var retValue = take( permits ) || awaitPermits( permits, true, nanos );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquire()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits ) throws IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits ) ? Optional.of( createToken( permits ) ) : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits, final Duration timeout ) throws InterruptedException, IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits, NANOSECONDS.convert( requireNonNullArgument( timeout, "timeout" ) ), NANOSECONDS )
+            ? Optional.of( createToken( permits ) )
+            : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+}
+//  class StripedSemaphoreImpl
+
+/*
+ *  End of File
+ */
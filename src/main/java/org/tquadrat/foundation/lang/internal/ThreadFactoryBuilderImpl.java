@@ -23,6 +23,7 @@ import static java.lang.Thread.UncaughtExceptionHandler;
 import static java.lang.Thread.ofPlatform;
 import static java.lang.Thread.ofVirtual;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
@@ -36,6 +37,8 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.exception.ValidationException;
 import org.tquadrat.foundation.lang.Objects;
 import org.tquadrat.foundation.lang.ThreadFactoryBuilder;
+import org.tquadrat.foundation.lang.ThreadGroupExt;
+import org.tquadrat.foundation.lang.ThreadStatistics;
 
 /**
  *  The implementation of
@@ -55,10 +58,22 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
     ====** Inner Classes **====================================================
         \*---------------*/
     /**
-     *  The implementation of
+     *  <p>{@summary The implementation of
      *  {@link ThreadFactory}
      *  that is returned by
-     *  {@link ThreadFactoryBuilder#build()}.
+     *  {@link ThreadFactoryBuilder#build()}.}</p>
+     *  <p>The threads are created by the immutable factory that is returned
+     *  by
+     *  {@link Thread.Builder#factory()};
+     *  the name is set on the new, not yet started thread. So concurrent
+     *  calls to
+     *  {@link #newThread(Runnable)}
+     *  share no mutable state except for the atomic name counter.</p>
+     *  <p>If the threads are tracked by
+     *  {@link ThreadStatistics},
+     *  the task of each thread is wrapped, and the uncaught exceptions are
+     *  counted by a handler that delegates to the configured handler, or to
+     *  the thread group of the thread.</p>
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
      *  @version $Id: ThreadFactoryBuilderImpl.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -73,11 +88,6 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
             /*------------*\
         ====** Attributes **===================================================
             \*------------*/
-        /**
-         *  The thread builder.
-         */
-        private final Thread.Builder m_Builder;
-
         /**
          *  The context
          *  {@link ClassLoader}
@@ -85,6 +95,11 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
          */
         private final ClassLoader m_ContextClassLoader;
 
+        /**
+         *  The factory for the new threads; it is safe for concurrent use.
+         */
+        private final ThreadFactory m_Factory;
+
         /**
          *  The counter for the thread name.
          */
@@ -95,6 +110,11 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
          */
         private final IntFunction<String> m_NameFactory;
 
+        /**
+         *  The statistics that track the new threads; can be {@null}.
+         */
+        private final ThreadStatisticsImpl m_Statistics;
+
             /*--------------*\
         ====** Constructors **=================================================
             \*--------------*/
@@ -119,25 +139,49 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
          *      exceptions for the new threads; can be {@null}.
          *  @param  isVirtual   {@true} if this factory creates virtual
          *      threads, {@false} if it creates platform threads.
+         *  @param  statistics  The statistics that track the new threads;
+         *      can be {@null}.
          */
         @SuppressWarnings( {"BooleanParameter", "ConstructorWithTooManyParameters"} )
-        public ThreadFactoryImpl( final IntFunction<String> nameFactory, final ThreadGroup threadGroup, final long stackSize, final boolean inheritThreadLocals, final ClassLoader contextClassLoader, final boolean isDaemon, final int priority, final UncaughtExceptionHandler uncaughtExceptionHandler, final boolean isVirtual )
+        public ThreadFactoryImpl( final IntFunction<String> nameFactory, final ThreadGroup threadGroup, final long stackSize, final boolean inheritThreadLocals, final ClassLoader contextClassLoader, final boolean isDaemon, final int priority, final UncaughtExceptionHandler uncaughtExceptionHandler, final boolean isVirtual, final ThreadStatisticsImpl statistics )
         {
             m_NameFactory = requireNonNullArgument( nameFactory, "nameFactory" );
             m_ContextClassLoader = contextClassLoader;
+            m_Statistics = statistics;
 
-            m_Builder = isVirtual ? ofVirtual() : ofPlatform();
-            m_Builder.uncaughtExceptionHandler( uncaughtExceptionHandler )
-                .inheritInheritableThreadLocals( inheritThreadLocals );
+            final var builder = isVirtual ? ofVirtual() : ofPlatform();
+            builder.inheritInheritableThreadLocals( inheritThreadLocals );
+            if( nonNull( statistics ) )
+            {
+                builder.uncaughtExceptionHandler( (thread, throwable) ->
+                {
+                    statistics.recordUncaughtException();
+                    if( isNull( uncaughtExceptionHandler ) )
+                    {
+                        thread.getThreadGroup().uncaughtException( thread, throwable );
+                    }
+                    else
+                    {
+                        uncaughtExceptionHandler.uncaughtException( thread, throwable );
+                    }
+                } );
+            }
+            else if( nonNull( uncaughtExceptionHandler ) )
+            {
+                builder.uncaughtExceptionHandler( uncaughtExceptionHandler );
+            }
 
             if( !isVirtual )
             {
-                final var builder = (Thread.Builder.OfPlatform) m_Builder;
-                builder.daemon( isDaemon )
+                final var platformBuilder = (Thread.Builder.OfPlatform) builder;
+                platformBuilder.daemon( isDaemon )
                     .stackSize( stackSize );
-                if( nonNull( threadGroup ) ) builder.group( threadGroup );
-                if( (MIN_PRIORITY <= priority) && (priority <= MAX_PRIORITY) ) builder.priority( priority );
+                if( nonNull( threadGroup ) ) platformBuilder.group( threadGroup );
+                if( (MIN_PRIORITY <= priority) && (priority <= MAX_PRIORITY) ) platformBuilder.priority( priority );
             }
+
+            //---* The builder itself is not thread-safe, its factory is *-----
+            m_Factory = builder.factory();
         }   //  ThreadFactoryImpl()
 
             /*---------*\
@@ -156,9 +200,8 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
         @Override
         public final Thread newThread( final Runnable target )
         {
-            m_Builder.name( generateName() );
-
-            final var retValue = m_Builder.unstarted( target );
+            final var retValue = m_Factory.newThread( isNull( m_Statistics ) ? target : m_Statistics.track( target ) );
+            retValue.setName( generateName() );
             if( nonNull( m_ContextClassLoader ) ) retValue.setContextClassLoader( m_ContextClassLoader );
 
             //---* Done *------------------------------------------------------
@@ -217,6 +260,11 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
      */
     private long m_StackSize = 0;
 
+    /**
+     *  The statistics that track the new threads. The default is {@null}.
+     */
+    private ThreadStatistics m_Statistics = null;
+
     /**
      *  The thread group for the new threads. The default is {@null}.
      */
@@ -245,7 +293,9 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
     @Override
     public final ThreadFactory build()
     {
-        final var retValue = new ThreadFactoryImpl( m_NameFactory, m_ThreadGroup, m_StackSize, m_InheritThreadLocals, m_ContextClassLoader, m_IsDaemon, m_Priority, m_UncaughtExceptionHandler, m_IsVirtual );
+        var statistics = m_Statistics;
+        if( isNull( statistics ) && (m_ThreadGroup instanceof final ThreadGroupExt threadGroupExt) ) statistics = threadGroupExt.getStatistics().orElse( null );
+        final var retValue = new ThreadFactoryImpl( m_NameFactory, m_ThreadGroup, m_StackSize, m_InheritThreadLocals, m_ContextClassLoader, m_IsDaemon, m_Priority, m_UncaughtExceptionHandler, m_IsVirtual, (ThreadStatisticsImpl) statistics );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -329,6 +379,19 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
         return this;
     }   //  setStackSize()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    @Override
+    public final ThreadFactoryBuilderImpl setStatistics( final ThreadStatistics statistics )
+    {
+        m_Statistics = requireNonNullArgument( statistics, "statistics" );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  setStatistics()
+
     /**
      *  {@inheritDoc}
      */
@@ -379,6 +442,7 @@ public final class ThreadFactoryBuilderImpl implements ThreadFactoryBuilder
             .add( "NameFactory='%s' (returns \"%s\")".formatted(  Objects.toString( m_NameFactory ), m_NameFactory.apply( 1 ) ) )
             .add( "Priority=%d".formatted(  m_Priority ) )
             .add( "StackSize=%d byte".formatted(  m_StackSize ) )
+            .add( "Statistics='%s'".formatted(  Objects.toString( m_Statistics ) ) )
             .add( "ThreadGroup='%s' (name: %s)".formatted(  Objects.toString( m_ThreadGroup ), nonNull( m_ThreadGroup ) ? m_ThreadGroup.getName() : "n/a" ) )
             .add( "UncaughtExceptionHandler='%s'".formatted(  Objects.toString( m_UncaughtExceptionHandler ) ) );
 
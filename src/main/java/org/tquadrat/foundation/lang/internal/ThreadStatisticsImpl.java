@@ -0,0 +1,366 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Math.max;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotBlankArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidArgument;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.ThreadStatistics;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link ThreadStatistics}.}</p>
+ *  <p>A tracked thread runs its task wrapped by
+ *  {@link #track(Runnable)}:
+ *  the wrapper registers the thread as live when it starts, and on
+ *  termination, it adds the final CPU time and allocated bytes of the
+ *  thread – read by the thread itself – to the totals for the terminated
+ *  threads. A snapshot adds the current values of the live threads to these
+ *  totals.</p>
+ *  <p>Creating an instance enables the measurement of the CPU time and the
+ *  allocated bytes in the JVM, if it is supported but not enabled yet.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ThreadStatisticsImpl.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ThreadStatisticsImpl.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class ThreadStatisticsImpl implements ThreadStatistics
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of bytes that were allocated by the terminated threads.
+     */
+    private final LongAdder m_AllocatedBytesTerminated = new LongAdder();
+
+    /**
+     *  The CPU time in nanoseconds that was used by the terminated threads.
+     */
+    private final LongAdder m_CpuTimeTerminated = new LongAdder();
+
+    /**
+     *  The number of threads that were created.
+     */
+    private final LongAdder m_CreatedCount = new LongAdder();
+
+    /**
+     *  The snapshot that was taken last; {@null} if none was taken yet.
+     */
+    private volatile Snapshot m_LastSnapshot = null;
+
+    /**
+     *  The number of live threads.
+     */
+    private final AtomicInteger m_LiveCount = new AtomicInteger();
+
+    /**
+     *  The live threads.
+     */
+    private final Set<Thread> m_LiveThreads = ConcurrentHashMap.newKeySet();
+
+    /**
+     *  The name of the statistics.
+     */
+    private final String m_Name;
+
+    /**
+     *  The highest number of live threads.
+     */
+    private final AtomicInteger m_PeakCount = new AtomicInteger();
+
+    /**
+     *  The generation of the periodic sampling; it is incremented each time
+     *  the sampling is started or stopped, so that a scheduled sampling of
+     *  an older generation does nothing.
+     */
+    private final AtomicLong m_SamplingGeneration = new AtomicLong();
+
+    /**
+     *  The handle for the next scheduled sampling; {@null} if the sampling
+     *  was not started.
+     */
+    private volatile TimerWheel.Timeout m_SamplingTimeout = null;
+
+    /**
+     *  The number of uncaught exceptions.
+     */
+    private final LongAdder m_UncaughtExceptionCount = new LongAdder();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The extended thread MXBean that provides the allocated bytes;
+     *  {@null} if it is not available.
+     */
+    private static final com.sun.management.ThreadMXBean m_AllocationMXBean;
+
+    /**
+     *  The flag that indicates whether the CPU time of threads can be
+     *  measured.
+     */
+    private static final boolean m_IsCpuTimeSupported;
+
+    /**
+     *  The thread MXBean.
+     */
+    private static final ThreadMXBean m_ThreadMXBean;
+
+    static
+    {
+        m_ThreadMXBean = ManagementFactory.getThreadMXBean();
+        m_IsCpuTimeSupported = m_ThreadMXBean.isThreadCpuTimeSupported() && m_ThreadMXBean.isCurrentThreadCpuTimeSupported();
+        m_AllocationMXBean = (m_ThreadMXBean instanceof final com.sun.management.ThreadMXBean mxBean) && mxBean.isThreadAllocatedMemorySupported()
+            ? mxBean
+            : null;
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code ThreadStatisticsImpl}.
+     *
+     *  @param  name    The name of the statistics.
+     *  @throws ValidationException The name is {@null}, empty or blank.
+     */
+    public ThreadStatisticsImpl( final String name ) throws ValidationException
+    {
+        m_Name = requireNotBlankArgument( name, "name" );
+
+        //---* Enable the measurements *---------------------------------------
+        try
+        {
+            if( m_IsCpuTimeSupported && !m_ThreadMXBean.isThreadCpuTimeEnabled() ) m_ThreadMXBean.setThreadCpuTimeEnabled( true );
+            if( nonNull( m_AllocationMXBean ) && !m_AllocationMXBean.isThreadAllocatedMemoryEnabled() ) m_AllocationMXBean.setThreadAllocatedMemoryEnabled( true );
+        }
+        catch( final UnsupportedOperationException | SecurityException _ )
+        {
+            /*
+             * The measurements remain disabled; the respective values will
+             * be reported as 0.
+             */
+        }
+    }   //  ThreadStatisticsImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Snapshot> getLastSnapshot() { return Optional.ofNullable( m_LastSnapshot ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String getName() { return m_Name; }
+
+    /**
+     *  Records an uncaught exception.
+     */
+    public final void recordUncaughtException() { m_UncaughtExceptionCount.increment(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Snapshot sample()
+    {
+        final var threads = new ArrayList<ThreadSample>( m_LiveThreads.size() );
+        var cpuTime = m_CpuTimeTerminated.sum();
+        var allocatedBytes = m_AllocatedBytesTerminated.sum();
+        for( final var thread : m_LiveThreads )
+        {
+            var threadCpuTime = 0L;
+            var threadAllocatedBytes = 0L;
+            if( !thread.isVirtual() )
+            {
+                final var threadId = thread.threadId();
+                if( m_IsCpuTimeSupported ) threadCpuTime = max( 0L, m_ThreadMXBean.getThreadCpuTime( threadId ) );
+                if( nonNull( m_AllocationMXBean ) ) threadAllocatedBytes = max( 0L, m_AllocationMXBean.getThreadAllocatedBytes( threadId ) );
+            }
+            cpuTime += threadCpuTime;
+            allocatedBytes += threadAllocatedBytes;
+            threads.add( new ThreadSample( thread.threadId(), thread.getName(), thread.isVirtual(), Duration.ofNanos( threadCpuTime ), threadAllocatedBytes ) );
+        }
+
+        final var retValue = new Snapshot( m_Name, Instant.now(), m_LiveCount.get(), m_PeakCount.get(), m_CreatedCount.sum(), m_UncaughtExceptionCount.sum(), Duration.ofNanos( cpuTime ), allocatedBytes, threads );
+        m_LastSnapshot = retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sample()
+
+    /**
+     *  Schedules the next periodic sampling.
+     *
+     *  @param  generation  The generation of the sampling.
+     *  @param  interval    The interval.
+     */
+    private final void scheduleSampling( final long generation, final Duration interval )
+    {
+        /*
+         * The timer thread must not be blocked, so the snapshot is taken on
+         * a new virtual thread.
+         */
+        m_SamplingTimeout = TimerWheel.getInstance().schedule( () -> Thread.ofVirtual().start( () ->
+        {
+            if( m_SamplingGeneration.get() == generation )
+            {
+                sample();
+                if( m_SamplingGeneration.get() == generation ) scheduleSampling( generation, interval );
+            }
+        } ), interval );
+    }   //  scheduleSampling()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void startSampling( final Duration interval ) throws ValidationException
+    {
+        requireValidArgument( interval, "interval", v -> v.isPositive() );
+
+        stopSampling();
+        scheduleSampling( m_SamplingGeneration.incrementAndGet(), interval );
+    }   //  startSampling()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void stopSampling()
+    {
+        m_SamplingGeneration.incrementAndGet();
+        final var timeout = m_SamplingTimeout;
+        if( nonNull( timeout ) ) timeout.cancel();
+    }   //  stopSampling()
+
+    /**
+     *  Called by the current thread when it has started its task.
+     */
+    private final void threadStarted()
+    {
+        m_LiveThreads.add( Thread.currentThread() );
+        m_PeakCount.accumulateAndGet( m_LiveCount.incrementAndGet(), Math::max );
+    }   //  threadStarted()
+
+    /**
+     *  Called by the current thread when it has finished its task.
+     */
+    private final void threadTerminated()
+    {
+        final var currentThread = Thread.currentThread();
+
+        /*
+         * The thread is removed from the live threads before its values are
+         * added to the totals, so that a concurrent snapshot will not count
+         * them twice.
+         */
+        m_LiveThreads.remove( currentThread );
+        m_LiveCount.decrementAndGet();
+        if( !currentThread.isVirtual() )
+        {
+            if( m_IsCpuTimeSupported ) m_CpuTimeTerminated.add( max( 0L, m_ThreadMXBean.getCurrentThreadCpuTime() ) );
+            if( nonNull( m_AllocationMXBean ) ) m_AllocatedBytesTerminated.add( max( 0L, m_AllocationMXBean.getCurrentThreadAllocatedBytes() ) );
+        }
+    }   //  threadTerminated()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        final var buffer = new StringJoiner( ", ", "%s[".formatted( getClass().getName() ), "]" )
+            .add( "Name='%s'".formatted( m_Name ) )
+            .add( "LiveCount=%d".formatted( m_LiveCount.get() ) )
+            .add( "PeakCount=%d".formatted( m_PeakCount.get() ) )
+            .add( "CreatedCount=%d".formatted( m_CreatedCount.sum() ) )
+            .add( "UncaughtExceptionCount=%d".formatted( m_UncaughtExceptionCount.sum() ) );
+
+        //---* Compose the return value *--------------------------------------
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+
+    /**
+     *  Counts a new thread, and returns the task for it that tracks the
+     *  thread while it is running.
+     *
+     *  @param  target  The task of the new thread.
+     *  @return The wrapped task.
+     */
+    public final Runnable track( final Runnable target )
+    {
+        requireNonNullArgument( target, "target" );
+        m_CreatedCount.increment();
+
+        final Runnable retValue = () ->
+        {
+            threadStarted();
+            try
+            {
+                target.run();
+            }
+            finally
+            {
+                threadTerminated();
+            }
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  track()
+}
+//  class ThreadStatisticsImpl
+
+/*
+ *  End of File
+ */
@@ -17,34 +17,43 @@
 
 package org.tquadrat.foundation.lang.internal;
 
-import static java.util.UUID.randomUUID;
-import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireValidIntegerArgument;
 
 import java.io.Serial;
-import java.lang.ref.Cleaner;
-import java.lang.ref.Cleaner.Cleanable;
+import java.lang.StackWalker.StackFrame;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.TimerTask;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
-import org.tquadrat.foundation.lang.AutoLock;
 import org.tquadrat.foundation.lang.AutoSemaphore;
+import org.tquadrat.foundation.lang.SemaphoreMetrics;
 
 /**
- *  An implementation for
+ *  <p>{@summary An implementation for
  *  {@link org.tquadrat.foundation.lang.AutoSemaphore}
- *  that allows a timeout for the permits.
+ *  that allows a timeout for the permits.}</p>
+ *  <p>The permits for a token that was not closed before its timeout
+ *  expired are released by a task on the shared
+ *  {@link TimerWheel};
+ *  that task hands the release over to the
+ *  {@linkplain ForkJoinPool#commonPool() common pool},
+ *  as the release completes the futures for waiting calls to
+ *  {@link #acquireTokenAsync(int)},
+ *  and their continuations must not run on the thread of the timer
+ *  wheel.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @version $Id: TimeoutSemaphoreImpl.java 1258 2026-06-04 18:33:06Z tquadrat $
@@ -60,86 +69,6 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
         /*---------------*\
     ====** Inner Classes **====================================================
         \*---------------*/
-    /**
-     *  <p>{@summary The {@code Janitor} for the owning
-     *  {@link TimeoutSemaphoreImpl}
-     *  instance.}</p>
-     *
-     *  @param  reaperExecutor The reference for the
-     *     {@link TimeoutSemaphoreImpl#m_ReaperExecutor}.
-     *
-     * @version $Id: TimeoutSemaphoreImpl.java 1258 2026-06-04 18:33:06Z tquadrat $
-     * @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     * @UMLGraph.link
-     * @since 0.25.2
-     */
-    @SuppressWarnings( "NewClassNamingConvention" )
-    @ClassVersion( sourceVersion = "$Id: TimeoutSemaphoreImpl.java 1258 2026-06-04 18:33:06Z tquadrat $" )
-    @API( status = INTERNAL, since = "0.25.2" )
-    private record Janitor( ScheduledExecutorService reaperExecutor ) implements Runnable
-    {
-            /*---------*\
-        ====** Methods **======================================================
-            \*---------*/
-        /**
-         * Performs the housekeeping.
-         */
-        @Override
-        public final void run()
-        {
-            //---* Kill the executor *-----------------------------------------
-            reaperExecutor.close();
-        }   //  run()
-    }
-    //  class Janitor
-
-    /**
-     *  <p>{@summary The reaper thread.}</p>
-     *
-     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: TimeoutSemaphoreImpl.java 1258 2026-06-04 18:33:06Z tquadrat $
-     *  @since 0.25.2
-     *
-     *  @UMLGraph.link
-     */
-    @SuppressWarnings( {"resource", "NewClassNamingConvention"} )
-    @ClassVersion( sourceVersion = "$Id: TimeoutSemaphoreImpl.java 1258 2026-06-04 18:33:06Z tquadrat $" )
-    @API( status = INTERNAL, since = "0.25.2" )
-    private final class Reaper extends TimerTask
-    {
-            /*--------------*\
-        ====** Constructors **=================================================
-            \*--------------*/
-        /**
-         *  Creates a new instance of {@code Reaper}.
-         */
-        public Reaper() { /* Just exists */ }
-
-            /*---------*\
-        ====** Methods **======================================================
-            \*---------*/
-        /**
-         *  {@inheritDoc}
-         */
-        @Override
-        public final void run()
-        {
-            final var now = Instant.now();
-            try( final var _ = m_Lock.lock() )
-            {
-                final var tokens = List.copyOf( m_Registry.values() );
-                for( final var token : tokens )
-                {
-                    if( token.getEndOfLife().isBefore( now ) )
-                    {
-                        m_Registry.remove( token.getId() );
-                    }
-                }
-            }
-        }   //  run()
-    }
-    //  class Reaper
-
     /**
      *  <p>{@summary The token that holds the permits to be released when a
      *  {@code try-with-resources} block is left or the timeout has
@@ -158,16 +87,27 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
             /*------------*\
         ====** Attributes **===================================================
             \*------------*/
+        /**
+         *  The stack frame of the code that acquired this token; it is
+         *  {@null} if the token was not sampled.
+         */
+        private final StackFrame m_AcquisitionSite;
+
         /**
          *  The end-of-life for this permit.
          */
         private final Instant m_EndOfLife;
 
+        /**
+         *  The handle for the scheduled expiry of this token.
+         */
+        private volatile TimerWheel.Timeout m_Expiry;
+
         /**
          *  The id for this permit.
          */
         @SuppressWarnings( "FieldNamingConvention" )
-        private final UUID m_Id;
+        private final long m_Id;
 
         /**
          *  The number of permits to release on close.
@@ -180,14 +120,19 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
         /**
          *  Creates a new instance of {@code TokenImpl}.
          *
+         *  @param  id  The id for this permit.
          *  @param  permits The number of the acquired permits.
          *  @param  endOfLife   The end-of-life for this permit.
+         *  @param  acquisitionSite The stack frame of the code that acquired
+         *      this token; may be {@null}.
          */
-        public TokenImpl( final int permits, final Instant endOfLife )
+        public TokenImpl( final long id, final int permits, final Instant endOfLife, final StackFrame acquisitionSite )
         {
+            m_Id = id;
             m_Permits = permits;
             m_EndOfLife = requireNonNullArgument( endOfLife, "endOfLife" );
-            m_Id = randomUUID();
+            m_AcquisitionSite = acquisitionSite;
+            m_Expiry = null;
         }   //  TokenImpl()
 
             /*---------*\
@@ -202,6 +147,28 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
             TimeoutSemaphoreImpl.this.release( m_Id );
         }   //  close()
 
+        /**
+         *  Cancels the scheduled expiry for this token, if there is one.
+         */
+        private final void cancelExpiry()
+        {
+            final var expiry = m_Expiry;
+            if( nonNull( expiry ) ) expiry.cancel();
+        }   //  cancelExpiry()
+
+        /**
+         *  Returns the stack frame of the code that acquired this token.
+         *
+         *  @return An instance of
+         *      {@link Optional}
+         *      that holds the stack frame; it is empty if the token was not
+         *      sampled.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = INTERNAL, since = "0.26.0" )
+        public final Optional<StackFrame> getAcquisitionSite() { return Optional.ofNullable( m_AcquisitionSite ); }
+
         /**
          *  Returns the time for the end-of-life.
          *
@@ -210,11 +177,15 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
         public final Instant getEndOfLife() { return m_EndOfLife; }
 
         /**
-         *  Returns the id of the token.
+         *  <p>{@summary Returns the id of the token as a
+         *  {@link UUID}.}</p>
+         *  <p>The UUID is derived from the numerical id that is returned by
+         *  {@link #getTokenId()};
+         *  it will be created on each call.</p>
          *
          *  @return The id.
          */
-        public final UUID getId() { return m_Id; }
+        public final UUID getId() { return new UUID( 0L, m_Id ); }
 
         /**
          *  Returns the number of permits for this token.
@@ -228,59 +199,71 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
          */
         @Override
         public final Semaphore getSemaphore() { return TimeoutSemaphoreImpl.this; }
+
+        /**
+         *  Returns the numerical id of the token; it is unique for the
+         *  owning semaphore.
+         *
+         *  @return The id.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = INTERNAL, since = "0.26.0" )
+        public final long getTokenId() { return m_Id; }
     }
     //  class TokenImpl
 
-        /*-----------*\
-    ====** Constants **========================================================
-        \*-----------*/
-    /**
-     *  The cycle time for the reaper thread in milliseconds: {@value} ms.
-     */
-    public static final long REAPER_CYCLE = 1000L;
-
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
     /**
-     *  <p>{@summary The
-     *  {@link Cleanable}
-     *  for this instance.} As instances of this class does not support
-     *  {@code close()} or something similar, keeping the reference to the
-     *  {@code Cleanable} is considered obsolete. But we keep it anyway, in
-     *  case this changes.</p>
+     *  The queue for the asynchronous requests for tokens.
      */
-    @SuppressWarnings( {"unused", "FieldCanBeLocal"} )
-    private final transient Cleanable m_Cleanable;
+    private final transient AsyncTokenQueue m_AsyncQueue;
 
     /**
-     *  The janitor for instances of this class.
+     *  The number of tokens that were closed before their timeout expired.
      */
-    @SuppressWarnings( {"UseOfConcreteClass", "FieldCanBeLocal"} )
-    private final transient Janitor m_Janitor;
+    private final transient LongAdder m_ClosedCount = new LongAdder();
 
     /**
-     *  The lock that guards the access to
-     *  {@link #m_Registry}.
+     *  The number of tokens whose timeout expired before they were closed.
      */
-    private final transient AutoLock m_Lock;
+    private final transient LongAdder m_ExpiredCount = new LongAdder();
 
     /**
-     *  The timeout duration.
-     *
-     *  @serial
+     *  The number of permits that were released because the timeout of their
+     *  token expired.
      */
-    private final Duration m_Timeout;
+    private final transient LongAdder m_ExpiredPermits = new LongAdder();
+
+    /**
+     *  The counter for the token ids.
+     */
+    private final transient AtomicLong m_IdCounter = new AtomicLong();
 
     /**
-     *  The executor for the reaper.
+     *  The receiver for the events.
      */
-    private final transient ScheduledExecutorService m_ReaperExecutor;
+    private final transient SemaphoreMetrics m_Metrics;
 
     /**
      *  The permit registry.
      */
-    private final transient Map<UUID,TokenImpl> m_Registry = new LinkedHashMap<>();
+    private final transient LongRegistry<TokenImpl> m_Registry = new LongRegistry<>();
+
+    /**
+     *  The acquisition site is recorded for every token whose id is a
+     *  multiple of this number; 0 means that it is never recorded.
+     */
+    private final transient int m_SampleRate;
+
+    /**
+     *  The timeout duration.
+     *
+     *  @serial
+     */
+    private final Duration m_Timeout;
 
         /*------------------------*\
     ====** Static Initialisations **===========================================
@@ -294,14 +277,9 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
     private static final long serialVersionUID = 539879857L;
 
     /**
-     *  The cleaner that is used for the instances of this class.
+     *  The stack walker that determines the acquisition site of a token.
      */
-    private static final Cleaner m_Cleaner;
-
-    static
-    {
-        m_Cleaner = Cleaner.create();
-    }
+    private static final StackWalker m_StackWalker = StackWalker.getInstance();
 
         /*--------------*\
     ====** Constructors **=====================================================
@@ -332,16 +310,35 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
      *  @param  timeout The timeout.
      */
     public TimeoutSemaphoreImpl( final int permits, final boolean fair, final Duration timeout )
+    {
+        this( permits, fair, timeout, SemaphoreMetrics.NONE, 0 );
+    }   //  TimeoutSemaphoreImpl()
+
+    /**
+     *  Creates an {@code TimeoutSemaphoreImpl} instance with the given number
+     *  of permits, the given timeout duration and the given fairness setting,
+     *  that reports to the given metrics.
+     *
+     *  @param  permits The initial number of permits available. This value may
+     *      be negative, in which case releases must occur before any acquires
+     *      will be granted.
+     *  @param  fair    {@true} if this semaphore will guarantee first-in
+     *      first-out granting of permits under contention, else {@false}.
+     *  @param  timeout The timeout.
+     *  @param  metrics The receiver for the events.
+     *  @param  sampleRate  The acquisition site will be recorded for every
+     *      {@code sampleRate}th token; 0 means for none.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = INTERNAL, since = "0.26.0" )
+    public TimeoutSemaphoreImpl( final int permits, final boolean fair, final Duration timeout, final SemaphoreMetrics metrics, final int sampleRate )
     {
         super( permits, fair );
         m_Timeout = requireNonNullArgument( timeout, "timeout" );
-        m_Lock = AutoLock.of();
-
-        m_ReaperExecutor = newSingleThreadScheduledExecutor();
-        m_ReaperExecutor.scheduleWithFixedDelay( new Reaper(), REAPER_CYCLE, REAPER_CYCLE, MILLISECONDS );
-
-        m_Janitor = new Janitor( m_ReaperExecutor );
-        m_Cleanable = registerJanitor( m_Janitor );
+        m_Metrics = requireNonNullArgument( metrics, "metrics" );
+        m_SampleRate = requireValidIntegerArgument( sampleRate, "sampleRate", v -> v >= 0 );
+        m_AsyncQueue = new AsyncTokenQueue( this::tryAcquire, this::createToken );
     }   //  TimeoutSemaphoreImpl()
 
         /*---------*\
@@ -361,6 +358,12 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
         return retValue;
     }   //  acquireToken()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CompletableFuture<Token> acquireTokenAsync( final int permits ) throws IllegalArgumentException { return m_AsyncQueue.acquire( permits ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -384,13 +387,70 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
     private final Token createToken( final int permits )
     {
         final var endOfLife = Instant.now().plus( m_Timeout );
-        final var retValue = new TokenImpl( permits, endOfLife );
-        m_Lock.execute( () -> m_Registry.put( retValue.getId(), retValue ) );
+        final var id = m_IdCounter.incrementAndGet();
+        final var acquisitionSite = (m_SampleRate > 0) && (id % m_SampleRate == 0) ? findAcquisitionSite() : null;
+        final var retValue = new TokenImpl( id, permits, endOfLife, acquisitionSite );
+        m_Registry.put( id, retValue );
+        retValue.m_Expiry = TimerWheel.getInstance().schedule( () -> expire( id ), m_Timeout );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  createToken()
 
+    /**
+     *  Releases the permits of the token with the given id after its
+     *  timeout has expired, and reports the leak. This method is called on
+     *  the thread of the
+     *  {@link TimerWheel},
+     *  so the release and the report are done by the common pool.
+     *
+     *  @param  id  The id of the token.
+     */
+    private final void expire( final long id )
+    {
+        final var token = m_Registry.remove( id );
+        if( nonNull( token ) )
+        {
+            m_ExpiredCount.increment();
+            m_ExpiredPermits.add( token.getPermits() );
+            final Runnable task = () ->
+            {
+                release( token.getPermits() );
+                try
+                {
+                    m_Metrics.tokenExpired( token.getPermits(), token.getAcquisitionSite() );
+                }
+                catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+            };
+            try
+            {
+                ForkJoinPool.commonPool().execute( task );
+            }
+            catch( final RejectedExecutionException _ )
+            {
+                task.run();
+            }
+        }
+    }   //  expire()
+
+    /**
+     *  Determines the stack frame of the code that acquires a token: this is
+     *  the first frame that does not belong to the implementation of the
+     *  semaphore.
+     *
+     *  @return The stack frame, or {@null} if it could not be determined.
+     */
+    private static final StackFrame findAcquisitionSite()
+    {
+        final var retValue = m_StackWalker.walk( frames -> frames
+            .filter( frame -> !isInternalFrame( frame.getClassName() ) )
+            .findFirst()
+            .orElse( null ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findAcquisitionSite()
+
     /**
      *  {@inheritDoc}
      */
@@ -398,21 +458,64 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
     public final Semaphore getSemaphore() { return this; }
 
     /**
-     *  Registers the janitor that is doing the housekeeping on garbage
-     *  collection.
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<TokenStatistics> getTokenStatistics()
+    {
+        final var retValue = Optional.of( new TokenStatistics( m_ClosedCount.sum(), m_ExpiredCount.sum(), m_ExpiredPermits.sum() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTokenStatistics()
+
+    /**
+     *  Checks whether the given class belongs to the implementation of the
+     *  semaphore.
      *
-     *  @param  janitor The janitor.
-     *  @return The
-     *      {@link Cleanable}
-     *      for this instance.
+     *  @param  className   The name of the class.
+     *  @return {@true} if the class belongs to the implementation,
+     *      {@false} otherwise.
      */
-    private final Cleanable registerJanitor( final Runnable janitor )
+    private static final boolean isInternalFrame( final String className )
     {
-        final var retValue = m_Cleaner.register( this, requireNonNullArgument( janitor, "janitor" ) );
+        final var retValue = className.startsWith( TimeoutSemaphoreImpl.class.getName() )
+            || className.startsWith( AsyncTokenQueue.class.getName() )
+            || className.equals( AutoSemaphore.class.getName() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  registerJanitor()
+    }   //  isInternalFrame()
+
+    /**
+     *  Replaces a deserialised instance by a new one with the same number of
+     *  available permits, the same fairness setting and the same timeout, as
+     *  the queue for the asynchronous requests for tokens and the registry
+     *  of the tokens are not serialised. The metrics are not serialised
+     *  either; the new instance will not report to any.
+     *
+     *  @return The new instance.
+     */
+    @Serial
+    private final Object readResolve() { return new TimeoutSemaphoreImpl( availablePermits(), isFair(), m_Timeout ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void release() { release( 1 ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>Waiting asynchronous requests for tokens will be granted, if
+     *  possible.</p>
+     */
+    @Override
+    public final void release( final int permits )
+    {
+        super.release( permits );
+        m_AsyncQueue.drain();
+    }   //  release()
 
     /**
      *  <p>{@summary Releases the number of permits associated with the token
@@ -422,13 +525,69 @@ public final class TimeoutSemaphoreImpl extends Semaphore implements AutoSemapho
      *  <p>Nothing happens if the token with given id had died already.</p>
      *
      *  @param  id  The id of the token.
+     *
+     *  @since 0.26.0
+     */
+    @SuppressWarnings( "PublicMethodNotExposedInInterface" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public final void release( final long id )
+    {
+        final var token = m_Registry.remove( id );
+        if( nonNull( token ) )
+        {
+            token.cancelExpiry();
+            m_ClosedCount.increment();
+            release( token.getPermits() );
+            try
+            {
+                m_Metrics.tokenClosed( token.getPermits() );
+            }
+            catch( final RuntimeException _ ) { /* Deliberately ignored */ }
+        }
+    }   //  release()
+
+    /**
+     *  <p>{@summary Releases the number of permits associated with the token
+     *  with the given id, returning them to the semaphore.}</p>
+     *  <p>Releases that number of permits, increasing the number of available
+     *  permits by that amount.</p>
+     *  <p>Nothing happens if the token with given id had died already, or if
+     *  the given UUID was not created by
+     *  {@link TokenImpl#getId()}.</p>
+     *
+     *  @param  id  The id of the token.
      */
     @SuppressWarnings( "PublicMethodNotExposedInInterface" )
     public final void release( final UUID id )
     {
-        m_Lock.execute( () -> m_Registry.remove( id ) )
-            .ifPresent( token -> release( token.getPermits() ) );
+        if( requireNonNullArgument( id, "id" ).getMostSignificantBits() == 0L ) release( id.getLeastSignificantBits() );
     }   //  release()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits ) throws IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits ) ? Optional.of( createToken( permits ) ) : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<Token> tryAcquireToken( final int permits, final Duration timeout ) throws InterruptedException, IllegalArgumentException
+    {
+        final Optional<Token> retValue = tryAcquire( permits, NANOSECONDS.convert( requireNonNullArgument( timeout, "timeout" ) ), NANOSECONDS )
+            ? Optional.of( createToken( permits ) )
+            : Optional.empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAcquireToken()
 }
 //  class TimeoutSemaphoreImpl
 
@@ -0,0 +1,521 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.internal;
+
+import static java.lang.Math.max;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A hashed timing wheel that runs short tasks after a
+ *  delay.}</p>
+ *  <p>The wheel has
+ *  {@value #WHEEL_SIZE}
+ *  buckets, each covering
+ *  {@value #TICK_MILLIS}&nbsp;ms; a single daemon thread advances the wheel
+ *  by one bucket per tick, and runs the tasks in that bucket whose deadline
+ *  has been reached. Tasks with a delay longer than one revolution of the
+ *  wheel remain in their bucket for the respective number of rounds.</p>
+ *  <p>Scheduling and cancelling a task cost O(1): both just add the task to
+ *  a lock-free queue that is drained by the wheel thread on the next tick.
+ *  The expiry is amortised O(1) per task, too.</p>
+ *  <p>There is only one instance of this class per JVM, returned by
+ *  {@link #getInstance()};
+ *  the thread is started on first use. As all tasks are run on that single
+ *  thread, they have to be short, and they must not block.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class TimerWheel
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary A bucket of the wheel.} It holds a doubly-linked list of
+     *  the timeouts; it is accessed by the wheel thread only.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class Bucket
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The first timeout in the list.
+         */
+        private Timeout m_Head;
+
+        /**
+         *  The last timeout in the list.
+         */
+        private Timeout m_Tail;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Bucket}.
+         */
+        public Bucket()
+        {
+            m_Head = null;
+            m_Tail = null;
+        }   //  Bucket()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds the given timeout to this bucket.
+         *
+         *  @param  timeout The timeout.
+         */
+        public final void add( final Timeout timeout )
+        {
+            timeout.m_Bucket = this;
+            if( isNull( m_Head ) )
+            {
+                m_Head = timeout;
+            }
+            else
+            {
+                m_Tail.m_Next = timeout;
+                timeout.m_Previous = m_Tail;
+            }
+            m_Tail = timeout;
+        }   //  add()
+
+        /**
+         *  Runs the tasks for all timeouts in this bucket whose deadline was
+         *  reached with the current revolution of the wheel.
+         */
+        public final void expire()
+        {
+            var timeout = m_Head;
+            while( nonNull( timeout ) )
+            {
+                final var next = timeout.m_Next;
+                if( timeout.m_RemainingRounds <= 0 )
+                {
+                    remove( timeout );
+                    timeout.expire();
+                }
+                else
+                {
+                    --timeout.m_RemainingRounds;
+                }
+                timeout = next;
+            }
+        }   //  expire()
+
+        /**
+         *  Removes the given timeout from this bucket.
+         *
+         *  @param  timeout The timeout.
+         */
+        public final void remove( final Timeout timeout )
+        {
+            final var next = timeout.m_Next;
+            final var previous = timeout.m_Previous;
+            if( nonNull( previous ) ) previous.m_Next = next;
+            if( nonNull( next ) ) next.m_Previous = previous;
+            if( timeout == m_Head ) m_Head = next;
+            if( timeout == m_Tail ) m_Tail = previous;
+            timeout.m_Next = null;
+            timeout.m_Previous = null;
+            timeout.m_Bucket = null;
+        }   //  remove()
+    }
+    //  class Bucket
+
+    /**
+     *  <p>{@summary The handle for a scheduled task.}</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TimerWheel.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public static final class Timeout
+    {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  State: the timeout was cancelled.
+         */
+        private static final int STATE_Cancelled = 1;
+
+        /**
+         *  State: the task was run.
+         */
+        private static final int STATE_Expired = 2;
+
+        /**
+         *  State: the timeout is waiting.
+         */
+        private static final int STATE_Waiting = 0;
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The bucket that holds this timeout; {@null} while it is not yet
+         *  added to the wheel, or after it was removed.
+         */
+        private Bucket m_Bucket;
+
+        /**
+         *  The deadline, in nanoseconds since the start of the wheel.
+         */
+        private final long m_Deadline;
+
+        /**
+         *  The next timeout in the bucket.
+         */
+        private Timeout m_Next;
+
+        /**
+         *  The previous timeout in the bucket.
+         */
+        private Timeout m_Previous;
+
+        /**
+         *  The number of revolutions of the wheel until the deadline is
+         *  reached.
+         */
+        private long m_RemainingRounds;
+
+        /**
+         *  The state.
+         */
+        @SuppressWarnings( "unused" )
+        private volatile int m_State;
+
+        /**
+         *  The task.
+         */
+        private final Runnable m_Task;
+
+        /**
+         *  The wheel.
+         */
+        private final TimerWheel m_Wheel;
+
+            /*------------------------*\
+        ====** Static Initialisations **=======================================
+            \*------------------------*/
+        /**
+         *  The handle for the field
+         *  {@link #m_State}.
+         */
+        private static final VarHandle m_StateHandle;
+
+        static
+        {
+            try
+            {
+                m_StateHandle = MethodHandles.lookup().findVarHandle( Timeout.class, "m_State", int.class );
+            }
+            catch( final NoSuchFieldException | IllegalAccessException e )
+            {
+                throw new ExceptionInInitializerError( e );
+            }
+        }
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code Timeout}.
+         *
+         *  @param  wheel   The wheel.
+         *  @param  task    The task.
+         *  @param  deadline    The deadline, in nanoseconds since the start
+         *      of the wheel.
+         */
+        private Timeout( final TimerWheel wheel, final Runnable task, final long deadline )
+        {
+            m_Wheel = wheel;
+            m_Task = task;
+            m_Deadline = deadline;
+            m_State = STATE_Waiting;
+        }   //  Timeout()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Cancels this timeout; the task will not be run.
+         *
+         *  @return {@true} if the timeout was cancelled, {@false} if the
+         *      task was already run, or if the timeout was already cancelled.
+         */
+        public final boolean cancel()
+        {
+            final var retValue = m_StateHandle.compareAndSet( this, STATE_Waiting, STATE_Cancelled );
+            if( retValue ) m_Wheel.m_Cancelled.add( this );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  cancel()
+
+        /**
+         *  Runs the task, unless the timeout was cancelled.
+         */
+        private final void expire()
+        {
+            if( m_StateHandle.compareAndSet( this, STATE_Waiting, STATE_Expired ) )
+            {
+                try
+                {
+                    m_Task.run();
+                }
+                catch( final Throwable t )
+                {
+                    /*
+                     * The tasks are expected not to fail; if one does, it
+                     * must not kill the wheel thread, even for an Error. The
+                     * failure is reported to the uncaught exception handler
+                     * of the wheel thread instead.
+                     */
+                    final var thread = Thread.currentThread();
+                    try
+                    {
+                        thread.getUncaughtExceptionHandler().uncaughtException( thread, t );
+                    }
+                    catch( final Throwable _ ) { /* Deliberately ignored */ }
+                }
+            }
+        }   //  expire()
+
+        /**
+         *  Checks whether this timeout was cancelled.
+         *
+         *  @return {@true} if the timeout was cancelled, {@false}
+         *      otherwise.
+         */
+        public final boolean isCancelled() { return m_State == STATE_Cancelled; }
+
+        /**
+         *  Checks whether the task for this timeout was run.
+         *
+         *  @return {@true} if the task was run, {@false} otherwise.
+         */
+        public final boolean isExpired() { return m_State == STATE_Expired; }
+    }
+    //  class Timeout
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The duration of a tick in milliseconds: {@value}&nbsp;ms.
+     */
+    public static final long TICK_MILLIS = 10L;
+
+    /**
+     *  The number of buckets: {@value}.
+     */
+    public static final int WHEEL_SIZE = 512;
+
+    /**
+     *  The duration of a tick in nanoseconds.
+     */
+    private static final long TICK_NANOS = Duration.ofMillis( TICK_MILLIS ).toNanos();
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The buckets.
+     */
+    private final Bucket [] m_Buckets;
+
+    /**
+     *  The timeouts that were cancelled since the last tick.
+     */
+    private final Queue<Timeout> m_Cancelled = new ConcurrentLinkedQueue<>();
+
+    /**
+     *  The timeouts that were scheduled since the last tick.
+     */
+    private final Queue<Timeout> m_Pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     *  The start time of the wheel, as returned by
+     *  {@link System#nanoTime()}.
+     */
+    private final long m_StartTime;
+
+    /**
+     *  The number of ticks since the start of the wheel.
+     */
+    private long m_Tick;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The shared instance.
+     */
+    private static final TimerWheel m_Instance;
+
+    static
+    {
+        m_Instance = new TimerWheel();
+        Thread.ofPlatform()
+            .name( "TimerWheel" )
+            .daemon( true )
+            .start( m_Instance::run );
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code TimerWheel}.
+     */
+    private TimerWheel()
+    {
+        m_Buckets = new Bucket [WHEEL_SIZE];
+        for( var i = 0; i < WHEEL_SIZE; ++i ) m_Buckets [i] = new Bucket();
+        m_StartTime = System.nanoTime();
+        m_Tick = 0;
+    }   //  TimerWheel()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the shared instance of {@code TimerWheel}.
+     *
+     *  @return The instance.
+     */
+    public static final TimerWheel getInstance() { return m_Instance; }
+
+    /**
+     *  Removes the cancelled timeouts from their buckets.
+     */
+    private final void processCancelled()
+    {
+        Timeout timeout;
+        while( nonNull( timeout = m_Cancelled.poll() ) )
+        {
+            final var bucket = timeout.m_Bucket;
+            if( nonNull( bucket ) ) bucket.remove( timeout );
+        }
+    }   //  processCancelled()
+
+    /**
+     *  The loop for the wheel thread.
+     */
+    private final void run()
+    {
+        while( true )
+        {
+            //---* Wait for the next tick *------------------------------------
+            final var deadline = (m_Tick + 1) * TICK_NANOS;
+            var now = System.nanoTime() - m_StartTime;
+            while( now < deadline )
+            {
+                LockSupport.parkNanos( deadline - now );
+                now = System.nanoTime() - m_StartTime;
+            }
+
+            //---* Process the tick *------------------------------------------
+            processCancelled();
+            transferPending();
+            m_Buckets [(int) (m_Tick & (WHEEL_SIZE - 1))].expire();
+            ++m_Tick;
+        }
+    }   //  run()
+
+    /**
+     *  Schedules the given task to be run after the given delay.
+     *
+     *  @param  task    The task; it has to be short, and it must not block.
+     *  @param  delay   The delay.
+     *  @return The handle that allows to cancel the task.
+     */
+    public final Timeout schedule( final Runnable task, final Duration delay )
+    {
+        requireNonNullArgument( task, "task" );
+        final var deadline = System.nanoTime() - m_StartTime + max( 0L, requireNonNullArgument( delay, "delay" ).toNanos() );
+        final var retValue = new Timeout( this, task, deadline );
+        m_Pending.add( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  schedule()
+
+    /**
+     *  Adds the pending timeouts to their buckets.
+     */
+    private final void transferPending()
+    {
+        Timeout timeout;
+        while( nonNull( timeout = m_Pending.poll() ) )
+        {
+            if( timeout.isCancelled() ) continue;
+
+            /*
+             * A deadline in the past goes to the current bucket; its task
+             * will be run with this tick.
+             */
+            final var ticks = max( m_Tick, timeout.m_Deadline / TICK_NANOS );
+            timeout.m_RemainingRounds = (ticks - m_Tick) / WHEEL_SIZE;
+            m_Buckets [(int) (ticks & (WHEEL_SIZE - 1))].add( timeout );
+        }
+    }   //  transferPending()
+}
+//  class TimerWheel
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,147 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link AdaptiveSemaphore}
+ *  and its implementation
+ *  {@link org.tquadrat.foundation.lang.internal.AdaptiveSemaphoreImpl}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestAdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestAdaptiveSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestAdaptiveSemaphore" )
+public class TestAdaptiveSemaphore extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the decrease of the limit on slow tokens.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testDecrease() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AdaptiveSemaphore.of( 10, 2, 20, Duration.ofMillis( 20 ), 0.5 );
+        final var semaphore = candidate.getSemaphore();
+
+        final var first = candidate.acquireToken( 1 );
+        final var second = candidate.acquireToken( 1 );
+        Thread.sleep( 50 );
+        first.close();
+        assertEquals( 5, candidate.getLimit() );
+        assertEquals( 4, semaphore.availablePermits() );
+
+        //---* Acquired before the decrease, so no further decrease *----------
+        second.close();
+        assertEquals( 5, candidate.getLimit() );
+        assertEquals( 5, semaphore.availablePermits() );
+
+        //---* Never below the lower bound *-----------------------------------
+        for( var i = 0; i < 3; ++i )
+        {
+            try( final var _ = candidate.acquireToken( 1 ) )
+            {
+                Thread.sleep( 30 );
+            }
+        }
+        assertEquals( 2, candidate.getLimit() );
+        assertEquals( 2, semaphore.availablePermits() );
+        assertEquals( 0, candidate.getInFlight() );
+    }   //  testDecrease()
+
+    /**
+     *  Tests the increase of the limit on fast tokens, and the statistics.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testIncrease() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AdaptiveSemaphore.of( 2, 1, 3, Duration.ofSeconds( 10 ) );
+        final var semaphore = candidate.getSemaphore();
+
+        try( final var _ = candidate.acquireToken( 1 ) )
+        {
+            assertEquals( 1, candidate.getInFlight() );
+        }
+        assertEquals( 3, candidate.getLimit() );
+        assertEquals( 3, semaphore.availablePermits() );
+
+        //---* The upper bound is kept *---------------------------------------
+        try( final var _ = candidate.acquireToken( 3 ) )
+        {
+            assertTrue( candidate.tryAcquireToken( 1 ).isEmpty() );
+        }
+        assertEquals( 3, candidate.getLimit() );
+
+        //---* Not increased when less than half of the limit was used *-------
+        final var small = AdaptiveSemaphore.of( 10, 1, 20, Duration.ofSeconds( 10 ) );
+        small.tryAcquireToken( 1 ).orElseThrow().close();
+        assertEquals( 10, small.getLimit() );
+
+        final var statistics = candidate.getStatistics();
+        assertEquals( 3, statistics.limit() );
+        assertEquals( 0, statistics.inFlight() );
+        assertEquals( 2L, statistics.acquiredCount() );
+        assertEquals( 1L, statistics.rejectedCount() );
+        assertEquals( 1.0 / 3.0, statistics.rejectionRate(), 0.0001 );
+    }   //  testIncrease()
+
+    /**
+     *  Tests the validation of the arguments.
+     */
+    @Test
+    final void testValidation()
+    {
+        skipThreadTest();
+
+        final var threshold = Duration.ofMillis( 100 );
+        assertThrows( ValidationException.class, () -> AdaptiveSemaphore.of( 5, 0, 10, threshold ) );
+        assertThrows( ValidationException.class, () -> AdaptiveSemaphore.of( 11, 1, 10, threshold ) );
+        assertThrows( ValidationException.class, () -> AdaptiveSemaphore.of( 5, 6, 4, threshold ) );
+        assertThrows( ValidationException.class, () -> AdaptiveSemaphore.of( 5, 1, 10, Duration.ZERO ) );
+        assertThrows( ValidationException.class, () -> AdaptiveSemaphore.of( 5, 1, 10, threshold, 1.0 ) );
+        assertThrows( IllegalArgumentException.class, () -> AdaptiveSemaphore.of( 5, 1, 10, threshold ).tryAcquireToken( -1 ) );
+    }   //  testValidation()
+}
+//  class TestAdaptiveSemaphore
+
+/*
+ *  End of File
+ */
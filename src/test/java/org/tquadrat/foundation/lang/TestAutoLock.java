@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -30,8 +31,13 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -169,6 +175,39 @@ public class TestAutoLock extends TestBaseClass
         assertInstanceOf( IOException.class, e.getCause() );
     }   //  testExecute()
 
+    /**
+     *  Tests for the methods
+     *  {@link AutoLock#executeAsInt(IntOperation)},
+     *  {@link AutoLock#executeAsLong(LongOperation)}
+     *  and
+     *  {@link AutoLock#executeDirect(Operation)}.
+     */
+    @SuppressWarnings( "resource" )
+    @Test
+    final void testExecuteDirect()
+    {
+        skipThreadTest();
+
+        final var sourceLock = new ReentrantLock();
+        final var candidate = AutoLock.of( sourceLock );
+
+        assertEquals( 42, candidate.executeAsInt( () -> sourceLock.getHoldCount() * 42 ) );
+        assertEquals( 42L, candidate.executeAsLong( () -> sourceLock.getHoldCount() * 42L ) );
+        assertEquals( "42", candidate.executeDirect( () -> Integer.toString( sourceLock.getHoldCount() * 42 ) ) );
+        assertNull( candidate.executeDirect( () -> null ) );
+        assertFalse( sourceLock.isLocked() );
+
+        final Throwable e = assertThrows( ExecutionFailedException.class, () -> candidate.executeAsInt( () -> { throw new IOException(); } ) );
+        assertInstanceOf( IOException.class, e.getCause() );
+        assertThrows( ExecutionFailedException.class, () -> candidate.executeAsLong( () -> { throw new IOException(); } ) );
+        assertThrows( ExecutionFailedException.class, () -> candidate.executeDirect( () -> { throw new IOException(); } ) );
+        assertFalse( sourceLock.isLocked() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.executeAsInt( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.executeAsLong( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.executeDirect( null ) );
+    }   //  testExecuteDirect()
+
     /**
      *  Tests for the methods
      *  {@link AutoLock#evaluate(Constraint)},
@@ -196,6 +235,147 @@ public class TestAutoLock extends TestBaseClass
         assertThrows( expectedException, () -> candidate.execute( operation ) );
     }   //  testOfWithNullArgument()
 
+    /**
+     *  Tests for the instrumented lock that is returned by
+     *  {@link AutoLock#of(String, java.util.concurrent.locks.Lock, LockMetrics)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testInstrumented() throws Exception
+    {
+        skipThreadTest();
+
+        final var acquired = new AtomicInteger();
+        final var contended = new AtomicInteger();
+        final var released = new AtomicInteger();
+        final var metrics = new LockMetrics()
+        {
+            @Override
+            public final void lockAcquired( final String name, final long waitTime, final boolean isContended )
+            {
+                assertEquals( "Test", name );
+                acquired.incrementAndGet();
+                if( isContended ) contended.incrementAndGet();
+            }
+
+            @Override
+            public final void lockReleased( final String name, final long holdTime ) { released.incrementAndGet(); }
+        };
+        final var sourceLock = new ReentrantLock();
+        final var candidate = AutoLock.of( "Test", sourceLock, metrics );
+        assertSame( sourceLock, candidate.getWrappedLockInstance() );
+        assertTrue( AutoLock.of().getLockStatistics().isEmpty() );
+
+        final Path file;
+        try( final var recording = new Recording() )
+        {
+            recording.enable( "org.tquadrat.foundation.LockContention" );
+            recording.start();
+
+            //---* A contended acquisition *-----------------------------------
+            final Thread thread;
+            try( final var _ = candidate.lock() )
+            {
+                thread = Thread.ofPlatform().start( () -> candidate.perform( () -> {} ) );
+                while( !sourceLock.hasQueuedThread( thread ) ) Thread.sleep( 1 );
+                Thread.sleep( 50 );
+            }
+            thread.join();
+
+            //---* Reentrant acquisitions are counted once *-------------------
+            try( final var _ = candidate.lock(); final var _ = candidate.lockInterruptibly() )
+            {
+                assertEquals( 2, sourceLock.getHoldCount() );
+                assertEquals( 42, candidate.executeAsInt( () -> 42 ) );
+            }
+            assertFalse( sourceLock.isLocked() );
+
+            recording.stop();
+            file = Files.createTempFile( "TestAutoLock", ".jfr" );
+            recording.dump( file );
+        }
+
+        //---* Nothing should happen when the lock is not held *---------------
+        candidate.close();
+
+        final var statistics = candidate.getLockStatistics().orElseThrow();
+        assertEquals( "Test", statistics.name() );
+        assertEquals( 3L, statistics.acquiredCount() );
+        assertEquals( 1L, statistics.contendedCount() );
+        assertEquals( 1.0 / 3.0, statistics.contentionRatio(), 0.0001 );
+        assertTrue( statistics.waitTime().max().toMillis() >= 40 );
+        assertTrue( statistics.holdTime().max().toMillis() >= 40 );
+        assertTrue( statistics.holdTime().median().compareTo( statistics.holdTime().max() ) <= 0 );
+        assertEquals( 3, acquired.get() );
+        assertEquals( 1, contended.get() );
+        assertEquals( 3, released.get() );
+
+        try
+        {
+            final var events = RecordingFile.readAllEvents( file );
+            assertEquals( 1, events.size() );
+            assertEquals( "Test", events.getFirst().getString( "lockName" ) );
+            assertTrue( events.getFirst().getDuration().toMillis() >= 40 );
+        }
+        finally
+        {
+            Files.delete( file );
+        }
+    }   //  testInstrumented()
+
+    /**
+     *  Tests whether waiting on a condition of the instrumented lock that is
+     *  returned by
+     *  {@link AutoLock#of(String, java.util.concurrent.locks.Lock, LockMetrics)}
+     *  keeps the bookkeeping for the holds consistent.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testInstrumentedCondition() throws Exception
+    {
+        skipThreadTest();
+
+        final var acquired = new AtomicInteger();
+        final var released = new AtomicInteger();
+        final var metrics = new LockMetrics()
+        {
+            @Override
+            public final void lockAcquired( final String name, final long waitTime, final boolean isContended ) { acquired.incrementAndGet(); }
+
+            @Override
+            public final void lockReleased( final String name, final long holdTime ) { released.incrementAndGet(); }
+        };
+        final var sourceLock = new ReentrantLock();
+        final var candidate = AutoLock.of( "Test", sourceLock, metrics );
+        final var condition = candidate.newCondition();
+        final var signalled = new AtomicInteger();
+
+        try( final var _ = candidate.lock(); final var _ = candidate.lock() )
+        {
+            final var thread = Thread.ofPlatform().start( () -> candidate.perform( () ->
+            {
+                signalled.incrementAndGet();
+                condition.signalAll();
+            } ) );
+            while( signalled.get() == 0 ) condition.await();
+            assertEquals( 2, sourceLock.getHoldCount() );
+            thread.join();
+        }
+        assertFalse( sourceLock.isLocked() );
+
+        //---* The hold was ended for the wait, and started again after it *---
+        final var statistics = candidate.getLockStatistics().orElseThrow();
+        assertEquals( 3L, statistics.acquiredCount() );
+        assertEquals( 3, acquired.get() );
+        assertEquals( 3, released.get() );
+
+        //---* Waiting without holding the lock fails *------------------------
+        assertThrows( IllegalMonitorStateException.class, condition::await );
+        assertEquals( 3, released.get() );
+    }   //  testInstrumentedCondition()
+
     /**
      *  Tests for the method
      *  {@link AutoLock#of(java.util.concurrent.locks.Lock)}.
@@ -0,0 +1,173 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.lang.AutoLock.ExecutionFailedException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link AutoReadWriteLock}
+ *  and its implementations.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestAutoReadWriteLock.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestAutoReadWriteLock.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestAutoReadWriteLock" )
+public class TestAutoReadWriteLock extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for the methods
+     *  {@link AutoReadWriteLock#evaluate(Constraint)},
+     *  {@link AutoReadWriteLock#execute(Operation)}
+     *  and
+     *  {@link AutoReadWriteLock#perform(Action)}
+     *  for both implementations.
+     */
+    @Test
+    final void testExecute()
+    {
+        skipThreadTest();
+
+        for( final var candidate : List.of( AutoReadWriteLock.of(), AutoReadWriteLock.ofStamped() ) )
+        {
+            final List<String> list = new ArrayList<>();
+            assertTrue( candidate.evaluate( list::isEmpty ) );
+
+            candidate.perform( () -> list.add( "Something" ) );
+            assertFalse( candidate.evaluate( list::isEmpty ) );
+            assertEquals( "Something", candidate.execute( () -> list.getFirst() ).orElseThrow() );
+            assertTrue( candidate.execute( () -> null ).isEmpty() );
+
+            final Throwable e = assertThrows( ExecutionFailedException.class, () -> candidate.execute( () -> { throw new IOException(); } ) );
+            assertInstanceOf( IOException.class, e.getCause() );
+            assertThrows( ExecutionFailedException.class, () -> candidate.perform( () -> { throw new IOException(); } ) );
+
+            assertThrows( NullArgumentException.class, () -> candidate.evaluate( null ) );
+            assertThrows( NullArgumentException.class, () -> candidate.execute( null ) );
+            assertThrows( NullArgumentException.class, () -> candidate.perform( null ) );
+        }
+    }   //  testExecute()
+
+    /**
+     *  Tests the read and write locks of
+     *  {@link AutoReadWriteLock#of(java.util.concurrent.locks.ReadWriteLock)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testLocks() throws Exception
+    {
+        skipThreadTest();
+
+        final var sourceLock = new ReentrantReadWriteLock();
+        final var candidate = AutoReadWriteLock.of( sourceLock );
+        assertEquals( sourceLock, candidate.getWrappedLockInstance() );
+
+        //---* Readers do not block each other *-------------------------------
+        try( final var _ = candidate.readLock().lock() )
+        {
+            final var otherReader = new CountDownLatch( 1 );
+            final var thread = Thread.ofPlatform().start( () ->
+            {
+                try( final var _ = candidate.readLock().lock() ) { otherReader.countDown(); }
+            } );
+            assertTrue( otherReader.await( 5, TimeUnit.SECONDS ) );
+            thread.join();
+            assertEquals( 1, sourceLock.getReadHoldCount() );
+            assertFalse( candidate.writeLock().getWrappedLockInstance().tryLock() );
+        }
+        assertEquals( 0, sourceLock.getReadLockCount() );
+
+        try( final var _ = candidate.writeLock().lock() )
+        {
+            assertTrue( sourceLock.isWriteLockedByCurrentThread() );
+        }
+        assertFalse( sourceLock.isWriteLocked() );
+        assertThrows( UnsupportedOperationException.class, () -> candidate.readLock().newCondition() );
+    }   //  testLocks()
+
+    /**
+     *  Tests the optimistic reads of the instance returned by
+     *  {@link AutoReadWriteLock#ofStamped()}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testOptimisticRead() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AutoReadWriteLock.ofStamped();
+        final var counter = new AtomicInteger();
+
+        //---* Without a concurrent write, the operation is called once *------
+        assertEquals( 1, candidate.execute( counter::incrementAndGet ).orElseThrow() );
+        assertTrue( candidate.evaluate( () -> counter.get() == 1 ) );
+
+        //---* The optimistic read is not blocked by another reader *----------
+        try( final var _ = candidate.readLock().lock() )
+        {
+            assertEquals( 2, candidate.execute( counter::incrementAndGet ).orElseThrow() );
+        }
+
+        //---* A concurrent write forces the retry under the read lock *-------
+        final var calls = new AtomicInteger();
+        final var result = candidate.execute( () ->
+        {
+            if( calls.incrementAndGet() == 1 )
+            {
+                final var writer = Thread.ofPlatform().start( () -> candidate.perform( counter::incrementAndGet ) );
+                writer.join();
+                throw new IllegalStateException( "Inconsistent" );
+            }
+            return counter.get();
+        } );
+        assertEquals( 2, calls.get() );
+        assertEquals( 3, result.orElseThrow() );
+        assertThrows( UnsupportedOperationException.class, () -> candidate.writeLock().newCondition() );
+    }   //  testOptimisticRead()
+}
+//  class TestAutoReadWriteLock
+
+/*
+ *  End of File
+ */
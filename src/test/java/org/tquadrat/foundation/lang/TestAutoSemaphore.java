@@ -0,0 +1,515 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.StackWalker.StackFrame;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.internal.TimerWheel;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link AutoSemaphore}
+ *  and its implementations.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestAutoSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestAutoSemaphore.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestAutoSemaphore" )
+public class TestAutoSemaphore extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for the method
+     *  {@link AutoSemaphore#acquireToken(int)}
+     *  for a semaphore without timeout.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testAcquireToken() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AutoSemaphore.of( 3 );
+        assertNotNull( candidate );
+        final var semaphore = candidate.getSemaphore();
+
+        try( final var token = candidate.acquireToken( 2 ) )
+        {
+            assertNotNull( token );
+            assertEquals( 1, semaphore.availablePermits() );
+        }
+        assertEquals( 3, semaphore.availablePermits() );
+    }   //  testAcquireToken()
+
+    /**
+     *  Tests for the method
+     *  {@link AutoSemaphore#acquireTokenAsync(int)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testAcquireTokenAsync() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var candidate : List.of( AutoSemaphore.of( 3 ), AutoSemaphore.of( 3, Duration.ofMinutes( 1 ) ), AutoSemaphore.ofStriped( 3, 2 ), AdaptiveSemaphore.of( 3, 3, 3, Duration.ofMinutes( 1 ) ) ) )
+        {
+            final var semaphore = candidate.getSemaphore();
+
+            final var first = candidate.acquireTokenAsync( 2 );
+            assertTrue( first.isDone() );
+
+            //---* The requests are granted in FIFO order *--------------------
+            final var second = candidate.acquireTokenAsync( 2 );
+            final var third = candidate.acquireTokenAsync( 1 );
+            final var cancelled = candidate.acquireTokenAsync( 3 );
+            final var fourth = candidate.acquireTokenAsync( 1 );
+            assertFalse( second.isDone() );
+            assertFalse( third.isDone() );
+            assertTrue( cancelled.cancel( false ) );
+
+            first.join().close();
+            assertTrue( second.isDone() );
+            assertTrue( third.isDone() );
+            assertFalse( fourth.isDone() );
+            assertEquals( 0, semaphore.availablePermits() );
+
+            //---* A cancelled request does not block the queue *--------------
+            second.join().close();
+            assertTrue( fourth.isDone() );
+            third.join().close();
+            fourth.join().close();
+            assertEquals( 3, semaphore.availablePermits() );
+
+            assertThrows( IllegalArgumentException.class, () -> candidate.acquireTokenAsync( -1 ) );
+        }
+    }   //  testAcquireTokenAsync()
+
+    /**
+     *  Tests whether many tokens that are acquired and closed concurrently
+     *  return all their permits.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testManyTokens() throws Exception
+    {
+        skipThreadTest();
+
+        final var permits = 64;
+        final var candidate = AutoSemaphore.of( permits, Duration.ofMinutes( 1 ) );
+        final var semaphore = candidate.getSemaphore();
+
+        final var threads = new Thread [8];
+        for( var i = 0; i < threads.length; ++i )
+        {
+            threads [i] = Thread.ofPlatform().start( () ->
+            {
+                for( var j = 0; j < 1000; ++j )
+                {
+                    try( final var _ = candidate.acquireToken( 1 ) ) { Thread.onSpinWait(); }
+                    catch( final InterruptedException e ) { Thread.currentThread().interrupt(); }
+                }
+            } );
+        }
+        for( final var thread : threads ) thread.join();
+        assertEquals( permits, semaphore.availablePermits() );
+    }   //  testManyTokens()
+
+    /**
+     *  Tests the detection of leaked tokens through
+     *  {@link SemaphoreMetrics}
+     *  and
+     *  {@link AutoSemaphore#getTokenStatistics()}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testLeakDetection() throws Exception
+    {
+        skipThreadTest();
+
+        final var closed = new AtomicInteger();
+        final var expired = new CountDownLatch( 1 );
+        final var site = new AtomicReference<Optional<StackFrame>>();
+        final var metrics = new SemaphoreMetrics()
+        {
+            @Override
+            public final void tokenClosed( final int permits ) { closed.addAndGet( permits ); }
+
+            @Override
+            public final void tokenExpired( final int permits, final Optional<StackFrame> acquisitionSite )
+            {
+                site.set( acquisitionSite );
+                expired.countDown();
+            }
+        };
+        final var candidate = AutoSemaphore.of( 3, false, Duration.ofMillis( 50 ), metrics, 1 );
+        final var semaphore = candidate.getSemaphore();
+
+        candidate.acquireToken( 2 );
+        candidate.acquireToken( 1 ).close();
+        assertEquals( 1, closed.get() );
+        assertTrue( expired.await( 5, TimeUnit.SECONDS ) );
+        assertTrue( site.get().isPresent() );
+        assertEquals( getClass().getName(), site.get().get().getClassName() );
+        assertEquals( 3, semaphore.availablePermits() );
+
+        final var statistics = candidate.getTokenStatistics().orElseThrow();
+        assertEquals( 1L, statistics.closedCount() );
+        assertEquals( 1L, statistics.expiredCount() );
+        assertEquals( 2L, statistics.expiredPermits() );
+        assertEquals( 0.5, statistics.leakRate(), 0.0001 );
+
+        assertTrue( AutoSemaphore.of( 3 ).getTokenStatistics().isEmpty() );
+        assertThrows( IllegalArgumentException.class, () -> AutoSemaphore.of( 3, false, Duration.ofMillis( 50 ), metrics, -1 ) );
+    }   //  testLeakDetection()
+
+    /**
+     *  Tests whether a deserialised semaphore can still grant asynchronous
+     *  requests for tokens.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testSerialization() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var candidate : List.of( AutoSemaphore.of( 3 ), AutoSemaphore.of( 3, Duration.ofMinutes( 1 ) ), AdaptiveSemaphore.of( 3, 3, 3, Duration.ofMinutes( 1 ) ) ) )
+        {
+            final var buffer = new ByteArrayOutputStream();
+            try( final var out = new ObjectOutputStream( buffer ) )
+            {
+                out.writeObject( candidate );
+            }
+            try( final var in = new ObjectInputStream( new ByteArrayInputStream( buffer.toByteArray() ) ) )
+            {
+                final var copy = (AutoSemaphore) in.readObject();
+                assertEquals( candidate.getClass(), copy.getClass() );
+                assertEquals( 3, copy.getSemaphore().availablePermits() );
+                final var future = copy.acquireTokenAsync( 3 );
+                assertTrue( future.isDone() );
+                future.join().close();
+                assertEquals( 3, copy.getSemaphore().availablePermits() );
+            }
+        }
+    }   //  testSerialization()
+
+    /**
+     *  Tests for the semaphore returned by
+     *  {@link AutoSemaphore#ofStriped(int,int)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testStriped() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AutoSemaphore.ofStriped( 10, 3 );
+        final var semaphore = candidate.getSemaphore();
+        assertEquals( 10, semaphore.availablePermits() );
+
+        //---* Permits are stolen from the other stripes *---------------------
+        try( final var token = candidate.acquireToken( 10 ) )
+        {
+            assertNotNull( token );
+            assertEquals( 0, semaphore.availablePermits() );
+            assertFalse( semaphore.tryAcquire() );
+            assertFalse( semaphore.tryAcquire( 1, 50, TimeUnit.MILLISECONDS ) );
+        }
+        assertEquals( 10, semaphore.availablePermits() );
+        assertThrows( IllegalArgumentException.class, () -> candidate.acquireToken( -1 ) );
+
+        //---* A waiting thread gets the permits of another thread *-----------
+        final var token = candidate.acquireToken( 8 );
+        final var waiter = Thread.ofPlatform().start( () -> candidate.acquireTokenUninterruptibly( 5 ).close() );
+        Thread.sleep( 50 );
+        assertTrue( waiter.isAlive() );
+        token.close();
+        waiter.join( 2_000 );
+        assertFalse( waiter.isAlive() );
+        assertEquals( 10, semaphore.availablePermits() );
+        assertEquals( 10, semaphore.drainPermits() );
+        assertEquals( 0, semaphore.availablePermits() );
+
+        //---* Negative permits *----------------------------------------------
+        final var negative = AutoSemaphore.ofStriped( -2 ).getSemaphore();
+        assertEquals( -2, negative.availablePermits() );
+        negative.release( 3 );
+        assertEquals( 1, negative.availablePermits() );
+        assertTrue( negative.tryAcquire() );
+        assertFalse( negative.tryAcquire() );
+
+        //---* The total number of permits remains exact *---------------------
+        final var permits = 16;
+        final var striped = AutoSemaphore.ofStriped( permits, 8 );
+        final var inUse = new AtomicInteger();
+        final var maxInUse = new AtomicInteger();
+        final var threads = new Thread [16];
+        for( var i = 0; i < threads.length; ++i )
+        {
+            final var count = 1 + (i % 3);
+            threads [i] = Thread.ofPlatform().start( () ->
+            {
+                for( var j = 0; j < 2_000; ++j )
+                {
+                    try( final var _ = striped.acquireToken( count ) )
+                    {
+                        maxInUse.accumulateAndGet( inUse.addAndGet( count ), Math::max );
+                        inUse.addAndGet( -count );
+                    }
+                    catch( final InterruptedException e ) { Thread.currentThread().interrupt(); }
+                }
+            } );
+        }
+        for( final var thread : threads ) thread.join();
+        assertEquals( permits, striped.getSemaphore().availablePermits() );
+        assertTrue( maxInUse.get() <= permits );
+    }   //  testStriped()
+
+    /**
+     *  Tests that concurrent calls to
+     *  {@link java.util.concurrent.Semaphore#tryAcquire(int)}
+     *  for more than one permit on a striped semaphore do not fail while
+     *  enough permits are available.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testStripedContention() throws Exception
+    {
+        skipThreadTest();
+
+        /*
+         * Even when all other threads hold their permits, there are enough
+         * permits left for the current thread.
+         */
+        final var threads = new Thread [8];
+        final var permits = 2 * threads.length + 2;
+        final var semaphore = AutoSemaphore.ofStriped( permits, 8 ).getSemaphore();
+        final var failures = new AtomicInteger();
+        for( var i = 0; i < threads.length; ++i )
+        {
+            threads [i] = Thread.ofPlatform().start( () ->
+            {
+                for( var j = 0; j < 5_000; ++j )
+                {
+                    if( semaphore.tryAcquire( 2 ) )
+                    {
+                        semaphore.release( 2 );
+                    }
+                    else
+                    {
+                        failures.incrementAndGet();
+                    }
+                }
+            } );
+        }
+        for( final var thread : threads ) thread.join();
+        assertEquals( 0, failures.get() );
+        assertEquals( permits, semaphore.availablePermits() );
+
+        //---* A deserialised instance is fully functional *-------------------
+        final var buffer = new ByteArrayOutputStream();
+        try( final var out = new ObjectOutputStream( buffer ) )
+        {
+            out.writeObject( semaphore );
+        }
+        try( final var in = new ObjectInputStream( new ByteArrayInputStream( buffer.toByteArray() ) ) )
+        {
+            final var copy = (AutoSemaphore) in.readObject();
+            assertEquals( permits, copy.getSemaphore().availablePermits() );
+            final var future = copy.acquireTokenAsync( permits );
+            assertTrue( future.isDone() );
+            future.join().close();
+            assertEquals( permits, copy.getSemaphore().availablePermits() );
+        }
+    }   //  testStripedContention()
+
+    /**
+     *  Tests for the methods
+     *  {@link AutoSemaphore#tryAcquireToken(int)}
+     *  and
+     *  {@link AutoSemaphore#tryAcquireToken(int,Duration)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testTryAcquireToken() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var candidate : List.of( AutoSemaphore.of( 3 ), AutoSemaphore.of( 3, Duration.ofMinutes( 1 ) ), AutoSemaphore.ofStriped( 3, 2 ), AdaptiveSemaphore.of( 3, 3, 3, Duration.ofMinutes( 1 ) ) ) )
+        {
+            final var semaphore = candidate.getSemaphore();
+
+            final var token = candidate.tryAcquireToken( 2 );
+            assertTrue( token.isPresent() );
+            assertEquals( 1, semaphore.availablePermits() );
+            assertTrue( candidate.tryAcquireToken( 2 ).isEmpty() );
+            assertTrue( candidate.tryAcquireToken( 2, Duration.ofMillis( 20 ) ).isEmpty() );
+
+            final var releaser = Thread.ofPlatform().start( () ->
+            {
+                try
+                {
+                    Thread.sleep( 50 );
+                }
+                catch( final InterruptedException _ ) { Thread.currentThread().interrupt(); }
+                token.get().close();
+            } );
+            try( final var other = candidate.tryAcquireToken( 2, Duration.ofSeconds( 5 ) ).orElseThrow() )
+            {
+                assertEquals( 1, semaphore.availablePermits() );
+            }
+            releaser.join();
+            assertEquals( 3, semaphore.availablePermits() );
+
+            candidate.tryAcquireToken().orElseThrow().close();
+            assertEquals( 3, semaphore.availablePermits() );
+        }
+    }   //  testTryAcquireToken()
+
+    /**
+     *  Tests whether the permits of a token are released when its timeout
+     *  expires, and whether closing the token afterwards will not release
+     *  them again.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testTimeout() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AutoSemaphore.of( 3, Duration.ofMillis( 100 ) );
+        final var semaphore = candidate.getSemaphore();
+
+        //---* Closed before the timeout *-------------------------------------
+        try( final var _ = candidate.acquireToken( 2 ) )
+        {
+            assertEquals( 1, semaphore.availablePermits() );
+        }
+        assertEquals( 3, semaphore.availablePermits() );
+        Thread.sleep( 300 );
+        assertEquals( 3, semaphore.availablePermits() );
+
+        //---* Expired before closed *-----------------------------------------
+        final var token = candidate.acquireToken( 2 );
+        assertEquals( 1, semaphore.availablePermits() );
+        assertTrue( semaphore.tryAcquire( 3, 2, TimeUnit.SECONDS ) );
+        semaphore.release( 3 );
+        token.close();
+        assertEquals( 3, semaphore.availablePermits() );
+    }   //  testTimeout()
+
+    /**
+     *  Tests that the continuations of a call to
+     *  {@link AutoSemaphore#acquireTokenAsync(int)}
+     *  that is granted because a token expired do not run on the thread of
+     *  the timer wheel.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testTimeoutContinuation() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = AutoSemaphore.of( 1, Duration.ofMillis( 100 ) );
+        final var token = candidate.acquireToken();
+        final var future = candidate.acquireTokenAsync( 1 );
+        assertFalse( future.isDone() );
+        final var threadName = future.thenApply( _ -> Thread.currentThread().getName() );
+
+        assertFalse( "TimerWheel".equals( threadName.get( 5, TimeUnit.SECONDS ) ) );
+        token.close();
+        future.join().close();
+        assertEquals( 1, candidate.getSemaphore().availablePermits() );
+    }   //  testTimeoutContinuation()
+
+    /**
+     *  Tests whether the timer wheel, that releases the permits of the
+     *  expired tokens, survives a task that throws an
+     *  {@link Error}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testTimerWheelSurvivesError() throws Exception
+    {
+        skipThreadTest();
+
+        final var wheel = TimerWheel.getInstance();
+        final var wheelThread = new AtomicReference<Thread>();
+        final var failure = new AtomicReference<Throwable>();
+        final var failed = new CountDownLatch( 1 );
+        wheel.schedule( () ->
+        {
+            final var thread = Thread.currentThread();
+            wheelThread.set( thread );
+            final var handler = thread.getUncaughtExceptionHandler();
+            thread.setUncaughtExceptionHandler( (t, e) ->
+            {
+                t.setUncaughtExceptionHandler( handler );
+                failure.set( e );
+                failed.countDown();
+            } );
+            throw new AssertionError( "Expected failure" );
+        }, Duration.ofMillis( 10 ) );
+        assertTrue( failed.await( 2, TimeUnit.SECONDS ) );
+        assertTrue( failure.get() instanceof AssertionError );
+        assertTrue( wheelThread.get().isAlive() );
+
+        final var executed = new CountDownLatch( 1 );
+        wheel.schedule( executed::countDown, Duration.ofMillis( 10 ) );
+        assertTrue( executed.await( 2, TimeUnit.SECONDS ) );
+    }   //  testTimerWheelSurvivesError()
+}
+//  class TestAutoSemaphore
+
+/*
+ *  End of File
+ */
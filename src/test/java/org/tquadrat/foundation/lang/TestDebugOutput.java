@@ -18,8 +18,12 @@
 package org.tquadrat.foundation.lang;
 
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.StackWalker.StackFrame;
+import java.util.Optional;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +45,46 @@ public class TestDebugOutput extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Returns the caller of this method, as determined by
+     *  {@link DebugOutput#findCaller(String, Class)}.
+     *
+     *  @return The caller.
+     */
+    private static final Optional<StackTraceElement> callee() { return DebugOutput.findCaller( "callee", TestDebugOutput.class ); }
+
+    /**
+     *  Returns the caller of this method, as determined by
+     *  {@link DebugOutput#findCallerFrame(String, Class)}.
+     *
+     *  @return The caller.
+     */
+    private static final Optional<StackFrame> calleeFrame() { return DebugOutput.findCallerFrame( "calleeFrame", TestDebugOutput.class ); }
+
+    /**
+     *  Tests
+     *  {@link DebugOutput#findCaller(String, Class)}
+     *  and
+     *  {@link DebugOutput#findCallerFrame(String, Class)}.
+     */
+    @Test
+    final void testFindCaller()
+    {
+        skipThreadTest();
+
+        final var caller = callee().orElseThrow();
+        assertEquals( TestDebugOutput.class.getName(), caller.getClassName() );
+        assertEquals( "testFindCaller", caller.getMethodName() );
+        assertTrue( caller.getLineNumber() > 0 );
+
+        final var callerFrame = calleeFrame().orElseThrow();
+        assertEquals( TestDebugOutput.class.getName(), callerFrame.getClassName() );
+        assertEquals( "testFindCaller", callerFrame.getMethodName() );
+
+        assertTrue( DebugOutput.findCaller( "notOnTheStack", TestDebugOutput.class ).isEmpty() );
+        assertTrue( DebugOutput.findCallerFrame( "testFindCaller", String.class ).isEmpty() );
+    }   //  testFindCaller()
+
     /**
      *  Validates whether the class is static.
      */
@@ -0,0 +1,308 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link ExecutorBuilder}
+ *  and the executors built by it.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestExecutorBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestExecutorBuilder" )
+public class TestExecutorBuilder extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the mode
+     *  {@link ExecutorBuilder.Mode#FORK_JOIN}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testForkJoin() throws Exception
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        try( final var candidate = ExecutorBuilder.obtainBuilder()
+            .setMode( ExecutorBuilder.Mode.FORK_JOIN )
+            .setMaximumPoolSize( 2 )
+            .build() )
+        {
+            final var pool = assertInstanceOf( ForkJoinPool.class, candidate );
+            assertTrue( pool.getAsyncMode() );
+            assertEquals( 2, pool.getParallelism() );
+            for( var i = 0; i < 100; ++i ) candidate.execute( counter::incrementAndGet );
+        }
+        assertEquals( 100, counter.get() );
+    }   //  testForkJoin()
+
+    /**
+     *  Tests the validation of the arguments.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testInvalidArguments() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = ExecutorBuilder.obtainBuilder();
+        assertThrows( ValidationException.class, () -> candidate.setCorePoolSize( -1 ) );
+        assertThrows( ValidationException.class, () -> candidate.setMaximumPoolSize( 0 ) );
+        assertThrows( ValidationException.class, () -> candidate.setQueueCapacity( -1 ) );
+        assertThrows( ValidationException.class, () -> candidate.setMaxConcurrency( -1 ) );
+        assertThrows( ValidationException.class, () -> candidate.setKeepAliveTime( Duration.ofSeconds( -1 ) ) );
+        assertThrows( NullArgumentException.class, () -> candidate.setMode( null ) );
+
+        candidate.setCorePoolSize( 4 ).setMaximumPoolSize( 2 );
+        assertThrows( ValidationException.class, candidate::build );
+    }   //  testInvalidArguments()
+
+    /**
+     *  Tests the defaults for the core and the maximum pool size when only
+     *  one of them was set.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testPoolSizeDefaults() throws Exception
+    {
+        skipThreadTest();
+
+        final var processors = Runtime.getRuntime().availableProcessors();
+
+        try( final var candidate = ExecutorBuilder.obtainBuilder().build() )
+        {
+            final var pool = assertInstanceOf( ThreadPoolExecutor.class, candidate );
+            assertEquals( processors, pool.getCorePoolSize() );
+            assertEquals( processors, pool.getMaximumPoolSize() );
+        }
+
+        try( final var candidate = ExecutorBuilder.obtainBuilder().setMaximumPoolSize( 1 ).build() )
+        {
+            final var pool = assertInstanceOf( ThreadPoolExecutor.class, candidate );
+            assertEquals( 1, pool.getCorePoolSize() );
+            assertEquals( 1, pool.getMaximumPoolSize() );
+        }
+
+        try( final var candidate = ExecutorBuilder.obtainBuilder().setCorePoolSize( processors + 2 ).build() )
+        {
+            final var pool = assertInstanceOf( ThreadPoolExecutor.class, candidate );
+            assertEquals( processors + 2, pool.getCorePoolSize() );
+            assertEquals( processors + 2, pool.getMaximumPoolSize() );
+        }
+    }   //  testPoolSizeDefaults()
+
+    /**
+     *  Tests the mode
+     *  {@link ExecutorBuilder.Mode#THREAD_POOL}
+     *  with a bounded queue.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testThreadPool() throws Exception
+    {
+        skipThreadTest();
+
+        final var release = new CountDownLatch( 1 );
+        final var counter = new AtomicInteger();
+        final Runnable task = () ->
+        {
+            try
+            {
+                release.await();
+                counter.incrementAndGet();
+            }
+            catch( final InterruptedException _ )
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        //---* ABORT *---------------------------------------------------------
+        try( final var candidate = ExecutorBuilder.obtainBuilder()
+            .setCorePoolSize( 1 )
+            .setMaximumPoolSize( 2 )
+            .setQueueCapacity( 2 )
+            .build() )
+        {
+            final var pool = assertInstanceOf( ThreadPoolExecutor.class, candidate );
+            assertEquals( 1, pool.getCorePoolSize() );
+            assertEquals( 2, pool.getMaximumPoolSize() );
+            assertEquals( 2, pool.getQueue().remainingCapacity() );
+
+            for( var i = 0; i < 4; ++i ) candidate.execute( task );
+            assertThrows( RejectedExecutionException.class, () -> candidate.execute( task ) );
+            release.countDown();
+        }
+        assertEquals( 4, counter.get() );
+
+        //---* CALLER_RUNS *---------------------------------------------------
+        counter.set( 0 );
+        final var callerRuns = new AtomicInteger();
+        final var blocker = new CountDownLatch( 1 );
+        try( final var candidate = ExecutorBuilder.obtainBuilder()
+            .setCorePoolSize( 1 )
+            .setMaximumPoolSize( 1 )
+            .setQueueCapacity( 1 )
+            .setRejectionPolicy( ExecutorBuilder.RejectionPolicy.CALLER_RUNS )
+            .build() )
+        {
+            final var caller = Thread.currentThread();
+            final Runnable blockingTask = () ->
+            {
+                try
+                {
+                    blocker.await();
+                }
+                catch( final InterruptedException _ )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            candidate.execute( blockingTask );
+            candidate.execute( blockingTask );
+            candidate.execute( () -> { if( Thread.currentThread() == caller ) callerRuns.incrementAndGet(); } );
+            blocker.countDown();
+        }
+        assertEquals( 1, callerRuns.get() );
+    }   //  testThreadPool()
+
+    /**
+     *  Tests that
+     *  {@link java.util.concurrent.ExecutorService#shutdownNow()}
+     *  returns and cancels the tasks that are still waiting when the
+     *  concurrency is limited.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testVirtualThreadsShutdownNow() throws Exception
+    {
+        skipThreadTest();
+
+        final var started = new CountDownLatch( 1 );
+        final var taskCount = 5;
+        final var futures = new ArrayList<Future<?>>();
+        final var candidate = ExecutorBuilder.obtainBuilder()
+            .setMode( ExecutorBuilder.Mode.VIRTUAL_THREADS )
+            .setMaxConcurrency( 1 )
+            .build();
+        try
+        {
+            futures.add( candidate.submit( () ->
+            {
+                started.countDown();
+                TimeUnit.MINUTES.sleep( 1 );
+                return null;
+            } ) );
+            assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+            for( var i = 1; i < taskCount; ++i ) futures.add( candidate.submit( () -> {} ) );
+
+            final var notStarted = candidate.shutdownNow();
+            assertEquals( taskCount - 1, notStarted.size() );
+            assertTrue( candidate.awaitTermination( 5, TimeUnit.SECONDS ) );
+        }
+        finally
+        {
+            candidate.shutdownNow();
+        }
+
+        for( final var future : futures ) assertTrue( future.isDone() );
+        for( var i = 1; i < taskCount; ++i ) assertTrue( futures.get( i ).isCancelled() );
+    }   //  testVirtualThreadsShutdownNow()
+
+    /**
+     *  Tests the mode
+     *  {@link ExecutorBuilder.Mode#VIRTUAL_THREADS}
+     *  with a limited concurrency.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testVirtualThreads() throws Exception
+    {
+        skipThreadTest();
+
+        final var maxConcurrency = 3;
+        final var active = new AtomicInteger();
+        final var peak = new AtomicInteger();
+        final var isVirtual = new AtomicInteger();
+        final var taskCount = 50;
+        try( final var candidate = ExecutorBuilder.obtainBuilder()
+            .setMode( ExecutorBuilder.Mode.VIRTUAL_THREADS )
+            .setMaxConcurrency( maxConcurrency )
+            .build() )
+        {
+            for( var i = 0; i < taskCount; ++i )
+            {
+                candidate.submit( () ->
+                {
+                    if( Thread.currentThread().isVirtual() ) isVirtual.incrementAndGet();
+                    peak.accumulateAndGet( active.incrementAndGet(), Math::max );
+                    try
+                    {
+                        TimeUnit.MILLISECONDS.sleep( 5 );
+                    }
+                    finally
+                    {
+                        active.decrementAndGet();
+                    }
+                    return null;
+                } );
+            }
+        }
+        assertEquals( taskCount, isVirtual.get() );
+        assertTrue( peak.get() <= maxConcurrency );
+        assertTrue( peak.get() > 0 );
+    }   //  testVirtualThreads()
+}
+//  class TestExecutorBuilder
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,156 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link ExpiringLazy}
+ *  and its implementation
+ *  {@link org.tquadrat.foundation.lang.internal.ExpiringLazyImpl}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestExpiringLazy.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestExpiringLazy.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestExpiringLazy" )
+public class TestExpiringLazy extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that a supplier that calls
+     *  {@link ExpiringLazy#get()}
+     *  on its own instance fails instead of blocking forever.
+     */
+    @Test
+    final void testRecursiveInitialisation()
+    {
+        skipThreadTest();
+
+        final var isRecursive = new AtomicBoolean( true );
+        final var holder = new AtomicReference<ExpiringLazy<String>>();
+        holder.set( ExpiringLazy.use( () -> isRecursive.getAndSet( false ) ? holder.get().get() : "value", Duration.ofMinutes( 1 ) ) );
+
+        assertThrows( IllegalStateException.class, () -> holder.get().get() );
+        assertEquals( "value", holder.get().get() );
+    }   //  testRecursiveInitialisation()
+
+    /**
+     *  Tests the refresh in the background.
+     */
+    @Test
+    final void testRefreshAhead()
+    {
+        skipThreadTest();
+
+        final var now = new AtomicReference<>( Instant.EPOCH );
+        final InstantSource clock = now::get;
+        final var counter = new AtomicInteger();
+        final List<Runnable> tasks = new ArrayList<>();
+
+        final var lazy = ExpiringLazy.use( counter::incrementAndGet, Duration.ofMinutes( 10 ), Duration.ofMinutes( 2 ), tasks::add, clock );
+        assertEquals( 1, lazy.get() );
+
+        //---* Before the refresh time *---------------------------------------
+        now.set( Instant.EPOCH.plus( Duration.ofMinutes( 7 ) ) );
+        assertEquals( 1, lazy.get() );
+        assertTrue( tasks.isEmpty() );
+
+        //---* After the refresh time, the stale value is returned *-----------
+        now.set( Instant.EPOCH.plus( Duration.ofMinutes( 9 ) ) );
+        assertEquals( 1, lazy.get() );
+        assertEquals( 1, lazy.get() );
+        assertEquals( 1, tasks.size() );
+
+        tasks.removeFirst().run();
+        assertEquals( 2, lazy.get() );
+        assertEquals( 2, counter.get() );
+
+        //---* The refreshed value has a new expiration time *-----------------
+        now.set( Instant.EPOCH.plus( Duration.ofMinutes( 18 ) ) );
+        assertTrue( lazy.isPresent() );
+        assertEquals( 2, lazy.get() );
+    }   //  testRefreshAhead()
+
+    /**
+     *  Tests the expiration of the value.
+     */
+    @Test
+    final void testTimeToLive()
+    {
+        skipThreadTest();
+
+        final var now = new AtomicReference<>( Instant.EPOCH );
+        final InstantSource clock = now::get;
+        final var counter = new AtomicInteger();
+
+        final var lazy = ExpiringLazy.use( counter::incrementAndGet, Duration.ofSeconds( 10 ), clock );
+        assertFalse( lazy.isPresent() );
+        assertEquals( "[Not initialized]", lazy.toString() );
+        assertThrows( IllegalStateException.class, () -> lazy.orElseThrow( IllegalStateException::new ) );
+
+        assertEquals( 1, lazy.get() );
+        assertTrue( lazy.isPresent() );
+        now.set( Instant.EPOCH.plusSeconds( 9 ) );
+        assertEquals( 1, lazy.get() );
+        assertEquals( 1, lazy.orElseThrow( IllegalStateException::new ) );
+
+        now.set( Instant.EPOCH.plusSeconds( 10 ) );
+        assertFalse( lazy.isPresent() );
+        assertEquals( "[Expired]", lazy.toString() );
+        assertEquals( 2, lazy.get() );
+        assertEquals( 2, lazy.get() );
+
+        lazy.invalidate();
+        assertFalse( lazy.isPresent() );
+        assertEquals( 3, lazy.get() );
+        assertEquals( 3, counter.get() );
+
+        assertThrows( NullArgumentException.class, () -> ExpiringLazy.use( null, Duration.ofSeconds( 1 ) ) );
+        assertThrows( ValidationException.class, () -> ExpiringLazy.use( counter::get, Duration.ZERO ) );
+        assertThrows( ValidationException.class, () -> ExpiringLazy.use( counter::get, Duration.ofSeconds( 1 ), Duration.ofSeconds( 1 ), Runnable::run ) );
+        assertThrows( NullArgumentException.class, () -> ExpiringLazy.use( counter::get, Duration.ofSeconds( 1 ), Duration.ZERO, null ) );
+    }   //  testTimeToLive()
+}
+//  class TestExpiringLazy
+
+/*
+ *  End of File
+ */
@@ -23,12 +23,19 @@ import static java.util.Arrays.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.lang.Objects.isNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.time.Month;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
@@ -115,6 +122,94 @@ public class TestGenericStringConverter extends TestBaseClass
         }
     }   //  testConversion()
 
+    /**
+     *  The tests for the constants of
+     *  {@link GenericStringConverter}
+     *  and for
+     *  {@link GenericStringConverter#fromString(CharSequence, int, int)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRangeConversion() throws Exception
+    {
+        skipThreadTest();
+
+        final var buffer = new StringBuilder( "true;-17;4711;X;123456789012;FALSE;;300" );
+
+        assertEquals( Boolean.TRUE, GenericStringConverter.BOOLEAN_CONVERTER.fromString( buffer, 0, 4 ) );
+        assertEquals( Byte.valueOf( (byte) -17 ), GenericStringConverter.BYTE_CONVERTER.fromString( buffer, 5, 8 ) );
+        assertEquals( Short.valueOf( (short) 4711 ), GenericStringConverter.SHORT_CONVERTER.fromString( buffer, 9, 13 ) );
+        assertEquals( Integer.valueOf( 4711 ), GenericStringConverter.INTEGER_CONVERTER.fromString( buffer, 9, 13 ) );
+        assertEquals( Character.valueOf( 'X' ), GenericStringConverter.CHARACTER_CONVERTER.fromString( buffer, 14, 15 ) );
+        assertEquals( Long.valueOf( 123456789012L ), GenericStringConverter.LONG_CONVERTER.fromString( buffer, 16, 28 ) );
+        assertEquals( Boolean.FALSE, GenericStringConverter.BOOLEAN_CONVERTER.fromString( buffer, 29, 34 ) );
+        assertEquals( Integer.valueOf( 4711 ), GenericStringConverter.INTEGER_CONVERTER.fromString( "4711" ) );
+        assertNull( GenericStringConverter.INTEGER_CONVERTER.fromString( null, 0, 0 ) );
+
+        assertThrows( IllegalArgumentException.class, () -> GenericStringConverter.INTEGER_CONVERTER.fromString( buffer, 35, 35 ) );
+        assertThrows( IllegalArgumentException.class, () -> GenericStringConverter.BYTE_CONVERTER.fromString( buffer, 36, 39 ) );
+        assertThrows( IllegalArgumentException.class, () -> GenericStringConverter.CHARACTER_CONVERTER.fromString( buffer, 0, 4 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> GenericStringConverter.INTEGER_CONVERTER.fromString( buffer, 36, 40 ) );
+
+        final var candidate = new GenericStringConverter<>( charSequence -> Month.valueOf( charSequence.toString() ), Month::toString );
+        assertEquals( Month.MAY, candidate.fromString( "JUNE;MAY;JULY", 5, 8 ) );
+
+        final var target = new StringBuilder();
+        GenericStringConverter.INTEGER_CONVERTER.appendTo( target, Integer.valueOf( 42 ) );
+        candidate.appendTo( target, null );
+        candidate.appendTo( target, Month.MAY );
+        assertEquals( "42MAY", target.toString() );
+
+        target.setLength( 0 );
+        GenericStringConverter.BOOLEAN_CONVERTER.appendTo( target, Boolean.TRUE );
+        GenericStringConverter.BYTE_CONVERTER.appendTo( target, Byte.valueOf( (byte) -17 ) );
+        GenericStringConverter.CHARACTER_CONVERTER.appendTo( target, Character.valueOf( 'X' ) );
+        GenericStringConverter.LONG_CONVERTER.appendTo( target, Long.valueOf( 123456789012L ) );
+        GenericStringConverter.SHORT_CONVERTER.appendTo( target, Short.valueOf( (short) 4711 ) );
+        assertEquals( "true-17X1234567890124711", target.toString() );
+
+        final Appendable appendable = new StringBuilder();
+        GenericStringConverter.INTEGER_CONVERTER.appendTo( appendable, Integer.valueOf( -1 ) );
+        candidate.appendTo( appendable, Month.JUNE );
+        assertEquals( "-1JUNE", appendable.toString() );
+    }   //  testRangeConversion()
+
+    /**
+     *  Tests that an instance of
+     *  {@link GenericStringConverter}
+     *  survives the serialisation if its parser and its stringer are
+     *  serialisable.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSerialization() throws Exception
+    {
+        skipThreadTest();
+
+        final var stringer = (Stringer<Integer> & Serializable) Object::toString;
+        final var parser = (Function<CharSequence,Integer> & Serializable) charSequence -> Integer.valueOf( charSequence.toString() );
+        final GenericStringConverter.RangeParser<Integer> rangeParser = ( source, start, end ) -> Integer.valueOf( Integer.parseInt( source, start, end, 10 ) );
+
+        for( final var candidate : Stream.of( new GenericStringConverter<>( parser, stringer ), new GenericStringConverter<>( rangeParser, stringer ) ).toList() )
+        {
+            final var buffer = new ByteArrayOutputStream();
+            try( final var outputStream = new ObjectOutputStream( buffer ) )
+            {
+                outputStream.writeObject( candidate );
+            }
+            try( final var inputStream = new ObjectInputStream( new ByteArrayInputStream( buffer.toByteArray() ) ) )
+            {
+                @SuppressWarnings( "unchecked" )
+                final var copy = (GenericStringConverter<Integer>) inputStream.readObject();
+                assertEquals( Integer.valueOf( 42 ), copy.fromString( "42" ) );
+                assertEquals( Integer.valueOf( 42 ), copy.fromString( "4711;42", 5, 7 ) );
+                assertEquals( "42", copy.toString( Integer.valueOf( 42 ) ) );
+            }
+        }
+    }   //  testSerialization()
+
     /**
      *  The tests for
      *  {@link GenericStringConverter}.
@@ -27,6 +27,10 @@ import org.tquadrat.foundation.testutil.TestBaseClass;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
@@ -50,6 +54,48 @@ public class TestLazy extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Tests whether the supplier is called exactly once, even when many
+     *  threads are calling
+     *  {@link Lazy#get()}
+     *  concurrently.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testConcurrentInitialisation() throws Exception
+    {
+        skipThreadTest();
+
+        final var threadCount = 32;
+        final var counter = new AtomicInteger();
+        final var lazy = Lazy.use( () ->
+        {
+            counter.incrementAndGet();
+            return new Object();
+        } );
+
+        final var startSignal = new CountDownLatch( 1 );
+        final List<Future<Object>> results = new ArrayList<>();
+        try( final var executor = Executors.newFixedThreadPool( threadCount ) )
+        {
+            for( var i = 0; i < threadCount; ++i )
+            {
+                results.add( executor.submit( () ->
+                {
+                    startSignal.await();
+                    return lazy.get();
+                } ) );
+            }
+            startSignal.countDown();
+
+            final var expected = lazy.get();
+            for( final var result : results ) assertSame( expected, result.get() );
+        }
+        assertEquals( 1, counter.get() );
+        assertTrue( lazy.isPresent() );
+    }   //  testConcurrentInitialisation()
+
     /**
      *  Tests for the method
      *  {@link Lazy#of(Object)}.
@@ -130,6 +176,77 @@ public class TestLazy extends TestBaseClass
         assertNotNull( value );
     }   //  testUse()
 
+    /**
+     *  Tests for the method
+     *  {@link Lazy#useAsync(Supplier, java.util.concurrent.Executor)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testUseAsync() throws Exception
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var startSignal = new CountDownLatch( 1 );
+        try( final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            final var lazy = Lazy.useAsync( () ->
+            {
+                counter.incrementAndGet();
+                try
+                {
+                    startSignal.await();
+                }
+                catch( final InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return "value";
+            }, executor );
+            assertNotNull( lazy );
+
+            final List<Future<String>> results = new ArrayList<>();
+            for( var i = 0; i < 100; ++i ) results.add( executor.submit( lazy::get ) );
+            startSignal.countDown();
+
+            for( final var result : results ) assertEquals( "value", result.get() );
+            assertTrue( lazy.isPresent() );
+            assertEquals( "value", lazy.get() );
+        }
+        assertEquals( 1, counter.get() );
+
+        assertThrows( NullArgumentException.class, () -> Lazy.useAsync( () -> "value", null ) );
+        assertThrows( NullArgumentException.class, () -> Lazy.useAsync( null, Runnable::run ) );
+    }   //  testUseAsync()
+
+    /**
+     *  Tests for the method
+     *  {@link Lazy#get()}
+     *  with a failing supplier, and with a supplier that tries to retrieve
+     *  the value of its own {@code Lazy} instance.
+     */
+    @Test
+    final void testUseWithFailingSupplier()
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var lazy = Lazy.use( () ->
+        {
+            if( counter.incrementAndGet() == 1 ) throw new IllegalStateException( "first call" );
+            return "value";
+        } );
+        assertThrows( IllegalStateException.class, lazy::get );
+        assertFalse( lazy.isPresent() );
+        assertEquals( "value", lazy.get() );
+        assertEquals( 2, counter.get() );
+
+        final var recursive = new ArrayList<Lazy<String>>();
+        recursive.add( Lazy.use( () -> recursive.getFirst().get() ) );
+        assertThrows( IllegalStateException.class, () -> recursive.getFirst().get() );
+    }   //  testUseWithFailingSupplier()
+
     /**
      *  Tests for the method
      *  {@link Lazy#use(java.util.function.Supplier)}.
@@ -17,13 +17,17 @@
 
 package org.tquadrat.foundation.lang;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -97,6 +101,31 @@ public class TestLockExecutor extends TestBaseClass
         assertThrows( expectedException, () -> candidate.execute( operation ) );
     }   //  testOfWithNullArgument()
 
+    /**
+     *  Tests for the method
+     *  {@link LockExecutor#of(String, Lock, LockMetrics)}.
+     */
+    @Test
+    final void testInstrumented()
+    {
+        skipThreadTest();
+
+        assertTrue( LockExecutor.of( AutoLock.of() ).getLockStatistics().isEmpty() );
+
+        final var candidate = LockExecutor.of( "Test", new ReentrantLock(), LockMetrics.NONE );
+        candidate.perform( () -> {} );
+        assertTrue( candidate.evaluate( () -> true ) );
+
+        final var statistics = candidate.getLockStatistics().orElseThrow();
+        assertEquals( "Test", statistics.name() );
+        assertEquals( 2L, statistics.acquiredCount() );
+        assertEquals( 0L, statistics.contendedCount() );
+        assertEquals( Duration.ZERO, statistics.waitTime().max() );
+
+        assertThrows( IllegalArgumentException.class, () -> LockExecutor.of( "", new ReentrantLock(), LockMetrics.NONE ) );
+        assertThrows( NullArgumentException.class, () -> LockExecutor.of( "Test", new ReentrantLock(), null ) );
+    }   //  testInstrumented()
+
     /**
      *  Tests for the method
      *  {@link AutoLock#of(java.util.concurrent.locks.Lock)}.
@@ -0,0 +1,197 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.LockOrderMonitor.Violation;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the class
+ *  {@link LockOrderMonitor}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestLockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestLockOrderMonitor.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestLockOrderMonitor" )
+public class TestLockOrderMonitor extends TestBaseClass
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The previous violation handler.
+     */
+    private Consumer<Violation> m_PreviousHandler;
+
+    /**
+     *  The reported violations.
+     */
+    private final List<Violation> m_Violations = new ArrayList<>();
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Enables the check and installs the test handler.
+     */
+    @BeforeEach
+    final void setup()
+    {
+        m_PreviousHandler = LockOrderMonitor.getViolationHandler();
+        LockOrderMonitor.setViolationHandler( m_Violations::add );
+        LockOrderMonitor.setEnabled( true );
+    }   //  setup()
+
+    /**
+     *  Restores the previous settings.
+     */
+    @AfterEach
+    final void tearDown()
+    {
+        LockOrderMonitor.setEnabled( false );
+        LockOrderMonitor.setViolationHandler( m_PreviousHandler );
+    }   //  tearDown()
+
+    /**
+     *  Tests the detection of a cycle over three locks.
+     */
+    @Test
+    final void testCycle()
+    {
+        skipThreadTest();
+
+        final var a = LockExecutor.of( new ReentrantLock() );
+        final var b = LockExecutor.of( new ReentrantLock() );
+        final var c = LockExecutor.of( new ReentrantLock() );
+
+        a.perform( () -> b.perform( () -> {} ) );
+        b.perform( () -> c.perform( () -> {} ) );
+        assertTrue( m_Violations.isEmpty() );
+
+        c.perform( () -> a.perform( () -> {} ) );
+        assertEquals( 1, m_Violations.size() );
+        assertEquals( 3, m_Violations.getFirst().lockOrder().size() );
+        assertEquals( getClass().getName(), m_Violations.getFirst().acquisitionSite().getFirst().getClassName() );
+        assertEquals( getClass().getName(), m_Violations.getFirst().conflictingSite().getFirst().getClassName() );
+    }   //  testCycle()
+
+    /**
+     *  Tests that a lock that was created while the check was disabled is
+     *  ignored, and that a throwing handler prevents the acquisition.
+     */
+    @Test
+    final void testDisabledAndThrowingHandler()
+    {
+        skipThreadTest();
+
+        final var a = AutoLock.of();
+        LockOrderMonitor.setEnabled( false );
+        final var b = AutoLock.of();
+        LockOrderMonitor.setEnabled( true );
+
+        try( final var _ = a.lock(); final var _ = b.lock() ) { /* Empty */ }
+        try( final var _ = b.lock(); final var _ = a.lock() ) { /* Empty */ }
+        assertTrue( m_Violations.isEmpty() );
+
+        final var c = AutoLock.of();
+        final var sourceLock = new ReentrantLock();
+        final var d = AutoLock.of( sourceLock );
+        try( final var _ = c.lock(); final var _ = d.lock() ) { /* Empty */ }
+        LockOrderMonitor.setViolationHandler( v -> { throw new IllegalStateException( v.toString() ); } );
+        try( final var _ = d.lock() )
+        {
+            assertThrows( IllegalStateException.class, c::lock );
+            assertEquals( 1, sourceLock.getHoldCount() );
+        }
+        assertFalse( sourceLock.isLocked() );
+    }   //  testDisabledAndThrowingHandler()
+
+    /**
+     *  Tests that the instrumented locks and the locks of an
+     *  {@link AutoReadWriteLock}
+     *  take part in the check, too.
+     */
+    @Test
+    final void testInstrumentedAndReadWriteLocks()
+    {
+        skipThreadTest();
+
+        final var a = AutoLock.of( "LockA", new ReentrantLock() );
+        final var b = AutoReadWriteLock.of().writeLock();
+
+        try( final var _ = a.lock(); final var _ = b.lock() ) { /* Empty */ }
+        assertTrue( m_Violations.isEmpty() );
+
+        try( final var _ = b.lock(); final var _ = a.lock() ) { /* Empty */ }
+        assertEquals( 1, m_Violations.size() );
+        final var violation = m_Violations.getFirst();
+        assertEquals( "LockA", violation.requestedLock() );
+        assertEquals( getClass().getName(), violation.acquisitionSite().getFirst().getClassName() );
+    }   //  testInstrumentedAndReadWriteLocks()
+
+    /**
+     *  Tests the detection of two locks that are acquired in opposite
+     *  order.
+     */
+    @Test
+    final void testOppositeOrder()
+    {
+        skipThreadTest();
+
+        final var a = AutoLock.of();
+        final var b = AutoLock.of();
+
+        //---* Reentrant acquisitions are no violation *-----------------------
+        try( final var _ = a.lock(); final var _ = b.lock(); final var _ = a.lock() ) { /* Empty */ }
+        assertTrue( m_Violations.isEmpty() );
+
+        try( final var _ = b.lock(); final var _ = a.lock() ) { /* Empty */ }
+        assertEquals( 1, m_Violations.size() );
+        final var violation = m_Violations.getFirst();
+        assertEquals( Thread.currentThread().getName(), violation.threadName() );
+        assertEquals( violation.lockOrder(), List.of( violation.requestedLock(), violation.heldLock() ) );
+        assertTrue( violation.toString().startsWith( "Potential deadlock" ) );
+        assertTrue( violation.acquisitionSite().getFirst().getLineNumber() > violation.conflictingSite().getFirst().getLineNumber() );
+
+        //---* Reported only once *--------------------------------------------
+        try( final var _ = b.lock(); final var _ = a.lock() ) { /* Empty */ }
+        assertEquals( 1, m_Violations.size() );
+    }   //  testOppositeOrder()
+}
+//  class TestLockOrderMonitor
+
+/*
+ *  End of File
+ */
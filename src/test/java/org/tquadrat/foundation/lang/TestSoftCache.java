@@ -0,0 +1,218 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.lang.SoftCache.ReferenceType;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link SoftCache}
+ *  and its implementation
+ *  {@link org.tquadrat.foundation.lang.internal.SoftCacheImpl}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestSoftCache.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestSoftCache" )
+public class TestSoftCache extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests whether the loader is called exactly once for a key, even when
+     *  many threads are requesting the value concurrently.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testConcurrentLoad() throws Exception
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var startSignal = new CountDownLatch( 1 );
+        final SoftCache<String,Object> cache = SoftCache.of( $ ->
+        {
+            counter.incrementAndGet();
+            return new Object();
+        } );
+
+        final List<Future<Object>> results = new ArrayList<>();
+        try( final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            for( var i = 0; i < 100; ++i )
+            {
+                results.add( executor.submit( () ->
+                {
+                    startSignal.await();
+                    return cache.get( "key" );
+                } ) );
+            }
+            startSignal.countDown();
+
+            final var expected = cache.get( "key" );
+            for( final var result : results ) assertSame( expected, result.get() );
+        }
+        assertEquals( 1, counter.get() );
+        final var statistics = cache.getStatistics();
+        assertEquals( 101, statistics.hitCount() + statistics.missCount() );
+    }   //  testConcurrentLoad()
+
+    /**
+     *  Tests for the methods
+     *  {@link SoftCache#get(Object)},
+     *  {@link SoftCache#getIfPresent(Object)}
+     *  and
+     *  {@link SoftCache#invalidate(Object)}.
+     */
+    @Test
+    final void testGet()
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final SoftCache<Integer,String> cache = SoftCache.of( key ->
+        {
+            counter.incrementAndGet();
+            return Integer.toString( key );
+        } );
+
+        assertTrue( cache.getIfPresent( 1 ).isEmpty() );
+        assertEquals( "1", cache.get( 1 ) );
+        assertEquals( "1", cache.get( 1 ) );
+        assertEquals( "1", cache.getIfPresent( 1 ).orElseThrow() );
+        assertEquals( "2", cache.get( 2 ) );
+        assertEquals( 2, counter.get() );
+        assertEquals( 2, cache.size() );
+
+        var statistics = cache.getStatistics();
+        assertEquals( 1, statistics.hitCount() );
+        assertEquals( 2, statistics.missCount() );
+        assertEquals( 0, statistics.evictionCount() );
+
+        cache.invalidate( 1 );
+        assertTrue( cache.getIfPresent( 1 ).isEmpty() );
+        assertEquals( "1", cache.get( 1 ) );
+        assertEquals( 3, counter.get() );
+
+        cache.invalidateAll();
+        assertEquals( 0, cache.size() );
+
+        assertThrows( NullArgumentException.class, () -> cache.get( null ) );
+        assertThrows( NullArgumentException.class, () -> SoftCache.of( null ) );
+        assertThrows( ValidationException.class, () -> SoftCache.of( Object::toString, ReferenceType.SOFT, 0 ) );
+    }   //  testGet()
+
+    /**
+     *  Tests whether a failing loader is called again for the next request.
+     */
+    @Test
+    final void testLoaderFailure()
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final SoftCache<String,String> cache = SoftCache.of( key ->
+        {
+            if( counter.incrementAndGet() == 1 ) throw new IllegalStateException( key );
+            return key;
+        } );
+
+        assertThrows( IllegalStateException.class, () -> cache.get( "key" ) );
+        assertFalse( cache.getIfPresent( "key" ).isPresent() );
+        assertEquals( "key", cache.get( "key" ) );
+        assertEquals( 2, counter.get() );
+    }   //  testLoaderFailure()
+
+    /**
+     *  Tests the LRU eviction for a bounded cache.
+     */
+    @Test
+    final void testMaximumSize()
+    {
+        skipThreadTest();
+
+        final SoftCache<Integer,String> cache = SoftCache.of( String::valueOf, ReferenceType.WEAK, 2 );
+        final var one = cache.get( 1 );
+        final var two = cache.get( 2 );
+        assertSame( one, cache.get( 1 ) );
+        final var three = cache.get( 3 );
+        assertEquals( 2, cache.size() );
+        assertTrue( cache.getIfPresent( 1 ).isPresent() );
+        assertTrue( cache.getIfPresent( 2 ).isEmpty() );
+        assertTrue( cache.getIfPresent( 3 ).isPresent() );
+        assertEquals( 1, cache.getStatistics().evictionCount() );
+
+        //---* Keep the values reachable *-------------------------------------
+        assertEquals( "1", one );
+        assertEquals( "2", two );
+        assertEquals( "3", three );
+    }   //  testMaximumSize()
+
+    /**
+     *  Tests that the LRU eviction still works when the hits were recorded
+     *  without the lock, even when there are more of them than the buffer
+     *  can hold.
+     */
+    @Test
+    final void testMaximumSizeWithManyHits()
+    {
+        skipThreadTest();
+
+        final SoftCache<Integer,String> cache = SoftCache.of( String::valueOf, ReferenceType.WEAK, 2 );
+        final var one = cache.get( 1 );
+        final var two = cache.get( 2 );
+        for( var i = 0; i < 1_000; ++i ) assertSame( one, cache.get( 1 ) );
+        final var three = cache.get( 3 );
+        assertEquals( 2, cache.size() );
+        assertTrue( cache.getIfPresent( 1 ).isPresent() );
+        assertTrue( cache.getIfPresent( 2 ).isEmpty() );
+        assertEquals( 1_000, cache.getStatistics().hitCount() );
+
+        //---* Keep the values reachable *-------------------------------------
+        assertEquals( "1", one );
+        assertEquals( "2", two );
+        assertEquals( "3", three );
+    }   //  testMaximumSizeWithManyHits()
+}
+//  class TestSoftCache
+
+/*
+ *  End of File
+ */
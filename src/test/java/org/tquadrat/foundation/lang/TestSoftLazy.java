@@ -19,12 +19,21 @@ package org.tquadrat.foundation.lang;
 
 import static java.lang.String.format;
 import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
@@ -49,6 +58,64 @@ public class TestSoftLazy extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Tests whether the initializer is called exactly once, even when many
+     *  threads are calling
+     *  {@link SoftLazy#get()}
+     *  concurrently.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testConcurrentInitialisation() throws Exception
+    {
+        skipThreadTest();
+
+        final var counter = new AtomicInteger();
+        final var startSignal = new CountDownLatch( 1 );
+        final var lazy = SoftLazy.use( () ->
+        {
+            counter.incrementAndGet();
+            return new Object();
+        } );
+
+        final List<Future<Object>> results = new ArrayList<>();
+        try( final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            for( var i = 0; i < 100; ++i )
+            {
+                results.add( executor.submit( () ->
+                {
+                    startSignal.await();
+                    return lazy.get();
+                } ) );
+            }
+            startSignal.countDown();
+
+            final var expected = lazy.get();
+            for( final var result : results ) assertSame( expected, result.get() );
+        }
+        assertEquals( 1, counter.get() );
+    }   //  testConcurrentInitialisation()
+
+    /**
+     *  Tests that an initializer that retrieves the data of its own
+     *  {@link SoftLazy}
+     *  instance fails instead of blocking forever.
+     */
+    @Test
+    final void testRecursiveInitialisation()
+    {
+        skipThreadTest();
+
+        final var isRecursive = new AtomicBoolean( true );
+        final var holder = new AtomicReference<SoftLazy<String>>();
+        holder.set( SoftLazy.use( () -> isRecursive.getAndSet( false ) ? holder.get().get() : "value" ) );
+
+        assertThrows( IllegalStateException.class, () -> holder.get().get() );
+        assertEquals( "value", holder.get().get() );
+    }   //  testRecursiveInitialisation()
+
     /**
      *  Tests for the method
      *  {@link SoftLazy#use(java.util.function.Supplier)}.
@@ -0,0 +1,385 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.lang.helper.Labelled;
+import org.tquadrat.foundation.lang.helper.LabelledStringConverter;
+import org.tquadrat.foundation.lang.helper.Shape;
+import org.tquadrat.foundation.lang.helper.ShapeStringConverter;
+import org.tquadrat.foundation.lang.helper.TimeUnitStringConverter;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the static methods of
+ *  {@link StringConverter}
+ *  and the converter registry in
+ *  {@link org.tquadrat.foundation.lang.internal.StringConverterService}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestStringConverter" )
+public class TestStringConverter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for the method
+     *  {@link StringConverter#createEnumConverter(Class, boolean, Map)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCreateEnumConverter() throws Exception
+    {
+        skipThreadTest();
+
+        var candidate = StringConverter.createEnumConverter( TimeUnit.class, false, Map.of() );
+        assertNotNull( candidate );
+        for( final var value : TimeUnit.values() )
+        {
+            assertEquals( value, candidate.fromString( value.name() ) );
+        }
+        assertThrows( IllegalArgumentException.class, () -> StringConverter.createEnumConverter( TimeUnit.class, false, Map.of() ).fromString( "hours" ) );
+
+        candidate = StringConverter.createEnumConverter( TimeUnit.class, true, Map.of( "h", TimeUnit.HOURS, "min", TimeUnit.MINUTES ) );
+        assertEquals( TimeUnit.HOURS, candidate.fromString( "hours" ) );
+        assertEquals( TimeUnit.HOURS, candidate.fromString( "Hours" ) );
+        assertEquals( TimeUnit.HOURS, candidate.fromString( "H" ) );
+        assertEquals( TimeUnit.MINUTES, candidate.fromString( "1 min", 2, 5 ) );
+        assertEquals( "HOURS", candidate.toString( TimeUnit.HOURS ) );
+
+        var status = candidate.tryFromString( "days" );
+        assertTrue( status.isSuccess() );
+        assertEquals( TimeUnit.DAYS, status.result() );
+
+        status = candidate.tryFromString( "weeks" );
+        assertTrue( status.isFailure() );
+        assertNull( status.result() );
+        assertSame( status, candidate.tryFromString( "months" ) );
+
+        status = candidate.tryFromString( null );
+        assertTrue( status.isSuccess() );
+        assertNull( status.result() );
+
+        assertThrows( IllegalArgumentException.class, () -> StringConverter.createEnumConverter( TimeUnit.class, false, Map.of( "HOURS", TimeUnit.DAYS ) ) );
+        assertThrows( IllegalArgumentException.class, () -> StringConverter.createEnumConverter( TimeUnit.class, true, Map.of( "hours", TimeUnit.HOURS ) ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> StringConverter.createEnumConverter( TimeUnit.class, true, Map.of() ).tryFromString( "HOURS", 2, 9 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> StringConverter.createEnumConverter( TimeUnit.class, true, Map.of() ).fromString( "HOURS", 2, 9 ) );
+        assertNull( candidate.fromString( null, 0, 0 ) );
+
+        //---* The aliases survive the serialisation *-------------------------
+        final var buffer = new ByteArrayOutputStream();
+        try( final var outputStream = new ObjectOutputStream( buffer ) )
+        {
+            outputStream.writeObject( candidate );
+        }
+        try( final var inputStream = new ObjectInputStream( new ByteArrayInputStream( buffer.toByteArray() ) ) )
+        {
+            @SuppressWarnings( "unchecked" )
+            final var copy = (StringConverter<TimeUnit>) inputStream.readObject();
+            assertEquals( TimeUnit.HOURS, copy.fromString( "h" ) );
+            assertEquals( TimeUnit.MINUTES, copy.fromString( "MIN" ) );
+        }
+    }   //  testCreateEnumConverter()
+
+    /**
+     *  Tests that a subclass of
+     *  {@link org.tquadrat.foundation.lang.internal.DefaultEnumStringConverter}
+     *  survives the serialisation.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEnumConverterSubclass() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new TimeUnitStringConverter();
+        assertEquals( TimeUnit.HOURS, candidate.fromString( "h" ) );
+
+        final var buffer = new ByteArrayOutputStream();
+        try( final var outputStream = new ObjectOutputStream( buffer ) )
+        {
+            outputStream.writeObject( candidate );
+        }
+        try( final var inputStream = new ObjectInputStream( new ByteArrayInputStream( buffer.toByteArray() ) ) )
+        {
+            final var copy = assertInstanceOf( TimeUnitStringConverter.class, inputStream.readObject() );
+            assertEquals( TimeUnit.SECONDS, copy.fromString( "SECONDS" ) );
+            assertEquals( TimeUnit.DAYS, copy.fromString( "days" ) );
+            assertEquals( TimeUnit.HOURS, copy.fromString( "H" ) );
+            assertEquals( TimeUnit.MINUTES, copy.fromString( "HOURS,MINUTES", 6, 13 ) );
+            assertFalse( copy.tryFromString( "WEEKS" ).isSuccess() );
+            assertEquals( "h", copy.toString( TimeUnit.HOURS ) );
+        }
+    }   //  testEnumConverterSubclass()
+
+    /**
+     *  Tests for the method
+     *  {@link StringConverter#forClass(Class)}.
+     */
+    @Test
+    final void testForClass()
+    {
+        skipThreadTest();
+
+        assertTrue( StringConverter.forClass( null ).isEmpty() );
+
+        //---* The converters from the test resources *------------------------
+        assertTrue( StringConverter.list().containsAll( List.of( Shape.class, Labelled.class ) ) );
+        final var shapeConverter = StringConverter.forClass( Shape.class ).orElseThrow();
+        assertInstanceOf( ShapeStringConverter.class, shapeConverter );
+        assertSame( shapeConverter, StringConverter.forClass( Shape.class ).orElseThrow() );
+        assertInstanceOf( LabelledStringConverter.class, StringConverter.forClass( Labelled.class ).orElseThrow() );
+        assertEquals( "circle", shapeConverter.fromString( "circle" ).getName() );
+
+        //---* No lookup along the class hierarchy *---------------------------
+        final class Circle extends Shape
+        {
+            Circle() { super( "circle" ); }
+        }
+        assertTrue( StringConverter.forClass( Circle.class ).isEmpty() );
+
+        for( final var subjectClass : StringConverter.list() )
+        {
+            final var first = StringConverter.forClass( subjectClass );
+            assertTrue( first.isPresent() );
+            final var second = StringConverter.forClass( subjectClass );
+            assertTrue( second.isPresent() );
+            assertSame( first.get(), second.get() );
+        }
+    }   //  testForClass()
+
+    /**
+     *  Tests for the method
+     *  {@link StringConverter#forClassHierarchy(Class)}.
+     */
+    @Test
+    final void testForClassHierarchy()
+    {
+        skipThreadTest();
+
+        assertTrue( StringConverter.forClassHierarchy( null ).isEmpty() );
+
+        for( final var subjectClass : StringConverter.list() )
+        {
+            final var expected = StringConverter.forClass( subjectClass );
+            assertTrue( expected.isPresent() );
+            final var actual = StringConverter.forClassHierarchy( subjectClass );
+            assertTrue( actual.isPresent() );
+            assertSame( expected.get(), actual.get() );
+        }
+
+        final var first = StringConverter.forClassHierarchy( TestStringConverter.class );
+        final var second = StringConverter.forClassHierarchy( TestStringConverter.class );
+        assertEquals( first, second );
+
+        //---* The converters from the test resources *------------------------
+        abstract class Circle extends Shape
+        {
+            Circle() { super( "circle" ); }
+        }
+        abstract class Ring extends Circle { /* Empty */ }
+        abstract class Tag implements Labelled { /* Empty */ }
+        interface Named extends Labelled { /* Empty */ }
+        abstract class Name implements Named { /* Empty */ }
+        abstract class Badge extends Shape implements Labelled
+        {
+            Badge() { super( "badge" ); }
+        }
+
+        final var shapeConverter = StringConverter.forClass( Shape.class ).orElseThrow();
+        final var labelledConverter = StringConverter.forClass( Labelled.class ).orElseThrow();
+        assertInstanceOf( ShapeStringConverter.class, shapeConverter );
+        assertInstanceOf( LabelledStringConverter.class, labelledConverter );
+
+        assertSame( shapeConverter, StringConverter.forClassHierarchy( Shape.class ).orElseThrow() );
+        assertSame( shapeConverter, StringConverter.forClassHierarchy( Circle.class ).orElseThrow() );
+        assertSame( shapeConverter, StringConverter.forClassHierarchy( Ring.class ).orElseThrow() );
+        assertSame( labelledConverter, StringConverter.forClassHierarchy( Tag.class ).orElseThrow() );
+        assertSame( labelledConverter, StringConverter.forClassHierarchy( Named.class ).orElseThrow() );
+        assertSame( labelledConverter, StringConverter.forClassHierarchy( Name.class ).orElseThrow() );
+
+        //---* Superclasses are searched before interfaces *-------------------
+        assertSame( shapeConverter, StringConverter.forClassHierarchy( Badge.class ).orElseThrow() );
+
+        //---* The results are memoised *--------------------------------------
+        for( final var type : List.of( Circle.class, Ring.class, Tag.class, Name.class, Badge.class ) )
+        {
+            final var converter = StringConverter.forClassHierarchy( type ).orElseThrow();
+            assertSame( converter, StringConverter.forClassHierarchy( type ).orElseThrow() );
+        }
+    }   //  testForClassHierarchy()
+
+    /**
+     *  Tests for the method
+     *  {@link StringConverter#forEnum(Class)}.
+     */
+    @Test
+    final void testForEnum()
+    {
+        skipThreadTest();
+
+        final var candidate = StringConverter.forEnum( TimeUnit.class );
+        assertNotNull( candidate );
+        assertSame( candidate, StringConverter.forEnum( TimeUnit.class ) );
+
+        for( final var value : TimeUnit.values() )
+        {
+            assertEquals( value, candidate.fromString( candidate.toString( value ) ) );
+        }
+        assertEquals( TimeUnit.HOURS, candidate.fromString( "MINUTES,HOURS,DAYS", 8, 13 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.fromString( "MINUTES,HOURS,DAYS", 8, 12 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.fromString( "" ) );
+        assertFalse( candidate.tryFromString( "hours" ).isSuccess() );
+        assertEquals( TimeUnit.HOURS, candidate.tryFromString( "HOURS" ).result() );
+        assertEquals( "x=DAYS", candidate.appendTo( new StringBuilder( "x=" ), TimeUnit.DAYS ).toString() );
+        assertEquals( "x=", candidate.appendTo( new StringBuilder( "x=" ), null ).toString() );
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        try
+        {
+            StringConverter.forEnum( null );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException )
+            {
+                t.printStackTrace( out );
+            }
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testForEnum()
+
+    /**
+     *  Tests for the methods
+     *  {@link StringConverter#fromStrings(CharSequence[], java.util.function.IntFunction, boolean)},
+     *  {@link StringConverter#fromStrings(List, boolean)}
+     *  and
+     *  {@link StringConverter#fromStrings(Stream, java.util.function.IntFunction)}.
+     */
+    @Test
+    final void testFromStrings()
+    {
+        skipThreadTest();
+
+        final var candidate = GenericStringConverter.INTEGER_CONVERTER;
+        final var expected = IntStream.range( -5_000, 5_000 ).boxed().toArray( Integer []::new );
+        final var sources = Stream.of( expected ).map( String::valueOf ).toArray( CharSequence []::new );
+
+        assertArrayEquals( expected, candidate.fromStrings( sources, Integer []::new ) );
+        assertArrayEquals( expected, candidate.fromStrings( sources, Integer []::new, true ) );
+        assertArrayEquals( expected, candidate.fromStrings( Stream.of( sources ), Integer []::new ) );
+        assertArrayEquals( expected, candidate.fromStrings( Stream.of( sources ).parallel(), Integer []::new ) );
+
+        final var expectedList = List.of( expected );
+        assertEquals( expectedList, candidate.fromStrings( List.of( sources ) ) );
+        assertEquals( expectedList, candidate.fromStrings( List.of( sources ), true ) );
+        assertEquals( expectedList, candidate.fromStrings( new LinkedList<>( List.of( sources ) ) ) );
+        assertEquals( expectedList, candidate.fromStrings( new LinkedList<>( List.of( sources ) ), true ) );
+
+        final var withNull = candidate.fromStrings( new CharSequence [] {"1", null, "3"}, Integer []::new );
+        assertArrayEquals( new Integer [] {1, null, 3}, withNull );
+
+        assertTrue( candidate.fromStrings( List.of() ).isEmpty() );
+        assertThrows( UnsupportedOperationException.class, () -> candidate.fromStrings( List.of( "1" ) ).add( 2 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.fromStrings( new CharSequence [] {"1", "x"}, Integer []::new, true ) );
+        assertThrows( NullArgumentException.class, () -> candidate.fromStrings( (List<CharSequence>) null ) );
+    }   //  testFromStrings()
+
+    /**
+     *  Tests for the methods
+     *  {@link StringConverter#reloadConverters()}
+     *  and
+     *  {@link StringConverter#reloadConverters(ModuleLayer)}.
+     */
+    @Test
+    final void testReloadConverters()
+    {
+        skipThreadTest();
+
+        final var expected = new HashSet<>( StringConverter.list() );
+
+        StringConverter.reloadConverters();
+        var actual = StringConverter.list();
+        assertNotNull( actual );
+        assertEquals( expected, new HashSet<>( actual ) );
+
+        StringConverter.reloadConverters( ModuleLayer.boot() );
+        actual = StringConverter.list();
+        assertNotNull( actual );
+        assertTrue( new HashSet<>( actual ).containsAll( expected ) );
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        try
+        {
+            StringConverter.reloadConverters( null );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException )
+            {
+                t.printStackTrace( out );
+            }
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testReloadConverters()
+}
+//  class TestStringConverter
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,163 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.LambdaContainerException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.function.tce.TCESupplier;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the class
+ *  {@link StructuredTasks}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestStructuredTasks.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestStructuredTasks.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestStructuredTasks" )
+public class TestStructuredTasks extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests
+     *  {@link StructuredTasks#invokeAll(java.util.Collection, int, Duration)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testInvokeAll() throws Exception
+    {
+        skipThreadTest();
+
+        //---* Success, with limited concurrency *-----------------------------
+        final var active = new AtomicInteger();
+        final var peak = new AtomicInteger();
+        final List<Operation<Integer>> operations = IntStream.range( 0, 30 )
+            .mapToObj( i -> (Operation<Integer>) () ->
+            {
+                peak.accumulateAndGet( active.incrementAndGet(), Math::max );
+                try
+                {
+                    TimeUnit.MILLISECONDS.sleep( 5 );
+                }
+                finally
+                {
+                    active.decrementAndGet();
+                }
+                return i;
+            } )
+            .toList();
+        final var results = StructuredTasks.invokeAll( operations, 4, Duration.ofSeconds( 10 ) );
+        assertEquals( IntStream.range( 0, 30 ).boxed().toList(), results );
+        assertTrue( peak.get() <= 4 );
+
+        //---* The first failure cancels the siblings *------------------------
+        final var cancelled = new AtomicInteger();
+        final Operation<Integer> slow = () ->
+        {
+            try
+            {
+                TimeUnit.SECONDS.sleep( 30 );
+            }
+            catch( final InterruptedException e )
+            {
+                cancelled.incrementAndGet();
+                throw e;
+            }
+            return 0;
+        };
+        final Operation<Integer> failing = () -> { throw new IOException( "Expected" ); };
+        final var start = System.nanoTime();
+        final var exception = assertThrows( LambdaContainerException.class, () -> StructuredTasks.invokeAll( List.of( slow, failing, slow ), 0, Duration.ofSeconds( 20 ) ) );
+        assertInstanceOf( IOException.class, exception.getCause() );
+        assertEquals( 2, cancelled.get() );
+        assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( 10 ) );
+
+        //---* Unchecked exceptions are thrown as they are *-------------------
+        final var unchecked = new IllegalStateException( "Expected" );
+        final Operation<Integer> failingUnchecked = () -> { throw unchecked; };
+        assertSame( unchecked, assertThrows( IllegalStateException.class, () -> StructuredTasks.invokeAll( List.of( failingUnchecked ), 0, Duration.ofSeconds( 10 ) ) ) );
+
+        //---* Timeout *-------------------------------------------------------
+        cancelled.set( 0 );
+        assertThrows( TimeoutException.class, () -> StructuredTasks.invokeAll( List.of( slow, () -> 1 ), 0, Duration.ofMillis( 100 ) ) );
+        assertEquals( 1, cancelled.get() );
+
+        //---* Invalid arguments *---------------------------------------------
+        assertThrows( ValidationException.class, () -> StructuredTasks.invokeAll( operations, -1, Duration.ofSeconds( 1 ) ) );
+        assertThrows( ValidationException.class, () -> StructuredTasks.invokeAll( operations, 0, Duration.ZERO ) );
+    }   //  testInvokeAll()
+
+    /**
+     *  Tests
+     *  {@link StructuredTasks#invokeEach(java.util.Collection, int, Duration)}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testInvokeEach() throws Exception
+    {
+        skipThreadTest();
+
+        final var failure = new IOException( "Expected" );
+        final List<TCESupplier<String>> suppliers = List.of(
+            () -> "first",
+            () -> { throw failure; },
+            () -> { TimeUnit.SECONDS.sleep( 30 ); return "slow"; },
+            () -> "last" );
+        final var results = StructuredTasks.invokeEach( StructuredTasks.fromSuppliers( suppliers ), 2, Duration.ofMillis( 200 ) );
+        assertEquals( 4, results.size() );
+
+        assertTrue( results.get( 0 ).isSuccess() );
+        assertEquals( "first", results.get( 0 ).result() );
+
+        assertTrue( results.get( 1 ).isFailure() );
+        assertSame( failure, results.get( 1 ).errorCode() );
+
+        assertTrue( results.get( 2 ).isFailure() );
+        assertInstanceOf( TimeoutException.class, results.get( 2 ).errorCode() );
+
+        assertTrue( results.get( 3 ).isSuccess() );
+        assertEquals( "last", results.get( 3 ).result() );
+    }   //  testInvokeEach()
+}
+//  class TestStructuredTasks
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,120 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link ThreadFactoryBuilder}
+ *  and the thread factories built by it.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestThreadFactoryBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestThreadFactoryBuilder.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestThreadFactoryBuilder" )
+public class TestThreadFactoryBuilder extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that concurrent calls to
+     *  {@link java.util.concurrent.ThreadFactory#newThread(Runnable)}
+     *  get unique names.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testConcurrentNewThread() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var isVirtual : new boolean [] {false, true} )
+        {
+            final var candidate = ThreadFactoryBuilder.obtainBuilder()
+                .setNameFactory( "Worker-%d"::formatted )
+                .setVirtual( isVirtual )
+                .build();
+
+            final Set<String> names = ConcurrentHashMap.newKeySet();
+            final var callers = new Thread [8];
+            final var threadCount = 1_000;
+            for( var i = 0; i < callers.length; ++i )
+            {
+                callers [i] = Thread.ofPlatform().start( () ->
+                {
+                    for( var j = 0; j < threadCount; ++j ) names.add( candidate.newThread( () -> {} ).getName() );
+                } );
+            }
+            for( final var caller : callers ) caller.join();
+
+            assertEquals( callers.length * threadCount, names.size() );
+            assertTrue( names.contains( "Worker-1" ) );
+            assertTrue( names.contains( "Worker-%d".formatted( callers.length * threadCount ) ) );
+        }
+    }   //  testConcurrentNewThread()
+
+    /**
+     *  Tests that the settings are applied to the new threads.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testSettings() throws Exception
+    {
+        skipThreadTest();
+
+        final var classLoader = new ClassLoader() {};
+        final var platformFactory = ThreadFactoryBuilder.obtainBuilder()
+            .setDaemon( true )
+            .setPriority( Thread.MIN_PRIORITY )
+            .setContextClassLoader( classLoader )
+            .build();
+        final var platformThread = platformFactory.newThread( () -> {} );
+        assertEquals( "Thread-1", platformThread.getName() );
+        assertTrue( platformThread.isDaemon() );
+        assertFalse( platformThread.isVirtual() );
+        assertEquals( Thread.MIN_PRIORITY, platformThread.getPriority() );
+        assertEquals( classLoader, platformThread.getContextClassLoader() );
+
+        final var virtualThread = ThreadFactoryBuilder.obtainBuilder()
+            .setVirtual( true )
+            .build()
+            .newThread( () -> {} );
+        assertTrue( virtualThread.isVirtual() );
+        assertEquals( "Thread-1", virtualThread.getName() );
+    }   //  testSettings()
+}
+//  class TestThreadFactoryBuilder
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,189 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Tests for the interface
+ *  {@link ThreadStatistics}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TestThreadStatistics.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.lang.TestThreadStatistics" )
+public class TestThreadStatistics extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the statistics for threads created by a thread factory.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testThreadFactory() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = ThreadStatistics.of( "pool" );
+        final var handled = new AtomicInteger();
+        final var threadFactory = ThreadFactoryBuilder.obtainBuilder()
+            .setStatistics( candidate )
+            .setUncaughtExceptionHandler( (_, _) -> handled.incrementAndGet() )
+            .build();
+
+        final var threadCount = 3;
+        final var started = new CountDownLatch( threadCount );
+        final var release = new CountDownLatch( 1 );
+        final var threads = new ArrayList<Thread>();
+        for( var i = 0; i < threadCount; ++i )
+        {
+            final var thread = threadFactory.newThread( () ->
+            {
+                var data = new long [0];
+                for( var j = 0; j < 1_000; ++j ) data = new long [j];
+                started.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch( final InterruptedException _ )
+                {
+                    Thread.currentThread().interrupt();
+                }
+                if( data.length > 0 ) throw new IllegalStateException( "Expected" );
+            } );
+            threads.add( thread );
+            thread.start();
+        }
+        assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+
+        var snapshot = candidate.sample();
+        assertEquals( "pool", snapshot.name() );
+        assertEquals( threadCount, snapshot.liveCount() );
+        assertEquals( threadCount, snapshot.peakCount() );
+        assertEquals( threadCount, snapshot.totalCreated() );
+        assertEquals( threadCount, snapshot.threads().size() );
+        assertEquals( 0, snapshot.uncaughtExceptionCount() );
+        assertTrue( candidate.getLastSnapshot().isPresent() );
+
+        release.countDown();
+        for( final var thread : threads ) thread.join();
+
+        snapshot = candidate.sample();
+        assertEquals( 0, snapshot.liveCount() );
+        assertEquals( threadCount, snapshot.peakCount() );
+        assertEquals( threadCount, snapshot.uncaughtExceptionCount() );
+        assertEquals( threadCount, handled.get() );
+        assertTrue( snapshot.threads().isEmpty() );
+        if( ManagementFactory.getThreadMXBean().isThreadCpuTimeSupported() ) assertTrue( snapshot.cpuTime().isPositive() );
+    }   //  testThreadFactory()
+
+    /**
+     *  Tests the statistics that are carried by an instance of
+     *  {@link ThreadGroupExt}.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testThreadGroup() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = ThreadStatistics.of( "group" );
+        final var handled = new AtomicInteger();
+        final var threadGroup = new ThreadGroupExt( Thread.currentThread().getThreadGroup(), "group", (_, _) -> handled.incrementAndGet(), candidate );
+        assertTrue( threadGroup.getStatistics().isPresent() );
+        assertFalse( new ThreadGroupExt( "other" ).getStatistics().isPresent() );
+
+        //---* Thread created by a factory for the group *---------------------
+        final var threadFactory = ThreadFactoryBuilder.obtainBuilder()
+            .setThreadGroup( threadGroup )
+            .build();
+        var thread = threadFactory.newThread( () -> { throw new IllegalStateException( "Expected" ); } );
+        thread.start();
+        thread.join();
+        assertEquals( 1, handled.get() );
+        assertEquals( 1, candidate.sample().uncaughtExceptionCount() );
+        assertEquals( 1, candidate.sample().totalCreated() );
+
+        //---* Thread created directly in the group *--------------------------
+        thread = new Thread( threadGroup, () -> { throw new IllegalStateException( "Expected" ); } );
+        thread.start();
+        thread.join();
+        assertEquals( 2, handled.get() );
+        assertEquals( 2, candidate.sample().uncaughtExceptionCount() );
+        assertEquals( 1, candidate.sample().totalCreated() );
+    }   //  testThreadGroup()
+
+    /**
+     *  Tests the periodic sampling.
+     *
+     *  @throws Exception   Something went wrong unexpectedly.
+     */
+    @Test
+    final void testSampling() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = ThreadStatistics.of( "sampled" );
+        assertTrue( candidate.getLastSnapshot().isEmpty() );
+
+        candidate.startSampling( Duration.ofMillis( 20 ) );
+        try
+        {
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+            while( candidate.getLastSnapshot().isEmpty() && (System.nanoTime() < deadline) ) TimeUnit.MILLISECONDS.sleep( 10 );
+            assertTrue( candidate.getLastSnapshot().isPresent() );
+            final var first = candidate.getLastSnapshot().orElseThrow().timestamp();
+            while( candidate.getLastSnapshot().orElseThrow().timestamp().equals( first ) && (System.nanoTime() < deadline) ) TimeUnit.MILLISECONDS.sleep( 10 );
+            assertTrue( candidate.getLastSnapshot().orElseThrow().timestamp().isAfter( first ) );
+        }
+        finally
+        {
+            candidate.stopSampling();
+        }
+
+        TimeUnit.MILLISECONDS.sleep( 100 );
+        final var last = candidate.getLastSnapshot().orElseThrow().timestamp();
+        TimeUnit.MILLISECONDS.sleep( 100 );
+        assertEquals( last, candidate.getLastSnapshot().orElseThrow().timestamp() );
+    }   //  testSampling()
+}
+//  class TestThreadStatistics
+
+/*
+ *  End of File
+ */
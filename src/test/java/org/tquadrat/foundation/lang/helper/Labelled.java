@@ -0,0 +1,48 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.helper;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  An interface with a registered
+ *  {@link org.tquadrat.foundation.lang.StringConverter},
+ *  used to test the lookup along the class hierarchy.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: Labelled.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: Labelled.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+@FunctionalInterface
+public interface Labelled
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the label.
+     *
+     *  @return The label.
+     */
+    public String getLabel();
+}
+//  interface Labelled
+
+/*
+ *  End of File
+ */
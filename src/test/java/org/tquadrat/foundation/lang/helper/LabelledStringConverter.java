@@ -0,0 +1,87 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.helper;
+
+import static org.tquadrat.foundation.lang.Objects.isNull;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.StringConverter;
+
+/**
+ *  The implementation of
+ *  {@link StringConverter}
+ *  for
+ *  {@link Labelled};
+ *  it is registered as a service provider for the tests.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LabelledStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: LabelledStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+public final class LabelledStringConverter implements StringConverter<Labelled>
+{
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The serial version UID for objects of this class: {@value}.
+     *
+     *  @hidden
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code LabelledStringConverter}.
+     */
+    public LabelledStringConverter() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Labelled fromString( final CharSequence source ) { return isNull( source ) ? null : source::toString; }
+
+    /**
+     *  Returns the subject class for this converter.
+     *
+     *  @return The subject class.
+     */
+    public final Collection<Class<?>> getSubjectClass() { return List.of( Labelled.class ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString( final Labelled source ) { return isNull( source ) ? null : source.getLabel(); }
+}
+//  class LabelledStringConverter
+
+/*
+ *  End of File
+ */
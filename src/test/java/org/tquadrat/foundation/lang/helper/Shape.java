@@ -0,0 +1,71 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.helper;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  A class with a registered
+ *  {@link org.tquadrat.foundation.lang.StringConverter},
+ *  used to test the lookup along the class hierarchy.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: Shape.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: Shape.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+public class Shape
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The name of the shape.
+     */
+    private final String m_Name;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code Shape}.
+     *
+     *  @param  name    The name of the shape.
+     */
+    public Shape( final String name ) { m_Name = name; }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the name of the shape.
+     *
+     *  @return The name.
+     */
+    public final String getName() { return m_Name; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return m_Name; }
+}
+//  class Shape
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,75 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.lang.helper;
+
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.lang.internal.DefaultEnumStringConverter;
+
+/**
+ *  A subclass of
+ *  {@link DefaultEnumStringConverter}
+ *  for
+ *  {@link TimeUnit},
+ *  used to test the serialisation of subclasses.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TimeUnitStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $
+ */
+@ClassVersion( sourceVersion = "$Id: TimeUnitStringConverter.java 1260 2026-10-16 17:48:12Z tquadrat $" )
+public final class TimeUnitStringConverter extends DefaultEnumStringConverter<TimeUnit>
+{
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The serial version UID for objects of this class: {@value}.
+     *
+     *  @hidden
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code TimeUnitStringConverter}.
+     */
+    public TimeUnitStringConverter()
+    {
+        super( TimeUnit.class, true, Map.of( "h", TimeUnit.HOURS ) );
+    }   //  TimeUnitStringConverter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString( final TimeUnit source ) { return source == TimeUnit.HOURS ? "h" : super.toString( source ); }
+}
+//  class TimeUnitStringConverter
+
+/*
+ *  End of File
+ */